@@ -0,0 +1,46 @@
+package io.cyborgcode.api.test.framework.api;
+
+import io.cyborgcode.roa.api.core.Endpoint;
+import io.cyborgcode.roa.validator.core.Assertion;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A single request, with optional body and its assertions, submitted as part of a batch.
+ * <p>
+ * Used with {@link AppApiService#requestAllAndValidate(List)} to describe independent calls
+ * that can run concurrently:
+ * <pre>{@code
+ * quest.use(RING_OF_API)
+ *       .requestAllAndValidate(List.of(
+ *             ApiRequest.of(GET_ALL_USERS.withQueryParam(PAGE_PARAM, PAGE_TWO),
+ *                   Assertion.builder().target(STATUS).type(IS).expected(SC_OK).build()),
+ *             ApiRequest.of(GET_USER.withPathParam(ID_PARAM, ID_THREE),
+ *                   Assertion.builder().target(STATUS).type(IS).expected(SC_OK).build())));
+ * }</pre>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ApiRequest {
+
+   private final Endpoint<?> endpoint;
+   private final Object body;
+   private final Assertion[] assertions;
+
+   public static ApiRequest of(Endpoint<?> endpoint, Assertion... assertions) {
+      return new ApiRequest(endpoint, null, assertions);
+   }
+
+   public static ApiRequest of(Endpoint<?> endpoint, Object body, Assertion... assertions) {
+      return new ApiRequest(endpoint, body, assertions);
+   }
+
+   public boolean hasBody() {
+      return body != null;
+   }
+
+}
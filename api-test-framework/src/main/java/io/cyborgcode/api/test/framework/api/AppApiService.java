@@ -0,0 +1,300 @@
+package io.cyborgcode.api.test.framework.api;
+
+import io.cyborgcode.api.test.framework.api.cache.ResponseCache;
+import io.cyborgcode.api.test.framework.api.concurrent.ApiExecutor;
+import io.cyborgcode.api.test.framework.api.concurrent.SingleFlight;
+import io.cyborgcode.api.test.framework.api.response.CompactResponse;
+import io.cyborgcode.api.test.framework.api.response.ParsedResponse;
+import io.cyborgcode.api.test.framework.api.response.ResponseRetention;
+import io.cyborgcode.api.test.framework.api.retry.Backoff;
+import io.cyborgcode.api.test.framework.api.retry.Retry;
+import io.cyborgcode.api.test.framework.api.retry.RetrySignal;
+import io.cyborgcode.api.test.framework.config.Performance;
+import io.cyborgcode.api.test.framework.data.storage.QuestStorage;
+import io.cyborgcode.roa.api.core.Endpoint;
+import io.cyborgcode.roa.api.service.RestService;
+import io.cyborgcode.roa.api.service.fluent.RestServiceFluent;
+import io.cyborgcode.roa.api.storage.StorageKeysApi;
+import io.cyborgcode.roa.framework.quest.SuperQuest;
+import io.cyborgcode.roa.framework.retry.RetryCondition;
+import io.cyborgcode.roa.framework.retry.RetryConditionImpl;
+import io.cyborgcode.roa.validator.core.Assertion;
+import io.restassured.response.Response;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.TOTAL_PAGES;
+import static io.cyborgcode.api.test.framework.data.constants.QueryParams.PAGE_PARAM;
+import static org.apache.http.HttpStatus.SC_MULTIPLE_CHOICES;
+import static org.apache.http.HttpStatus.SC_OK;
+
+/**
+ * Application-specific API service facade for the Reqres example suite.
+ * <p>
+ * This class extends {@link RestServiceFluent} and acts as the "API ring" of the suite: it is
+ * what {@code quest.use(Rings.RING_OF_API)} resolves to. All standard fluent operations
+ * (request, validate, retryUntil, ...) are inherited unchanged; this facade adds the behavior
+ * that the suite needs on top of them:
+ * </p>
+ * <ul>
+ *   <li>{@code requestAndValidate} delegates the exchange to the inherited implementation,
+ *       then stores a {@link ParsedResponse} in its place, so the response body is parsed once
+ *       and shared by every BODY assertion and by later storage reads. With
+ *       {@code api.storage.compact.enabled=true} it stores a {@link CompactResponse} instead,
+ *       which is released when the test completes; assertions still see the full response,
+ *       since they are evaluated before it is compacted. Either way the retained bytes are
+ *       reported through {@link ResponseRetention}.</li>
+ *   <li>{@link #requestAllAndValidate(List)} sends independent requests concurrently on the
+ *       bounded {@link ApiExecutor}, then stores and validates them in submission order.</li>
+ *   <li>{@link #requestAllPages(Endpoint, Consumer)} crawls every page of a paginated list
+ *       endpoint, fetching all pages after the first one concurrently.</li>
+ *   <li>{@link #cachedGet(Endpoint, Map)} reads idempotent reference data through the
+ *       suite-wide {@link ResponseCache}.</li>
+ *   <li>{@code retryUntil} additionally accepts a {@link Backoff} instead of a fixed
+ *       interval, or a {@link RetrySignal} that re-checks the condition only when signalled.</li>
+ * </ul>
+ * The fluent chain is preserved: overridden methods return this facade, so suite-specific
+ * operations remain reachable at any point of a chain.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public class AppApiService extends RestServiceFluent {
+
+   private final RestService restService;
+
+   public AppApiService(RestService restService, SuperQuest quest) {
+      super(restService);
+      this.restService = restService;
+      this.quest = quest;
+   }
+
+   /**
+    * Delegates the exchange to {@link RestServiceFluent#requestAndValidate(Endpoint, Assertion...)},
+    * so the framework's own request handling, storage and reporting stay in place, then
+    * validates {@code assertions} against the parse-once view of the stored response.
+    */
+   @Override
+   public AppApiService requestAndValidate(final Endpoint<?> endpoint, final Assertion... assertions) {
+      super.requestAndValidate(endpoint);
+      return store(endpoint, stored(endpoint), assertions);
+   }
+
+   /**
+    * Body variant of {@link #requestAndValidate(Endpoint, Assertion...)}.
+    */
+   @Override
+   public AppApiService requestAndValidate(final Endpoint<?> endpoint, final Object body,
+                                           final Assertion... assertions) {
+      super.requestAndValidate(endpoint, body);
+      return store(endpoint, stored(endpoint), assertions);
+   }
+
+   /**
+    * Sends independent requests concurrently and validates each of them.
+    * <p>
+    * Only the HTTP exchanges ({@link RestService#request}) run in parallel, on
+    * {@link ApiExecutor} workers. Those workers carry none of the test thread's context: no
+    * {@code QuestHolder} quest and no other test-scoped thread-locals, so nothing that needs
+    * the quest may run there. Once all exchanges have finished, the responses are stored under
+    * {@link StorageKeysApi#API} and validated on the calling thread in the order of
+    * {@code requests}, so storage contents and assertion reporting are deterministic. If any
+    * request fails, every successful response is still stored, then the first failure in
+    * submission order is rethrown and no assertion is evaluated.
+    * </p>
+    *
+    * @param requests the requests to send
+    * @return this service for fluent chaining
+    */
+   public AppApiService requestAllAndValidate(final List<ApiRequest> requests) {
+      List<CompletableFuture<Response>> inFlight = new ArrayList<>(requests.size());
+      for (ApiRequest request : requests) {
+         inFlight.add(CompletableFuture.supplyAsync(() -> send(request), ApiExecutor.shared()));
+      }
+      CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new))
+            .exceptionally(ignored -> null)
+            .join();
+
+      List<Response> responses = new ArrayList<>(requests.size());
+      RuntimeException failure = null;
+      for (int i = 0; i < requests.size(); i++) {
+         try {
+            Response response = ParsedResponse.of(SingleFlight.join(inFlight.get(i)));
+            put(requests.get(i).getEndpoint(), response);
+            responses.add(response);
+         } catch (RuntimeException e) {
+            responses.add(null);
+            failure = failure == null ? e : failure;
+         }
+      }
+      if (failure != null) {
+         throw failure;
+      }
+      for (int i = 0; i < requests.size(); i++) {
+         validateResponse(responses.get(i), requests.get(i).getAssertions());
+      }
+      return this;
+   }
+
+   /**
+    * Varargs shortcut for {@link #requestAllAndValidate(List)}.
+    *
+    * @param requests the requests to send
+    * @return this service for fluent chaining
+    */
+   public AppApiService requestAllAndValidate(final ApiRequest... requests) {
+      return requestAllAndValidate(List.of(requests));
+   }
+
+   /**
+    * Fetches every page of a paginated list endpoint and hands each page to {@code onPage}.
+    * <p>
+    * Page 1 is requested first to read {@code total_pages}; the remaining pages are then
+    * requested concurrently on the bounded {@link ApiExecutor}. Pages are passed to
+    * {@code onPage} on the calling thread in page order, each as soon as it and all pages
+    * before it have arrived, so consumers can stream over the full data set while later pages
+    * are still in flight. Page responses are not stored; collect what the assertions need in
+    * the callback, e.g. with {@code JsonArrayStream.users(page)}.
+    * </p>
+    *
+    * @param endpoint the list endpoint, without the {@code page} query parameter
+    * @param onPage   receives each page response, in page order
+    * @return this service for fluent chaining
+    * @throws IllegalStateException if a page does not answer with a 2xx status, or page 1 has
+    *                               no {@code total_pages}
+    */
+   public AppApiService requestAllPages(final Endpoint<?> endpoint, final Consumer<Response> onPage) {
+      Response first = page(endpoint, 1);
+      Integer totalPages = TOTAL_PAGES.extract(first);
+      if (totalPages == null) {
+         throw new IllegalStateException("Page 1 of " + endpoint.enumImpl() + " has no total_pages");
+      }
+      onPage.accept(first);
+
+      List<CompletableFuture<Response>> pages = new ArrayList<>(Math.max(totalPages - 1, 0));
+      for (int page = 2; page <= totalPages; page++) {
+         int number = page;
+         pages.add(CompletableFuture.supplyAsync(() -> page(endpoint, number), ApiExecutor.shared()));
+      }
+      try {
+         for (CompletableFuture<Response> page : pages) {
+            onPage.accept(SingleFlight.join(page));
+         }
+      } finally {
+         pages.forEach(page -> page.cancel(false));
+      }
+      return this;
+   }
+
+   /**
+    * Returns a GET response through the suite-wide {@link ResponseCache}.
+    * <p>
+    * Intended for reference data that is identical for every test, e.g. lookups performed by
+    * crafted models: the request is sent at most once per TTL for the whole suite. The response
+    * is neither stored in the quest nor validated, so it does not interfere with the test's
+    * own steps.
+    * </p>
+    *
+    * @param endpoint    the GET endpoint
+    * @param queryParams the query parameters to apply; part of the cache key
+    * @return the shared response
+    */
+   public Response cachedGet(final Endpoint<?> endpoint, final Map<String, ?> queryParams) {
+      return ResponseCache.shared().getOrFetch(endpoint, queryParams,
+            parameterized -> ParsedResponse.of(restService.request(parameterized)));
+   }
+
+   /**
+    * Waits for a condition, probing with exponential backoff and jitter instead of the fixed
+    * interval of {@code retryUntil(condition, maxWait, retryInterval)}.
+    * <p>
+    * The wait runs through the inherited {@code retryUntil}, so it is reported, logged and
+    * timed out exactly like a fixed-interval one; only the pauses between probes differ.
+    * </p>
+    *
+    * @param condition the condition to probe; its function receives the underlying
+    *                  {@link RestService}
+    * @param maxWait   the overall time limit
+    * @param backoff   the waits between probes
+    * @param <T>       the probed value type
+    * @return this service for fluent chaining
+    */
+   public <T> AppApiService retryUntil(final RetryCondition<T> condition, final Duration maxWait,
+                                       final Backoff backoff) {
+      Supplier<T> probe = Retry.paced(() -> condition.function().apply(restService), maxWait, backoff);
+      retryUntil(new RetryConditionImpl<>(service -> probe.get(), condition.condition()), maxWait, Duration.ZERO);
+      return this;
+   }
+
+   /**
+    * Waits for a condition without sleeping: it is probed once, then again every time the
+    * signal fires, e.g. from the completion callback of the asynchronous work being awaited or
+    * from {@link QuestStorage#signal(SuperQuest)}.
+    * <p>
+    * The wait runs through the inherited {@code retryUntil}, so it is reported, logged and
+    * timed out exactly like a fixed-interval one.
+    * </p>
+    *
+    * @param condition the condition to probe; its function receives the underlying
+    *                  {@link RestService}
+    * @param maxWait   the overall time limit
+    * @param signal    fired whenever the condition may have become true
+    * @param <T>       the probed value type
+    * @return this service for fluent chaining
+    */
+   public <T> AppApiService retryUntil(final RetryCondition<T> condition, final Duration maxWait,
+                                       final RetrySignal signal) {
+      Supplier<T> probe = Retry.signalled(() -> condition.function().apply(restService), maxWait, signal);
+      retryUntil(new RetryConditionImpl<>(service -> probe.get(), condition.condition()), maxWait, Duration.ZERO);
+      return this;
+   }
+
+   private Response page(final Endpoint<?> endpoint, final int page) {
+      Response response = ParsedResponse.of(restService.request(endpoint.withQueryParam(PAGE_PARAM, page)));
+      if (response.getStatusCode() < SC_OK || response.getStatusCode() >= SC_MULTIPLE_CHOICES) {
+         throw new IllegalStateException("Page " + page + " of " + endpoint.enumImpl()
+               + " answered " + response.getStatusLine());
+      }
+      return response;
+   }
+
+   private Response send(final ApiRequest request) {
+      return request.hasBody()
+            ? restService.request(request.getEndpoint(), request.getBody())
+            : restService.request(request.getEndpoint());
+   }
+
+   private Response stored(final Endpoint<?> endpoint) {
+      return QuestStorage.tryGet(quest, StorageKeysApi.API, endpoint.enumImpl(), Response.class)
+            .orElseThrow(() -> new IllegalStateException(
+                  "No response stored for " + endpoint.enumImpl() + " after requestAndValidate"));
+   }
+
+   /**
+    * Validates the full response, then stores its parse-once or compact view; the view is
+    * stored even when an assertion fails, as the inherited implementation does.
+    */
+   private AppApiService store(final Endpoint<?> endpoint, final Response response, final Assertion... assertions) {
+      Response parsed = ParsedResponse.of(response);
+      try {
+         validateResponse(parsed, assertions);
+      } finally {
+         put(endpoint, parsed);
+      }
+      return this;
+   }
+
+   private void put(final Endpoint<?> endpoint, final Response response) {
+      Response stored = Performance.config().compactStorageEnabled()
+            ? CompactResponse.of(response, Set.copyOf(List.of(Performance.config().compactStorageHeaders())))
+            : ParsedResponse.of(response);
+      QuestStorage.put(quest, StorageKeysApi.API, endpoint.enumImpl(), stored);
+      ResponseRetention.retain(stored);
+   }
+
+}
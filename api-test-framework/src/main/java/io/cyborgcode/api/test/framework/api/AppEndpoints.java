@@ -1,8 +1,22 @@
 package io.cyborgcode.api.test.framework.api;
 
+import io.cyborgcode.api.test.framework.api.cache.HttpCache;
+import io.cyborgcode.api.test.framework.api.cache.HttpCacheFilter;
+import io.cyborgcode.api.test.framework.api.http.HttpTransport;
+import io.cyborgcode.api.test.framework.api.http.JdkHttpTransport;
+import io.cyborgcode.api.test.framework.api.http.PooledHttpClient;
+import io.cyborgcode.api.test.framework.api.logging.AsyncLoggingFilter;
+import io.cyborgcode.api.test.framework.api.metrics.EndpointMetrics;
+import io.cyborgcode.api.test.framework.api.metrics.EndpointMetricsFilter;
+import io.cyborgcode.api.test.framework.config.Performance;
+import io.cyborgcode.api.test.framework.stub.ReqresStubServer;
 import io.cyborgcode.roa.api.core.Endpoint;
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.http.ContentType;
 import io.restassured.http.Method;
+import io.restassured.specification.FilterableRequestSpecification;
 import io.restassured.specification.RequestSpecification;
 
 import static io.cyborgcode.api.test.framework.data.constants.Headers.API_KEY_HEADER;
@@ -16,24 +30,50 @@ import static io.cyborgcode.api.test.framework.data.constants.Headers.API_KEY_VA
  * fluent API. A shared default configuration (JSON content type, common headers, base URL)
  * is applied to all endpoints via {@link #defaultConfiguration()}.
  * </p>
+ * <p>
+ * The default configuration is merged once per constant into a base specification that is
+ * never handed out itself; every request gets a fresh overlay on top of it, so per-request
+ * path and query parameters never leak between requests. All endpoints share the
+ * keep-alive connection pool of {@link PooledHttpClient}, or with
+ * {@code api.http.transport=HTTP_2} the multiplexing client of {@link JdkHttpTransport}. When the in-process
+ * {@link ReqresStubServer} is enabled, it is started before the first base specification is
+ * built. Unless {@code api.metrics.enabled=false}, every request is timed and counted per
+ * constant in {@link EndpointMetrics}; with {@code api.async.logging.enabled=true}, exchanges
+ * are logged off the test thread by {@link AsyncLoggingFilter}.
+ * </p>
+ * <p>
+ * Constants declared HTTP-cacheable answer repeated identical {@code GET}s from the
+ * {@link HttpCache}, following the server's {@code Cache-Control} and {@code ETag} headers.
+ * The metrics filter runs first, so cache hits are counted in {@link EndpointMetrics} like
+ * any other request, with the latency the test actually saw. The cache is off unless
+ * {@code api.http.cache.enabled=true} (as in {@code config-local}); wrap a single call in
+ * {@link HttpCache#bypass(Endpoint)} to skip it.
+ * </p>
  * This centralizes endpoint metadata to keep tests consistent, discoverable, and easy to maintain.
  *
  * @author Cyborg Code Syndicate 💍👨💻
  */
 public enum AppEndpoints implements Endpoint<AppEndpoints> {
 
-   GET_ALL_USERS(Method.GET, "/users"),
-   GET_USER(Method.GET, "/users/{id}"),
+   GET_ALL_USERS(Method.GET, "/users", true),
+   GET_USER(Method.GET, "/users/{id}", true),
    POST_CREATE_USER(Method.POST, "/users"),
    POST_LOGIN_USER(Method.POST, "/login"),
    DELETE_USER(Method.DELETE, "/users/{id}");
 
    private final Method method;
    private final String url;
+   private final boolean httpCacheable;
+   private volatile RequestSpecification baseSpec;
 
    AppEndpoints(final Method method, final String url) {
+      this(method, url, false);
+   }
+
+   AppEndpoints(final Method method, final String url, final boolean httpCacheable) {
       this.method = method;
       this.url = url;
+      this.httpCacheable = httpCacheable;
    }
 
    @Override
@@ -46,6 +86,10 @@ public enum AppEndpoints implements Endpoint<AppEndpoints> {
       return url;
    }
 
+   public boolean httpCacheable() {
+      return httpCacheable;
+   }
+
    @Override
    public AppEndpoints enumImpl() {
       return this;
@@ -53,10 +97,47 @@ public enum AppEndpoints implements Endpoint<AppEndpoints> {
 
    @Override
    public RequestSpecification defaultConfiguration() {
-      RequestSpecification spec = Endpoint.super.defaultConfiguration();
-      spec.contentType(ContentType.JSON);
-      spec.header(API_KEY_HEADER, API_KEY_VALUE);
+      return RestAssured.given().spec(baseSpec());
+   }
+
+   private RequestSpecification baseSpec() {
+      RequestSpecification spec = baseSpec;
+      if (spec == null) {
+         synchronized (this) {
+            spec = baseSpec;
+            if (spec == null) {
+               ReqresStubServer.ensureStarted();
+               RequestSpecification defaults = Endpoint.super.defaultConfiguration();
+               RequestSpecBuilder builder = new RequestSpecBuilder()
+                     .addRequestSpecification(defaults)
+                     .setContentType(ContentType.JSON)
+                     .addHeader(API_KEY_HEADER, API_KEY_VALUE)
+                     .setConfig(PooledHttpClient.config(configOf(defaults)));
+               if (Performance.config().apiMetricsEnabled()) {
+                  builder.addFilter(new EndpointMetricsFilter(this));
+               }
+               if (httpCacheable && Performance.config().httpCacheEnabled()) {
+                  builder.addFilter(new HttpCacheFilter());
+               }
+               if (Performance.config().asyncLoggingEnabled()) {
+                  builder.addFilter(new AsyncLoggingFilter());
+               }
+               if (Performance.config().httpTransport() == HttpTransport.HTTP_2) {
+                  builder.addFilter(JdkHttpTransport.shared());
+               }
+               spec = builder.build();
+               baseSpec = spec;
+            }
+         }
+      }
       return spec;
    }
 
+   private static RestAssuredConfig configOf(final RequestSpecification defaults) {
+      if (defaults instanceof FilterableRequestSpecification filterable && filterable.getConfig() != null) {
+         return filterable.getConfig();
+      }
+      return RestAssured.config();
+   }
+
 }
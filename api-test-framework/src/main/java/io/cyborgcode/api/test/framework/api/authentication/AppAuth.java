@@ -22,6 +22,8 @@ import static io.cyborgcode.api.test.framework.data.constants.Headers.AUTHORIZAT
  *   <li>Reuse authenticated headers across requests via the underlying caching mechanism.</li>
  *   <li>Integrate with {@code @AuthenticateViaApi(type = AppAuth.class)} for declarative
  *       authentication without repeating login flows in each test.</li>
+ *   <li>Share one login per credentials across all concurrently running tests through
+ *       {@link TokenCache}.</li>
  * </ul>
  * Intended as a reusable template for plugging in any real application authentication strategy.
  *
@@ -31,11 +33,12 @@ public class AppAuth extends BaseAuthenticationClient {
 
    @Override
    protected Header authenticateImpl(final RestService restService, final String username, final String password) {
-      String token = restService
-            .request(POST_LOGIN_USER, new LoginDto(username, password))
-            .getBody()
-            .jsonPath()
-            .getString(TOKEN.getJsonPath());
+      return TokenCache.shared().getOrLogin(getClass(), username, password,
+            () -> login(restService, username, password));
+   }
+
+   private static Header login(final RestService restService, final String username, final String password) {
+      String token = TOKEN.extract(restService.request(POST_LOGIN_USER, new LoginDto(username, password)));
       return new Header(AUTHORIZATION_HEADER_KEY, AUTHORIZATION_HEADER_VALUE + token);
    }
 
@@ -0,0 +1,109 @@
+package io.cyborgcode.api.test.framework.api.authentication;
+
+import io.cyborgcode.api.test.framework.api.concurrent.SingleFlight;
+import io.cyborgcode.api.test.framework.config.Performance;
+import io.restassured.http.Header;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * JVM-wide cache of authorization headers shared by all tests.
+ * <p>
+ * With JUnit running in concurrent mode, many tests authenticate with the same credentials at
+ * the same time. Instead of every thread sending its own login request, this cache:
+ * </p>
+ * <ul>
+ *   <li>keeps one header per credentials identity for a configurable time-to-live,</li>
+ *   <li>refreshes a header shortly before it expires, while other threads keep using the
+ *       still-valid one,</li>
+ *   <li>collapses concurrent misses for the same key into a single in-flight login whose
+ *       result (or failure) is shared by all waiting threads.</li>
+ * </ul>
+ * Timings come from {@link Performance#config()}; setting {@code auth.token.cache.enabled=false}
+ * bypasses the cache and logs in on every call.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class TokenCache {
+
+   private static final TokenCache INSTANCE = new TokenCache();
+
+   private final ConcurrentMap<Key, CachedHeader> headers = new ConcurrentHashMap<>();
+   private final SingleFlight<Key, Header> logins = new SingleFlight<>();
+
+   private TokenCache() {
+   }
+
+   public static TokenCache shared() {
+      return INSTANCE;
+   }
+
+   /**
+    * Returns the cached header for the given credentials, logging in only when needed.
+    *
+    * @param client   the authentication client type requesting the header
+    * @param username the resolved username of the credentials
+    * @param password the resolved password of the credentials
+    * @param login    performs the actual login; invoked at most once per key at any time
+    * @return a valid authorization header
+    */
+   public Header getOrLogin(final Class<?> client, final String username, final String password,
+                            final Supplier<Header> login) {
+      if (!Performance.config().tokenCacheEnabled()) {
+         return login.get();
+      }
+
+      Key key = new Key(client, username, password);
+      long now = System.nanoTime();
+      CachedHeader cached = headers.get(key);
+
+      if (cached == null || cached.isExpired(now)) {
+         return loadOnce(key, login);
+      }
+      if (cached.needsRefresh(now)) {
+         return logins.isLoading(key) ? cached.header() : loadOnce(key, login);
+      }
+      return cached.header();
+   }
+
+   /**
+    * Drops every cached header, e.g. after credentials were rotated.
+    */
+   public void invalidateAll() {
+      headers.clear();
+   }
+
+   private Header loadOnce(final Key key, final Supplier<Header> login) {
+      return logins.load(key, () -> {
+         Header header = login.get();
+         headers.put(key, new CachedHeader(header, System.nanoTime()));
+         return header;
+      });
+   }
+
+   private record Key(Class<?> client, String username, String password) {
+   }
+
+   private record CachedHeader(Header header, long createdAtNanos) {
+
+      boolean isExpired(final long now) {
+         return now - createdAtNanos >= ttl().toNanos();
+      }
+
+      boolean needsRefresh(final long now) {
+         return now - createdAtNanos >= ttl().minus(refreshAhead()).toNanos();
+      }
+
+      private static Duration ttl() {
+         return Duration.ofSeconds(Performance.config().tokenTtlSeconds());
+      }
+
+      private static Duration refreshAhead() {
+         return Duration.ofSeconds(Performance.config().tokenRefreshAheadSeconds());
+      }
+
+   }
+
+}
@@ -0,0 +1,198 @@
+package io.cyborgcode.api.test.framework.api.cache;
+
+import io.cyborgcode.api.test.framework.config.Performance;
+import io.cyborgcode.roa.api.core.Endpoint;
+import io.cyborgcode.roa.api.log.LogApi;
+import io.restassured.response.Response;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JVM-wide store of the {@link HttpCacheFilter}: HTTP responses keyed by method, full URL and
+ * the request headers named in the response's {@code Vary} header.
+ * <p>
+ * Unlike {@link ResponseCache}, which shares responses for a fixed TTL, this store follows the
+ * server's caching headers:
+ * </p>
+ * <ul>
+ *   <li>{@code Cache-Control: max-age} (minus {@code Age}) decides how long an entry is fresh,</li>
+ *   <li>{@code no-store}, {@code private} and {@code Vary: *} responses are never stored,</li>
+ *   <li>stale entries, and {@code no-cache} ones, are revalidated with {@code If-None-Match} /
+ *       {@code If-Modified-Since} when the response carried an {@code ETag} or
+ *       {@code Last-Modified} validator.</li>
+ * </ul>
+ * Hits, revalidations, misses and bypasses are counted; {@link #stats()} reports them and the
+ * hit ratio is logged at shutdown. Tests asserting on freshness send their request through
+ * {@link #bypass(Endpoint)}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class HttpCache {
+
+   /**
+    * Marker request header turning the cache off for one call; removed before sending.
+    */
+   public static final String BYPASS_HEADER = "X-Http-Cache-Bypass";
+
+   private static final HttpCache INSTANCE = new HttpCache();
+
+   private final ConcurrentMap<String, List<Entry>> entries = new ConcurrentHashMap<>();
+   private final LongAdder hits = new LongAdder();
+   private final LongAdder revalidated = new LongAdder();
+   private final LongAdder misses = new LongAdder();
+   private final LongAdder bypassed = new LongAdder();
+
+   private HttpCache() {
+      Runtime.getRuntime().addShutdownHook(new Thread(this::report, "http-cache-report"));
+   }
+
+   public static HttpCache shared() {
+      return INSTANCE;
+   }
+
+   /**
+    * Marks a single call to skip the HTTP cache: it is neither served from nor stored into it.
+    *
+    * @param endpoint the endpoint to send
+    * @return the endpoint carrying the {@link #BYPASS_HEADER}
+    */
+   public static Endpoint<?> bypass(final Endpoint<?> endpoint) {
+      return endpoint.withHeader(BYPASS_HEADER, "true");
+   }
+
+   /**
+    * Drops every stored response.
+    */
+   public void invalidateAll() {
+      entries.clear();
+   }
+
+   public Stats stats() {
+      return new Stats(hits.sum(), revalidated.sum(), misses.sum(), bypassed.sum());
+   }
+
+   Entry lookup(final String key, final Map<String, String> requestHeaders) {
+      List<Entry> variants = entries.get(key);
+      if (variants == null) {
+         return null;
+      }
+      for (Entry entry : variants) {
+         if (entry.matches(requestHeaders)) {
+            return entry;
+         }
+      }
+      return null;
+   }
+
+   void store(final String key, final Entry entry) {
+      if (!entries.containsKey(key) && entries.size() >= Performance.config().httpCacheMaxEntries()) {
+         entries.keySet().stream().findAny().ifPresent(entries::remove);
+      }
+      entries.compute(key, (ignored, variants) -> {
+         List<Entry> updated = new ArrayList<>();
+         if (variants != null) {
+            variants.stream().filter(variant -> !variant.vary().equals(entry.vary())).forEach(updated::add);
+         }
+         updated.add(entry);
+         return List.copyOf(updated);
+      });
+   }
+
+   void hit() {
+      hits.increment();
+   }
+
+   void revalidated() {
+      revalidated.increment();
+   }
+
+   void miss() {
+      misses.increment();
+   }
+
+   void bypassed() {
+      bypassed.increment();
+   }
+
+   private void report() {
+      Stats stats = stats();
+      if (stats.lookups() > 0) {
+         LogApi.info(stats.toString());
+      }
+   }
+
+   /**
+    * A stored response together with the request header values it varies on.
+    *
+    * @param vary          lower-case request header names from {@code Vary}, mapped to their
+    *                      values at store time
+    * @param response      the response, body already buffered
+    * @param body          the response body
+    * @param etag          the {@code ETag} validator, or {@code null}
+    * @param lastModified  the {@code Last-Modified} validator, or {@code null}
+    * @param storedAtNanos when the response was received or last revalidated
+    * @param maxAgeNanos   freshness lifetime; {@code 0} means revalidate on every use
+    */
+   record Entry(Map<String, String> vary, Response response, byte[] body, String etag, String lastModified,
+                long storedAtNanos, long maxAgeNanos) {
+
+      boolean isFresh(final long now) {
+         return now - storedAtNanos < maxAgeNanos;
+      }
+
+      boolean canRevalidate() {
+         return etag != null || lastModified != null;
+      }
+
+      Entry refreshed(final long now, final long maxAgeNanos) {
+         return new Entry(vary, response, body, etag, lastModified, now, maxAgeNanos);
+      }
+
+      private boolean matches(final Map<String, String> requestHeaders) {
+         for (Map.Entry<String, String> header : vary.entrySet()) {
+            String value = requestHeaders.get(header.getKey());
+            if (value == null ? !header.getValue().isEmpty() : !value.equals(header.getValue())) {
+               return false;
+            }
+         }
+         return true;
+      }
+
+   }
+
+   /**
+    * Cache counters since JVM start.
+    *
+    * @param hits        responses served fresh without a request
+    * @param revalidated stale entries confirmed by a {@code 304 Not Modified}
+    * @param misses      requests answered with a full response
+    * @param bypassed    calls that skipped the cache
+    */
+   public record Stats(long hits, long revalidated, long misses, long bypassed) {
+
+      public long lookups() {
+         return hits + revalidated + misses;
+      }
+
+      /**
+       * Share of lookups answered from stored bodies, fresh or revalidated.
+       */
+      public double hitRatio() {
+         return lookups() == 0 ? 0 : (double) (hits + revalidated) / lookups();
+      }
+
+      @Override
+      public String toString() {
+         return String.format(Locale.ROOT,
+               "HTTP cache: %.1f%% hit ratio (%d hits, %d revalidated, %d misses, %d bypassed)",
+               hitRatio() * 100, hits, revalidated, misses, bypassed);
+      }
+
+   }
+
+}
@@ -0,0 +1,190 @@
+package io.cyborgcode.api.test.framework.api.cache;
+
+import io.cyborgcode.api.test.framework.api.AppEndpoints;
+import io.restassured.authentication.NoAuthScheme;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * REST Assured filter serving {@code GET} requests from the {@link HttpCache}.
+ * <p>
+ * Added to the base specification of every {@link AppEndpoints} constant declared as
+ * HTTP-cacheable. For each request:
+ * </p>
+ * <ul>
+ *   <li>a fresh matching entry is returned without touching the network,</li>
+ *   <li>a stale entry with a validator turns the request into a conditional one; a
+ *       {@code 304 Not Modified} answer is replaced by the stored response and refreshes it,</li>
+ *   <li>any other {@code 200} response is stored if its caching headers allow it.</li>
+ * </ul>
+ * Requests carrying {@link HttpCache#BYPASS_HEADER}, {@code Cache-Control: no-store} or their
+ * own conditional headers pass through untouched; {@code Cache-Control: no-cache} forces a
+ * revalidation. The cache is shared by all tests, so requests carrying credentials
+ * ({@code Authorization}, cookies or a REST Assured authentication scheme) pass through as
+ * well, and {@code Cache-Control: private} responses are never stored: one user's response is
+ * never served to another. Every returned response is a copy, so callers never share response
+ * state.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class HttpCacheFilter implements Filter {
+
+   private static final String GET = "GET";
+   private static final String CACHE_CONTROL = "Cache-Control";
+   private static final String IF_NONE_MATCH = "If-None-Match";
+   private static final String IF_MODIFIED_SINCE = "If-Modified-Since";
+   private static final String AUTHORIZATION = "Authorization";
+   private static final String COOKIE = "Cookie";
+   private static final String NO_STORE = "no-store";
+   private static final String NO_CACHE = "no-cache";
+   private static final String PRIVATE = "private";
+   private static final String MAX_AGE = "max-age=";
+   private static final int OK = 200;
+   private static final int NOT_MODIFIED = 304;
+
+   private final HttpCache cache = HttpCache.shared();
+
+   @Override
+   public Response filter(final FilterableRequestSpecification requestSpec,
+                          final FilterableResponseSpecification responseSpec, final FilterContext ctx) {
+      if (requestSpec.getHeaders().hasHeaderWithName(HttpCache.BYPASS_HEADER)) {
+         requestSpec.removeHeader(HttpCache.BYPASS_HEADER);
+         cache.bypassed();
+         return ctx.next(requestSpec, responseSpec);
+      }
+      String requestCacheControl = directives(requestSpec.getHeaders().getValue(CACHE_CONTROL));
+      if (!GET.equals(requestSpec.getMethod())
+            || requestCacheControl.contains(NO_STORE)
+            || requestSpec.getHeaders().hasHeaderWithName(IF_NONE_MATCH)
+            || requestSpec.getHeaders().hasHeaderWithName(IF_MODIFIED_SINCE)
+            || hasCredentials(requestSpec)) {
+         cache.bypassed();
+         return ctx.next(requestSpec, responseSpec);
+      }
+
+      String key = requestSpec.getMethod() + " " + requestSpec.getURI();
+      Map<String, String> requestHeaders = headers(requestSpec);
+      HttpCache.Entry entry = cache.lookup(key, requestHeaders);
+      if (entry != null && !requestCacheControl.contains(NO_CACHE) && entry.isFresh(System.nanoTime())) {
+         cache.hit();
+         return copy(entry);
+      }
+      boolean conditional = entry != null && entry.canRevalidate();
+      if (conditional) {
+         if (entry.etag() != null) {
+            requestSpec.header(IF_NONE_MATCH, entry.etag());
+         }
+         if (entry.lastModified() != null) {
+            requestSpec.header(IF_MODIFIED_SINCE, entry.lastModified());
+         }
+      }
+
+      Response response = ctx.next(requestSpec, responseSpec);
+      if (conditional && response.getStatusCode() == NOT_MODIFIED) {
+         cache.revalidated();
+         String cacheControl = response.getHeader(CACHE_CONTROL);
+         long maxAgeNanos = cacheControl == null ? entry.maxAgeNanos() : maxAgeNanos(response);
+         cache.store(key, entry.refreshed(System.nanoTime(), maxAgeNanos));
+         return copy(entry);
+      }
+      cache.miss();
+      if (isStorable(response)) {
+         cache.store(key, entry(response, requestHeaders));
+      }
+      return response;
+   }
+
+   private static boolean hasCredentials(final FilterableRequestSpecification requestSpec) {
+      return requestSpec.getHeaders().hasHeaderWithName(AUTHORIZATION)
+            || requestSpec.getHeaders().hasHeaderWithName(COOKIE)
+            || requestSpec.getCookies().exist()
+            || !(requestSpec.getAuthenticationScheme() instanceof NoAuthScheme);
+   }
+
+   private static boolean isStorable(final Response response) {
+      if (response.getStatusCode() != OK) {
+         return false;
+      }
+      String cacheControl = directives(response.getHeader(CACHE_CONTROL));
+      String vary = response.getHeader("Vary");
+      boolean hasLifetime = cacheControl.contains(MAX_AGE);
+      boolean hasValidator = response.getHeader("ETag") != null || response.getHeader("Last-Modified") != null;
+      return !cacheControl.contains(NO_STORE)
+            && !cacheControl.contains(PRIVATE)
+            && (vary == null || !vary.contains("*"))
+            && (hasLifetime || hasValidator);
+   }
+
+   private static HttpCache.Entry entry(final Response response, final Map<String, String> requestHeaders) {
+      Map<String, String> vary = new TreeMap<>();
+      String varyHeader = response.getHeader("Vary");
+      if (varyHeader != null) {
+         for (String name : varyHeader.split(",")) {
+            String header = name.trim().toLowerCase(Locale.ROOT);
+            if (!header.isEmpty()) {
+               vary.put(header, requestHeaders.getOrDefault(header, ""));
+            }
+         }
+      }
+      return new HttpCache.Entry(vary, response, response.asByteArray(), response.getHeader("ETag"),
+            response.getHeader("Last-Modified"), System.nanoTime(), maxAgeNanos(response));
+   }
+
+   /**
+    * Freshness lifetime from {@code Cache-Control: max-age}, reduced by {@code Age};
+    * {@code 0} when absent or when the response demands revalidation.
+    */
+   private static long maxAgeNanos(final Response response) {
+      long maxAge = 0;
+      for (String directive : directives(response.getHeader(CACHE_CONTROL)).split(",")) {
+         String trimmed = directive.trim();
+         if (trimmed.equals(NO_CACHE)) {
+            return 0;
+         }
+         if (trimmed.startsWith(MAX_AGE)) {
+            maxAge = parseSeconds(trimmed.substring(MAX_AGE.length()));
+         }
+      }
+      String age = response.getHeader("Age");
+      if (age != null) {
+         maxAge -= parseSeconds(age);
+      }
+      return TimeUnit.SECONDS.toNanos(Math.max(maxAge, 0));
+   }
+
+   private static long parseSeconds(final String value) {
+      try {
+         return Long.parseLong(value.trim().replace("\"", ""));
+      } catch (NumberFormatException e) {
+         return 0;
+      }
+   }
+
+   private static String directives(final String cacheControl) {
+      return cacheControl == null ? "" : cacheControl.toLowerCase(Locale.ROOT);
+   }
+
+   private static Map<String, String> headers(final FilterableRequestSpecification requestSpec) {
+      Map<String, String> headers = new HashMap<>();
+      for (Header header : requestSpec.getHeaders()) {
+         headers.merge(header.getName().toLowerCase(Locale.ROOT), header.getValue(),
+               (first, second) -> first + "," + second);
+      }
+      return headers;
+   }
+
+   private static Response copy(final HttpCache.Entry entry) {
+      return new ResponseBuilder().clone(entry.response()).setBody(entry.body()).build();
+   }
+
+}
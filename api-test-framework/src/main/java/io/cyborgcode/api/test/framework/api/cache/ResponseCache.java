@@ -0,0 +1,152 @@
+package io.cyborgcode.api.test.framework.api.cache;
+
+import io.cyborgcode.api.test.framework.api.concurrent.SingleFlight;
+import io.cyborgcode.api.test.framework.config.Performance;
+import io.cyborgcode.roa.api.core.Endpoint;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.RequestSpecification;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.apache.http.HttpStatus.SC_MULTIPLE_CHOICES;
+import static org.apache.http.HttpStatus.SC_OK;
+
+/**
+ * Suite-wide read-through cache for idempotent GET responses.
+ * <p>
+ * Reference data such as the users list is the same for every test, yet crafted models used
+ * to fetch it once per quest. This cache shares those responses across all tests of the JVM:
+ * </p>
+ * <ul>
+ *   <li>entries are keyed by the fully parameterized request: method, base URI and URL
+ *       template, path and query parameters, and headers, so variants of one endpoint
+ *       constant (e.g. two user IDs, or two callers' {@code Authorization} headers) never
+ *       share an entry,</li>
+ *   <li>only successful (2xx) responses are kept; errors are returned to the caller that
+ *       fetched them and fetched again by the next one,</li>
+ *   <li>entries expire after {@code api.get.cache.ttl.seconds},</li>
+ *   <li>concurrent misses for the same key collapse into a single in-flight request,</li>
+ *   <li>{@link #invalidate(Endpoint)} and {@link #invalidateAll()} drop entries explicitly,
+ *       e.g. after a test changed the underlying data.</li>
+ * </ul>
+ * Only {@code GET} endpoints are accepted. Setting {@code api.get.cache.enabled=false} bypasses
+ * the cache and fetches on every call.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class ResponseCache {
+
+   private static final ResponseCache INSTANCE = new ResponseCache();
+
+   private final ConcurrentMap<Key, CachedResponse> responses = new ConcurrentHashMap<>();
+   private final SingleFlight<Key, Response> loads = new SingleFlight<>();
+
+   private ResponseCache() {
+   }
+
+   public static ResponseCache shared() {
+      return INSTANCE;
+   }
+
+   /**
+    * Returns the cached response for the endpoint and query parameters, fetching it on a miss.
+    *
+    * @param endpoint    the GET endpoint
+    * @param queryParams the query parameters to apply; part of the cache key
+    * @param fetch       sends the fully parameterized endpoint; invoked at most once per key at any time
+    * @return the cached or freshly fetched response
+    * @throws IllegalArgumentException if the endpoint is not a GET endpoint
+    */
+   public Response getOrFetch(final Endpoint<?> endpoint, final Map<String, ?> queryParams,
+                              final Function<Endpoint<?>, Response> fetch) {
+      if (endpoint.method() != Method.GET) {
+         throw new IllegalArgumentException("Only GET endpoints can be cached, got " + endpoint.method()
+               + " " + endpoint.url());
+      }
+      Endpoint<?> parameterized = withQueryParams(endpoint, queryParams);
+      if (!Performance.config().responseCacheEnabled()) {
+         return fetch.apply(parameterized);
+      }
+
+      Key key = Key.of(parameterized);
+      CachedResponse cached = responses.get(key);
+      if (cached != null && !cached.isExpired(System.nanoTime())) {
+         return cached.response();
+      }
+      return loadOnce(key, () -> fetch.apply(parameterized));
+   }
+
+   /**
+    * Drops every cached response of the given endpoint, regardless of its parameters.
+    *
+    * @param endpoint the endpoint whose responses to drop
+    */
+   public void invalidate(final Endpoint<?> endpoint) {
+      Enum<?> constant = endpoint.enumImpl();
+      responses.keySet().removeIf(key -> key.endpoint() == constant);
+   }
+
+   /**
+    * Drops every cached response.
+    */
+   public void invalidateAll() {
+      responses.clear();
+   }
+
+   private Response loadOnce(final Key key, final Supplier<Response> fetch) {
+      return loads.load(key, () -> {
+         Response response = fetch.get();
+         if (response.getStatusCode() >= SC_OK && response.getStatusCode() < SC_MULTIPLE_CHOICES) {
+            responses.put(key, new CachedResponse(response, System.nanoTime()));
+         }
+         return response;
+      });
+   }
+
+   private static Endpoint<?> withQueryParams(final Endpoint<?> endpoint, final Map<String, ?> queryParams) {
+      Endpoint<?> parameterized = endpoint;
+      for (Map.Entry<String, ?> param : queryParams.entrySet()) {
+         parameterized = parameterized.withQueryParam(param.getKey(), param.getValue());
+      }
+      return parameterized;
+   }
+
+   private record Key(Enum<?> endpoint, Method method, String url, Map<String, ?> pathParams,
+                      Map<String, ?> queryParams, Map<String, List<String>> headers) {
+
+      static Key of(final Endpoint<?> endpoint) {
+         RequestSpecification spec = endpoint.prepareRequestSpec(null);
+         if (!(spec instanceof FilterableRequestSpecification request)) {
+            throw new IllegalArgumentException("Cannot read the request of " + endpoint.enumImpl()
+                  + " to build a cache key");
+         }
+         Map<String, Object> queryParams = new TreeMap<>(request.getRequestParams());
+         queryParams.putAll(request.getQueryParams());
+         Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+         request.getHeaders().forEach(header ->
+               headers.computeIfAbsent(header.getName(), name -> new ArrayList<>()).add(header.getValue()));
+         return new Key(endpoint.enumImpl(), endpoint.method(),
+               request.getBaseUri() + request.getBasePath() + endpoint.url(),
+               new TreeMap<>(request.getNamedPathParams()), queryParams, headers);
+      }
+
+   }
+
+   private record CachedResponse(Response response, long createdAtNanos) {
+
+      boolean isExpired(final long now) {
+         return now - createdAtNanos >= Duration.ofSeconds(Performance.config().responseCacheTtlSeconds()).toNanos();
+      }
+
+   }
+
+}
@@ -0,0 +1,125 @@
+package io.cyborgcode.api.test.framework.api.concurrent;
+
+import io.cyborgcode.api.test.framework.config.Performance;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shared, bounded executor for API calls issued concurrently from within a quest.
+ * <p>
+ * At most {@code api.batch.parallelism} tasks run at once for the lifetime of the JVM, so the
+ * number of simultaneous connections to the backend stays bounded no matter how many tests fan
+ * out at the same time. On runtimes with virtual threads every task gets its own virtual thread
+ * (see {@link VirtualThreads}) and the bound is enforced by permits rather than by a pool;
+ * otherwise a fixed pool of daemon platform threads, which never keep the test JVM alive, runs
+ * the tasks.
+ * <p>
+ * Workers are shared by all tests and carry no test context: the {@code QuestHolder} quest
+ * and other test-scoped thread-locals of the submitting thread are not visible to them. Submit
+ * only context-free work, such as a bare HTTP exchange, and store, validate and report its
+ * result back on the test thread.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class ApiExecutor {
+
+   private static final ExecutorService SHARED = bounded("api-batch-", Performance.config().batchParallelism());
+
+   private ApiExecutor() {
+   }
+
+   public static ExecutorService shared() {
+      return SHARED;
+   }
+
+   /**
+    * Creates an executor without a concurrency bound: a thread-per-task executor of virtual
+    * threads where available, a cached pool of daemon platform threads otherwise.
+    *
+    * @param prefix the thread name prefix
+    * @return a new executor, to be shut down by the caller
+    */
+   public static ExecutorService unbounded(final String prefix) {
+      return VirtualThreads.perTaskExecutor(prefix)
+            .orElseGet(() -> Executors.newCachedThreadPool(daemonThreads(prefix)));
+   }
+
+   public static ThreadFactory threads(final String prefix) {
+      return VirtualThreads.factory(prefix).orElseGet(() -> daemonThreads(prefix));
+   }
+
+   static ExecutorService bounded(final String prefix, final int parallelism) {
+      return VirtualThreads.perTaskExecutor(prefix)
+            .<ExecutorService>map(perTask -> new PermitExecutor(perTask, parallelism))
+            .orElseGet(() -> Executors.newFixedThreadPool(parallelism, daemonThreads(prefix)));
+   }
+
+   static ThreadFactory daemonThreads(final String prefix) {
+      AtomicInteger counter = new AtomicInteger();
+      return runnable -> {
+         Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+         thread.setDaemon(true);
+         return thread;
+      };
+   }
+
+   /**
+    * Runs every task on its own thread of the delegate, letting at most {@code parallelism} of
+    * them past the permit gate at a time.
+    */
+   private static final class PermitExecutor extends AbstractExecutorService {
+
+      private final ExecutorService delegate;
+      private final Semaphore permits;
+
+      private PermitExecutor(final ExecutorService delegate, final int parallelism) {
+         this.delegate = delegate;
+         this.permits = new Semaphore(parallelism);
+      }
+
+      @Override
+      public void execute(final Runnable task) {
+         delegate.execute(() -> {
+            permits.acquireUninterruptibly();
+            try {
+               task.run();
+            } finally {
+               permits.release();
+            }
+         });
+      }
+
+      @Override
+      public void shutdown() {
+         delegate.shutdown();
+      }
+
+      @Override
+      public List<Runnable> shutdownNow() {
+         return delegate.shutdownNow();
+      }
+
+      @Override
+      public boolean isShutdown() {
+         return delegate.isShutdown();
+      }
+
+      @Override
+      public boolean isTerminated() {
+         return delegate.isTerminated();
+      }
+
+      @Override
+      public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+         return delegate.awaitTermination(timeout, unit);
+      }
+
+   }
+
+}
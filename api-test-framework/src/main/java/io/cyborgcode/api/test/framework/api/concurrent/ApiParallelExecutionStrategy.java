@@ -0,0 +1,85 @@
+package io.cyborgcode.api.test.framework.api.concurrent;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfigurationStrategy;
+
+/**
+ * JUnit parallel execution strategy tuned for I/O-bound API tests.
+ * <p>
+ * JUnit's {@code dynamic} strategy sizes the worker pool by CPU count, which suits CPU-bound
+ * tests. API tests spend almost all of their time blocked on HTTP, so this strategy sizes
+ * the pool by a configurable cap on concurrently running tests instead:
+ * </p>
+ * <pre>
+ * junit.jupiter.execution.parallel.config.strategy = custom
+ * junit.jupiter.execution.parallel.config.custom.class = io.cyborgcode.api.test.framework.api.concurrent.ApiParallelExecutionStrategy
+ * junit.jupiter.execution.parallel.config.custom.max-concurrent-tests = 64
+ * </pre>
+ * The pool is saturated at the cap rather than grown further, so the cap is a hard upper bound.
+ * Every test still runs start-to-finish on a single worker thread, which keeps the thread-local
+ * quest handling of {@code QuestHolder} intact. Fan-out work started from inside a test should
+ * go through {@link ApiExecutor}, which uses virtual threads when the runtime provides them.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public class ApiParallelExecutionStrategy implements ParallelExecutionConfigurationStrategy {
+
+   public static final String MAX_CONCURRENT_TESTS =
+         "junit.jupiter.execution.parallel.config.custom.max-concurrent-tests";
+
+   private static final int DEFAULT_MAX_CONCURRENT_TESTS = 64;
+   private static final int KEEP_ALIVE_SECONDS = 30;
+
+   @Override
+   public ParallelExecutionConfiguration createConfiguration(final ConfigurationParameters configurationParameters) {
+      int maxConcurrentTests = configurationParameters
+            .get(MAX_CONCURRENT_TESTS, value -> Integer.parseInt(value.trim()))
+            .filter(value -> value > 0)
+            .orElse(DEFAULT_MAX_CONCURRENT_TESTS);
+      return new IoBoundConfiguration(maxConcurrentTests);
+   }
+
+   private static final class IoBoundConfiguration implements ParallelExecutionConfiguration {
+
+      private final int maxConcurrentTests;
+
+      private IoBoundConfiguration(final int maxConcurrentTests) {
+         this.maxConcurrentTests = maxConcurrentTests;
+      }
+
+      @Override
+      public int getParallelism() {
+         return maxConcurrentTests;
+      }
+
+      @Override
+      public int getMinimumRunnable() {
+         return 0;
+      }
+
+      @Override
+      public int getMaxPoolSize() {
+         return maxConcurrentTests;
+      }
+
+      @Override
+      public int getCorePoolSize() {
+         return maxConcurrentTests;
+      }
+
+      @Override
+      public int getKeepAliveSeconds() {
+         return KEEP_ALIVE_SECONDS;
+      }
+
+      @Override
+      public Predicate<? super ForkJoinPool> getSaturatePredicate() {
+         return pool -> true;
+      }
+
+   }
+
+}
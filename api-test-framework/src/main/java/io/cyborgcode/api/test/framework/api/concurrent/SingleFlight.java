@@ -0,0 +1,75 @@
+package io.cyborgcode.api.test.framework.api.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent loads of the same key into a single in-flight call.
+ * <p>
+ * The first caller for a key runs the loader on its own thread; callers arriving while it runs
+ * wait for and share its result, or its failure. Once the load has finished the key is free
+ * again, so the next caller loads anew; keeping results is up to the owning cache.
+ * </p>
+ *
+ * @param <K> the key type
+ * @param <V> the loaded value type
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class SingleFlight<K, V> {
+
+   private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+   /**
+    * Runs the loader for the key, unless a load of the same key is already running, in which
+    * case its outcome is awaited instead.
+    *
+    * @param key    the key being loaded
+    * @param loader loads the value; invoked at most once per key at any time
+    * @return the loaded value
+    */
+   public V load(final K key, final Supplier<V> loader) {
+      CompletableFuture<V> mine = new CompletableFuture<>();
+      CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+      if (existing != null) {
+         return join(existing);
+      }
+
+      try {
+         V value = loader.get();
+         mine.complete(value);
+         return value;
+      } catch (RuntimeException e) {
+         mine.completeExceptionally(e);
+         throw e;
+      } finally {
+         inFlight.remove(key, mine);
+      }
+   }
+
+   public boolean isLoading(final K key) {
+      return inFlight.containsKey(key);
+   }
+
+   /**
+    * Waits for a future and rethrows a runtime failure as thrown by the work itself rather than
+    * wrapped in a {@link CompletionException}.
+    *
+    * @param future the future to wait for
+    * @param <T>    the result type
+    * @return the result
+    */
+   public static <T> T join(final CompletableFuture<T> future) {
+      try {
+         return future.join();
+      } catch (CompletionException e) {
+         if (e.getCause() instanceof RuntimeException cause) {
+            throw cause;
+         }
+         throw e;
+      }
+   }
+
+}
@@ -0,0 +1,61 @@
+package io.cyborgcode.api.test.framework.api.concurrent;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Access to virtual threads without requiring a JDK 21 compile target.
+ * <p>
+ * The suite is compiled for Java 17, where {@code Thread.ofVirtual()} and
+ * {@code Executors.newThreadPerTaskExecutor} do not exist. When the tests run on a JDK that
+ * supports virtual threads, {@link #factory(String)} and {@link #perTaskExecutor(String)}
+ * resolve them reflectively; on older runtimes they are empty and callers fall back to
+ * platform threads.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class VirtualThreads {
+
+   private VirtualThreads() {
+   }
+
+   /**
+    * Creates a factory for named virtual threads, if the runtime supports them.
+    *
+    * @param prefix the thread name prefix; a running counter is appended
+    * @return the virtual thread factory, or empty on runtimes without virtual threads
+    */
+   public static Optional<ThreadFactory> factory(final String prefix) {
+      try {
+         Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+         Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+         builder = builderType.getMethod("name", String.class, long.class).invoke(builder, prefix, 1L);
+         Method factory = builderType.getMethod("factory");
+         return Optional.of((ThreadFactory) factory.invoke(builder));
+      } catch (ReflectiveOperationException | LinkageError e) {
+         return Optional.empty();
+      }
+   }
+
+   /**
+    * Creates an executor that starts a new named virtual thread for every task, if the runtime
+    * supports virtual threads. Virtual threads are cheap to create and must not be pooled.
+    *
+    * @param prefix the thread name prefix; a running counter is appended
+    * @return the thread-per-task executor, or empty on runtimes without virtual threads
+    */
+   public static Optional<ExecutorService> perTaskExecutor(final String prefix) {
+      return factory(prefix).flatMap(threads -> {
+         try {
+            Method perTask = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return Optional.of((ExecutorService) perTask.invoke(null, threads));
+         } catch (ReflectiveOperationException | LinkageError e) {
+            return Optional.empty();
+         }
+      });
+   }
+
+}
@@ -1,5 +1,10 @@
 package io.cyborgcode.api.test.framework.api.extractors;
 
+import io.cyborgcode.api.test.framework.api.response.ParsedResponse;
+import io.restassured.response.Response;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Central registry of JSON path expressions used across the tutorial tests.
  * <p>
@@ -11,6 +16,14 @@ package io.cyborgcode.api.test.framework.api.extractors;
  *   <li>easy to update in one place if the API contract changes.</li>
  * </ul>
  * Supports indexed paths via {@link #getJsonPath(Object...)} for list-based responses.
+ * <p>
+ * {@link #getJsonPath(Object...)} only formats the expression, so it accepts any GPath the
+ * assertions understand; single-index variants such as {@code USER_ID.getJsonPath(0)} are
+ * formatted once and kept in a small, bounded per-constant cache. For the simple dotted/indexed
+ * subset, every constant is also compiled once into a {@link CompiledJsonPath}; indexed variants
+ * such as {@code USER_ID.compiled(0)} are compiled on first use and cached the same way. Use
+ * {@link #compiled(Object...)} or {@link #extract(Response, Object...)} to evaluate the
+ * compiled form directly against a response.
  *
  * @author Cyborg Code Syndicate 💍👨💻
  */
@@ -44,10 +57,16 @@ public enum ApiResponsesJsonPaths {
    TOKEN("token"),
    ERROR("error");
 
+   private static final int MAX_INDEXED_VARIANTS = 128;
+
    private final String jsonPath;
+   private final CompiledJsonPath compiledPath;
+   private final Map<Integer, String> indexedPaths = new ConcurrentHashMap<>();
+   private final Map<Integer, CompiledJsonPath> indexedVariants = new ConcurrentHashMap<>();
 
    ApiResponsesJsonPaths(String jsonPath) {
       this.jsonPath = jsonPath;
+      this.compiledPath = jsonPath.contains("%") ? null : CompiledJsonPath.compile(jsonPath);
    }
 
    /**
@@ -58,10 +77,67 @@ public enum ApiResponsesJsonPaths {
     * @return The formatted JSON path.
     */
    public String getJsonPath(Object... args) {
-      if (args != null && args.length > 0) {
-         return String.format(jsonPath, args);
+      if (args == null || args.length == 0) {
+         return jsonPath;
       }
-      return jsonPath;
+      if (args.length == 1 && args[0] instanceof Integer index) {
+         String cached = indexedPaths.get(index);
+         if (cached != null) {
+            return cached;
+         }
+         String variant = String.format(jsonPath, index);
+         if (indexedPaths.size() < MAX_INDEXED_VARIANTS) {
+            indexedPaths.putIfAbsent(index, variant);
+         }
+         return variant;
+      }
+      return String.format(jsonPath, args);
+   }
+
+   /**
+    * Returns the compiled JSON path.
+    * Single integer arguments (the common list index case) are served from a bounded cache.
+    *
+    * @param args Optional arguments for formatting the JSON path.
+    * @return The compiled JSON path.
+    * @throws IllegalArgumentException if the path contains placeholders and no arguments are given.
+    */
+   public CompiledJsonPath compiled(Object... args) {
+      if (args == null || args.length == 0) {
+         if (compiledPath == null) {
+            throw new IllegalArgumentException("JSON path '" + jsonPath + "' of " + name() + " requires arguments");
+         }
+         return compiledPath;
+      }
+      if (args.length == 1 && args[0] instanceof Integer index) {
+         CompiledJsonPath cached = indexedVariants.get(index);
+         if (cached != null) {
+            return cached;
+         }
+         CompiledJsonPath variant = CompiledJsonPath.compile(getJsonPath(index));
+         if (indexedVariants.size() < MAX_INDEXED_VARIANTS) {
+            indexedVariants.putIfAbsent(index, variant);
+         }
+         return variant;
+      }
+      return CompiledJsonPath.compile(String.format(jsonPath, args));
+   }
+
+   /**
+    * Evaluates the compiled JSON path against the body of the given response.
+    * <p>
+    * The body is read by {@link ParsedResponse#document(Response)}: with Jackson into plain maps
+    * and lists, avoiding a full Groovy {@code JsonPath} parse, and memoized for a parse-once
+    * view. Decimals are always {@code BigDecimal}, whichever way the response was stored.
+    * </p>
+    *
+    * @param response The response whose body is read.
+    * @param args     Optional arguments for formatting the JSON path.
+    * @param <T>      The expected result type.
+    * @return The value at the path, or {@code null} if it does not exist.
+    */
+   public <T> T extract(Response response, Object... args) {
+      return compiled(args).read(ParsedResponse.document(response));
    }
 
 }
@@ -0,0 +1,134 @@
+package io.cyborgcode.api.test.framework.api.extractors;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pre-tokenized form of a simple JSON path such as {@code data[0].first_name}.
+ * <p>
+ * The expression is split once into property and index segments, so evaluating it against an
+ * already parsed document (nested {@link Map}/{@link List} structures, as returned by
+ * {@code response.jsonPath().get()}) costs neither string formatting nor path parsing.
+ * Evaluation follows the GPath semantics used by the ROA body assertions for the supported
+ * subset:
+ * <ul>
+ *   <li>{@code a.b} navigates object properties,</li>
+ *   <li>{@code a[0]} / {@code a[-1]} index into arrays (negative indexes count from the end),</li>
+ *   <li>a property applied to an array collects that property from every element.</li>
+ * </ul>
+ * Missing properties or out-of-range indexes evaluate to {@code null}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class CompiledJsonPath {
+
+   private final String expression;
+   private final List<Segment> segments;
+
+   private CompiledJsonPath(final String expression, final List<Segment> segments) {
+      this.expression = expression;
+      this.segments = segments;
+   }
+
+   /**
+    * Tokenizes the given expression.
+    *
+    * @param expression a dotted JSON path, optionally with {@code [n]} index selectors
+    * @return the compiled path
+    * @throws IllegalArgumentException if the expression is empty or malformed
+    */
+   public static CompiledJsonPath compile(final String expression) {
+      if (expression == null || expression.isBlank()) {
+         throw new IllegalArgumentException("JSON path expression must not be empty");
+      }
+      List<Segment> segments = new ArrayList<>();
+      for (String part : expression.split("\\.")) {
+         int bracket = part.indexOf('[');
+         String name = bracket < 0 ? part : part.substring(0, bracket);
+         if (!name.isEmpty()) {
+            segments.add(Segment.property(name));
+         }
+         while (bracket >= 0) {
+            int close = part.indexOf(']', bracket);
+            if (close < 0) {
+               throw new IllegalArgumentException("Unclosed index selector in JSON path: " + expression);
+            }
+            segments.add(Segment.index(parseIndex(part.substring(bracket + 1, close), expression)));
+            bracket = part.indexOf('[', close);
+         }
+      }
+      return new CompiledJsonPath(expression, Collections.unmodifiableList(segments));
+   }
+
+   public String expression() {
+      return expression;
+   }
+
+   /**
+    * Evaluates this path against a parsed JSON document.
+    *
+    * @param document the root of the parsed document
+    * @param <T>      the expected result type
+    * @return the value at this path, or {@code null} if it does not exist
+    */
+   @SuppressWarnings("unchecked")
+   public <T> T read(final Object document) {
+      Object current = document;
+      for (Segment segment : segments) {
+         if (current == null) {
+            return null;
+         }
+         current = segment.apply(current);
+      }
+      return (T) current;
+   }
+
+   @Override
+   public String toString() {
+      return expression;
+   }
+
+   private static int parseIndex(final String index, final String expression) {
+      try {
+         return Integer.parseInt(index.trim());
+      } catch (NumberFormatException e) {
+         throw new IllegalArgumentException("Unsupported index selector '" + index + "' in JSON path: " + expression, e);
+      }
+   }
+
+   private record Segment(String property, int index) {
+
+      static Segment property(final String name) {
+         return new Segment(name, 0);
+      }
+
+      static Segment index(final int index) {
+         return new Segment(null, index);
+      }
+
+      Object apply(final Object node) {
+         if (property == null) {
+            if (!(node instanceof List<?> list)) {
+               return null;
+            }
+            int position = index < 0 ? list.size() + index : index;
+            return position >= 0 && position < list.size() ? list.get(position) : null;
+         }
+         if (node instanceof Map<?, ?> map) {
+            return map.get(property);
+         }
+         if (node instanceof List<?> list) {
+            List<Object> collected = new ArrayList<>(list.size());
+            for (Object element : list) {
+               collected.add(element instanceof Map<?, ?> map ? map.get(property) : null);
+            }
+            return collected;
+         }
+         return null;
+      }
+
+   }
+
+}
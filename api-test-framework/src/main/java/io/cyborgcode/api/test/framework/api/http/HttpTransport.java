@@ -0,0 +1,22 @@
+package io.cyborgcode.api.test.framework.api.http;
+
+/**
+ * Transport carrying the requests of the API ring, selected through {@code api.http.transport}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public enum HttpTransport {
+
+   /**
+    * REST Assured's Apache client over the keep-alive pool of {@link PooledHttpClient}; one
+    * request per connection at a time.
+    */
+   HTTP_1_1,
+
+   /**
+    * The JDK {@link java.net.http.HttpClient} of {@link JdkHttpTransport}; concurrent requests
+    * to an HTTP/2 capable server are multiplexed over shared connections.
+    */
+   HTTP_2
+
+}
@@ -0,0 +1,166 @@
+package io.cyborgcode.api.test.framework.api.http;
+
+import io.cyborgcode.api.test.framework.api.concurrent.ApiExecutor;
+import io.cyborgcode.api.test.framework.config.Performance;
+import io.restassured.authentication.NoAuthScheme;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Cookie;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import org.apache.http.impl.EnglishReasonPhraseCatalog;
+
+/**
+ * Terminal REST Assured filter sending requests through a JVM-wide JDK {@link HttpClient}
+ * instead of REST Assured's Apache client.
+ * <p>
+ * The client prefers HTTP/2: against servers that negotiate it, concurrent requests from
+ * parallel tests are multiplexed as streams over a few shared connections instead of each
+ * holding a pooled HTTP/1.1 connection; other servers are spoken to over HTTP/1.1. The
+ * filter runs after every other filter, so caching, metrics and logging still see the
+ * exchange, and turns the JDK response into a regular REST Assured {@link Response}: status,
+ * headers and body behave exactly as for the default transport, so {@code STATUS},
+ * {@code HEADER} and {@code BODY} assertions are unaffected.
+ * </p>
+ * REST Assured's redirect setting is honored: requests that follow redirects (the default) go
+ * through a client following them, others through one that does not. Requests the filter
+ * cannot express (multipart uploads, form parameters, REST Assured authentication schemes,
+ * custom SSL configuration such as trust stores or relaxed HTTPS validation, and proxies) are
+ * passed on to the default transport unchanged.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class JdkHttpTransport implements OrderedFilter {
+
+   private static final JdkHttpTransport INSTANCE = new JdkHttpTransport();
+   private static final Set<String> RESTRICTED_HEADERS =
+         Set.of("connection", "content-length", "expect", "host", "upgrade");
+
+   private final HttpClient following = client(HttpClient.Redirect.NORMAL);
+   private final HttpClient direct = client(HttpClient.Redirect.NEVER);
+
+   private JdkHttpTransport() {
+   }
+
+   public static JdkHttpTransport shared() {
+      return INSTANCE;
+   }
+
+   @Override
+   public int getOrder() {
+      return LOWEST_PRECEDENCE;
+   }
+
+   @Override
+   public Response filter(final FilterableRequestSpecification requestSpec,
+                          final FilterableResponseSpecification responseSpec, final FilterContext ctx) {
+      RestAssuredConfig config = requestSpec.getConfig();
+      if (!requestSpec.getMultiPartParams().isEmpty()
+            || !requestSpec.getFormParams().isEmpty()
+            || !(requestSpec.getAuthenticationScheme() instanceof NoAuthScheme)
+            || requestSpec.getProxySpecification() != null
+            || config != null && config.getSSLConfig().isUserConfigured()) {
+         return ctx.next(requestSpec, responseSpec);
+      }
+      HttpClient client = config == null || config.getRedirectConfig().followsRedirects() ? following : direct;
+      HttpRequest request = request(requestSpec);
+      try {
+         return response(client.send(request, HttpResponse.BodyHandlers.ofByteArray()));
+      } catch (IOException e) {
+         throw new UncheckedIOException("Request " + request.method() + " " + request.uri() + " failed", e);
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+         throw new IllegalStateException("Interrupted while sending " + request.method() + " " + request.uri(), e);
+      }
+   }
+
+   private static HttpClient client(final HttpClient.Redirect redirect) {
+      return HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .followRedirects(redirect)
+            .connectTimeout(Duration.ofSeconds(Performance.config().httpRequestTimeoutSeconds()))
+            .executor(ApiExecutor.unbounded("http2-client-"))
+            .build();
+   }
+
+   private static HttpRequest request(final FilterableRequestSpecification requestSpec) {
+      HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(requestSpec.getURI()))
+            .timeout(Duration.ofSeconds(Performance.config().httpRequestTimeoutSeconds()));
+      boolean hasContentType = false;
+      for (Header header : requestSpec.getHeaders()) {
+         String name = header.getName().toLowerCase(Locale.ROOT);
+         if (!RESTRICTED_HEADERS.contains(name)) {
+            builder.header(header.getName(), header.getValue());
+            hasContentType |= name.equals("content-type");
+         }
+      }
+      if (!hasContentType && requestSpec.getContentType() != null) {
+         builder.header("Content-Type", requestSpec.getContentType());
+      }
+      if (requestSpec.getCookies().exist()) {
+         StringJoiner cookies = new StringJoiner("; ");
+         for (Cookie cookie : requestSpec.getCookies()) {
+            cookies.add(cookie.getName() + "=" + cookie.getValue());
+         }
+         builder.header("Cookie", cookies.toString());
+      }
+      return builder.method(requestSpec.getMethod(), body(requestSpec.getBody())).build();
+   }
+
+   private static HttpRequest.BodyPublisher body(final Object body) {
+      if (body == null) {
+         return HttpRequest.BodyPublishers.noBody();
+      }
+      if (body instanceof byte[] bytes) {
+         return HttpRequest.BodyPublishers.ofByteArray(bytes);
+      }
+      return HttpRequest.BodyPublishers.ofString(body.toString(), StandardCharsets.UTF_8);
+   }
+
+   private static Response response(final HttpResponse<byte[]> response) {
+      List<Header> headers = new ArrayList<>();
+      for (Map.Entry<String, List<String>> header : response.headers().map().entrySet()) {
+         if (header.getKey().startsWith(":")) {
+            continue;
+         }
+         header.getValue().forEach(value -> headers.add(new Header(header.getKey(), value)));
+      }
+      ResponseBuilder builder = new ResponseBuilder()
+            .setStatusCode(response.statusCode())
+            .setStatusLine(statusLine(response))
+            .setHeaders(new Headers(headers))
+            .setBody(response.body());
+      response.headers().firstValue("Content-Type").ifPresent(builder::setContentType);
+      return builder.build();
+   }
+
+   /**
+    * The JDK client exposes no reason phrase, and HTTP/2 has none on the wire; the standard one
+    * is added so that status lines read like those of the default transport.
+    */
+   private static String statusLine(final HttpResponse<?> response) {
+      String protocol = response.version() == HttpClient.Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1";
+      String reason = EnglishReasonPhraseCatalog.INSTANCE.getReason(response.statusCode(), Locale.ENGLISH);
+      return protocol + " " + response.statusCode() + (reason == null ? "" : " " + reason);
+   }
+
+}
@@ -0,0 +1,64 @@
+package io.cyborgcode.api.test.framework.api.http;
+
+import io.cyborgcode.api.test.framework.config.Performance;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+
+/**
+ * REST Assured configuration backed by one JVM-wide HTTP connection pool.
+ * <p>
+ * By default REST Assured creates a new HTTP client, and with it a new connection, for every
+ * request. The configuration returned by {@link #config()} still creates a lightweight client
+ * per request, since REST Assured sets per-request parameters (redirects, timeouts, cookie
+ * policy) on the client itself and a shared client would leak them between concurrent tests,
+ * but every client leases its connections from the same thread-safe pool. Connections stay
+ * alive across requests and tests, so the TCP and TLS handshakes are paid once per connection
+ * instead of once per request.
+ * </p>
+ * {@link #config(RestAssuredConfig)} only swaps the client factory into a given configuration,
+ * so object mapper, JSON path, logging and every other setting of it are kept. Pool limits come
+ * from {@code api.http.max.connections}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@SuppressWarnings("deprecation")
+public final class PooledHttpClient {
+
+   private static final PoolingClientConnectionManager POOL = new SharedPool();
+
+   private PooledHttpClient() {
+   }
+
+   /**
+    * Returns {@code base} with its HTTP clients leasing connections from the shared pool.
+    *
+    * @param base the configuration to keep everything else of
+    * @return the pooled configuration
+    */
+   public static RestAssuredConfig config(final RestAssuredConfig base) {
+      HttpClientConfig httpClient = base.getHttpClientConfig();
+      return base.httpClient(httpClient.httpClientFactory(() -> new DefaultHttpClient(POOL)));
+   }
+
+   /**
+    * The pool outlives the clients created on top of it, so a client shutting down its
+    * connection manager must not close the connections of all others.
+    */
+   private static final class SharedPool extends PoolingClientConnectionManager {
+
+      private SharedPool() {
+         int maxConnections = Performance.config().httpMaxConnections();
+         setMaxTotal(maxConnections);
+         setDefaultMaxPerRoute(maxConnections);
+      }
+
+      @Override
+      public void shutdown() {
+         closeExpiredConnections();
+      }
+
+   }
+
+}
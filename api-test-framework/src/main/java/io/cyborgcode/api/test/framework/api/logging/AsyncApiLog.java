@@ -0,0 +1,87 @@
+package io.cyborgcode.api.test.framework.api.logging;
+
+import io.cyborgcode.api.test.framework.api.concurrent.ApiExecutor;
+import io.cyborgcode.api.test.framework.config.Performance;
+import io.cyborgcode.roa.api.log.LogApi;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Background writer for API request/response log lines.
+ * <p>
+ * Test threads only hand a pre-formatted line to a {@link LogRingBuffer}; a single daemon
+ * thread drains it into the API log. When the buffer is full, lines are dropped rather than
+ * slowing tests down, and the number of dropped lines is reported at shutdown, after the
+ * buffer has been drained one last time. The writer parks while the buffer is empty and is
+ * unparked by the next line, so an idle suite costs no wake-ups.
+ * </p>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class AsyncApiLog {
+
+   private static final AsyncApiLog INSTANCE = new AsyncApiLog();
+
+   private final LogRingBuffer<String> buffer =
+         new LogRingBuffer<>(Performance.config().asyncLoggingBufferSize());
+   private final Thread writer;
+   private volatile boolean running = true;
+   private volatile boolean parked;
+
+   private AsyncApiLog() {
+      writer = ApiExecutor.threads("api-log-writer-").newThread(this::drainLoop);
+      writer.start();
+      Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "api-log-writer-shutdown"));
+   }
+
+   public static AsyncApiLog shared() {
+      return INSTANCE;
+   }
+
+   /**
+    * Queues a line for the background writer; never blocks.
+    *
+    * @param line the formatted log line
+    */
+   public void log(final String line) {
+      if (buffer.offer(line) && parked) {
+         LockSupport.unpark(writer);
+      }
+   }
+
+   public long dropped() {
+      return buffer.dropped();
+   }
+
+   private void drainLoop() {
+      while (running) {
+         if (!drain()) {
+            parked = true;
+            // re-check after publishing the flag: a line offered before it was set is seen
+            // here, a line offered after it unparks this thread
+            if (running && buffer.isEmpty()) {
+               LockSupport.park(this);
+            }
+            parked = false;
+         }
+      }
+   }
+
+   private synchronized boolean drain() {
+      boolean drained = false;
+      for (String line = buffer.poll(); line != null; line = buffer.poll()) {
+         LogApi.info(line);
+         drained = true;
+      }
+      return drained;
+   }
+
+   private void shutdown() {
+      running = false;
+      LockSupport.unpark(writer);
+      drain();
+      if (dropped() > 0) {
+         LogApi.warn(dropped() + " API log line(s) were dropped because the log buffer was full");
+      }
+   }
+
+}
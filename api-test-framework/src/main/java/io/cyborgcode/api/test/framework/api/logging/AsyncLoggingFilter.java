@@ -0,0 +1,80 @@
+package io.cyborgcode.api.test.framework.api.logging;
+
+import io.cyborgcode.api.test.framework.config.Performance;
+import io.cyborgcode.api.test.framework.config.PerformanceProperties;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * REST Assured filter logging each exchange through {@link AsyncApiLog}.
+ * <p>
+ * A replacement for {@code api.restassured.logging.level=ALL}, which renders every full body
+ * to a string and logs it synchronously on the test thread. This filter:
+ * </p>
+ * <ul>
+ *   <li>copies at most {@code api.async.logging.max.body.bytes} bytes of each body,</li>
+ *   <li>skips body capture for 2xx/3xx responses, unless
+ *       {@code api.async.logging.bodies.on.success=true},</li>
+ *   <li>leaves the actual writing to the background thread of {@link AsyncApiLog}.</li>
+ * </ul>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class AsyncLoggingFilter implements Filter {
+
+   private static final int ERROR_STATUS = 400;
+
+   private final int maxBodyBytes;
+   private final boolean bodiesOnSuccess;
+
+   public AsyncLoggingFilter() {
+      PerformanceProperties config = Performance.config();
+      this.maxBodyBytes = config.asyncLoggingMaxBodyBytes();
+      this.bodiesOnSuccess = config.asyncLoggingBodiesOnSuccess();
+   }
+
+   @Override
+   public Response filter(final FilterableRequestSpecification requestSpec,
+                          final FilterableResponseSpecification responseSpec, final FilterContext ctx) {
+      long start = System.nanoTime();
+      Response response = ctx.next(requestSpec, responseSpec);
+      long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+      StringBuilder line = new StringBuilder(128)
+            .append(requestSpec.getMethod()).append(' ').append(requestSpec.getURI())
+            .append(" -> ").append(response.getStatusCode()).append(" in ").append(millis).append(" ms");
+      if (bodiesOnSuccess || response.getStatusCode() >= ERROR_STATUS) {
+         appendBody(line, "request", requestBody(requestSpec.getBody()));
+         appendBody(line, "response", response.asByteArray());
+      }
+      AsyncApiLog.shared().log(line.toString());
+      return response;
+   }
+
+   private void appendBody(final StringBuilder line, final String label, final byte[] body) {
+      if (body == null || body.length == 0) {
+         return;
+      }
+      int length = Math.min(body.length, maxBodyBytes);
+      line.append("\n  ").append(label).append(": ").append(new String(body, 0, length, StandardCharsets.UTF_8));
+      if (length < body.length) {
+         line.append("... (").append(body.length - length).append(" more bytes)");
+      }
+   }
+
+   private static byte[] requestBody(final Object body) {
+      if (body instanceof byte[] bytes) {
+         return bytes;
+      }
+      if (body instanceof String text) {
+         return text.getBytes(StandardCharsets.UTF_8);
+      }
+      return null;
+   }
+
+}
@@ -0,0 +1,79 @@
+package io.cyborgcode.api.test.framework.api.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, lock-free multi-producer / single-consumer ring buffer.
+ * <p>
+ * Producers claim a slot with a compare-and-set on the tail and never block: when the buffer
+ * is full, the entry is dropped and counted in {@link #dropped()}. The single consumer frees
+ * slots in order. Capacity is rounded up to a power of two.
+ * </p>
+ *
+ * @param <T> the entry type
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+final class LogRingBuffer<T> {
+
+   private final AtomicReferenceArray<T> slots;
+   private final int mask;
+   private final AtomicLong head = new AtomicLong();
+   private final AtomicLong tail = new AtomicLong();
+   private final LongAdder dropped = new LongAdder();
+
+   LogRingBuffer(final int capacity) {
+      int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+      this.slots = new AtomicReferenceArray<>(size);
+      this.mask = size - 1;
+   }
+
+   /**
+    * Adds an entry unless the buffer is full.
+    *
+    * @return {@code false} if the entry was dropped
+    */
+   boolean offer(final T entry) {
+      while (true) {
+         long claim = tail.get();
+         if (claim - head.get() >= slots.length()) {
+            dropped.increment();
+            return false;
+         }
+         if (tail.compareAndSet(claim, claim + 1)) {
+            slots.set((int) (claim & mask), entry);
+            return true;
+         }
+      }
+   }
+
+   /**
+    * Removes the oldest entry. Must only be called from the consumer thread.
+    *
+    * @return the entry, or {@code null} if none is published yet
+    */
+   T poll() {
+      long current = head.get();
+      int index = (int) (current & mask);
+      T entry = slots.get(index);
+      if (entry == null) {
+         return null;
+      }
+      slots.set(index, null);
+      head.lazySet(current + 1);
+      return entry;
+   }
+
+   /**
+    * Whether the next entry is not published yet. Must only be called from the consumer thread.
+    */
+   boolean isEmpty() {
+      return slots.get((int) (head.get() & mask)) == null;
+   }
+
+   long dropped() {
+      return dropped.sum();
+   }
+
+}
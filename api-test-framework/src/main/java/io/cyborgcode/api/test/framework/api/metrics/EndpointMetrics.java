@@ -0,0 +1,144 @@
+package io.cyborgcode.api.test.framework.api.metrics;
+
+import io.cyborgcode.api.test.framework.api.AppEndpoints;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * JVM-wide latency and traffic counters per {@link AppEndpoints} constant.
+ * <p>
+ * Every request sent through an endpoint's default configuration is recorded by
+ * {@link EndpointMetricsFilter}:
+ * </p>
+ * <ul>
+ *   <li>its latency, in microseconds, into a lock-free HdrHistogram,</li>
+ *   <li>one request, and one error if it failed or answered with a 4xx/5xx status,</li>
+ *   <li>the bytes of the request body sent and of the response body received.</li>
+ * </ul>
+ * {@link #snapshot()} copies the current state; {@link MetricsExportExtension} writes it out
+ * at the end of the test run. Besides the JVM-wide {@link #shared()} instance, a bounded
+ * measurement such as a load run can record into an instance of its own.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class EndpointMetrics {
+
+   private static final EndpointMetrics INSTANCE = new EndpointMetrics();
+   private static final int SIGNIFICANT_DIGITS = 3;
+
+   private final Map<AppEndpoints, Counters> counters = new EnumMap<>(AppEndpoints.class);
+   private final long startNanos = System.nanoTime();
+
+   public EndpointMetrics() {
+      for (AppEndpoints endpoint : AppEndpoints.values()) {
+         counters.put(endpoint, new Counters());
+      }
+   }
+
+   public static EndpointMetrics shared() {
+      return INSTANCE;
+   }
+
+   /**
+    * Records one request.
+    *
+    * @param endpoint      the endpoint called
+    * @param durationNanos the time from sending the request to receiving the response
+    * @param failed        whether the request threw or answered with an error status
+    * @param bytesSent     the size of the request body
+    * @param bytesReceived the size of the response body
+    */
+   public void record(final AppEndpoints endpoint, final long durationNanos, final boolean failed,
+                      final long bytesSent, final long bytesReceived) {
+      Counters endpointCounters = counters.get(endpoint);
+      endpointCounters.latencyMicros().recordValue(TimeUnit.NANOSECONDS.toMicros(durationNanos));
+      endpointCounters.totalNanos().add(durationNanos);
+      endpointCounters.requests().increment();
+      if (failed) {
+         endpointCounters.errors().increment();
+      }
+      endpointCounters.bytesSent().add(bytesSent);
+      endpointCounters.bytesReceived().add(bytesReceived);
+   }
+
+   /**
+    * Copies the counters of every endpoint that was called at least once.
+    *
+    * @return the statistics per endpoint, in declaration order
+    */
+   public Map<AppEndpoints, EndpointSnapshot> snapshot() {
+      double elapsedSeconds = (System.nanoTime() - startNanos) / 1e9;
+      Map<AppEndpoints, EndpointSnapshot> snapshot = new EnumMap<>(AppEndpoints.class);
+      counters.forEach((endpoint, endpointCounters) -> {
+         long requests = endpointCounters.requests().sum();
+         if (requests == 0) {
+            return;
+         }
+         Histogram latency = endpointCounters.latencyMicros().copy();
+         snapshot.put(endpoint, new EndpointSnapshot(
+               requests,
+               endpointCounters.errors().sum(),
+               endpointCounters.bytesSent().sum(),
+               endpointCounters.bytesReceived().sum(),
+               requests / elapsedSeconds,
+               endpointCounters.totalNanos().sum() / 1e6,
+               millis(latency, 50),
+               millis(latency, 95),
+               millis(latency, 99),
+               latency.getMaxValue() / 1000.0));
+      });
+      return snapshot;
+   }
+
+   /**
+    * Copies the latency distribution of one endpoint, for percentiles beyond those of
+    * {@link #snapshot()}.
+    *
+    * @param endpoint the endpoint
+    * @return the recorded latencies, in microseconds
+    */
+   public Histogram latencyMicros(final AppEndpoints endpoint) {
+      return counters.get(endpoint).latencyMicros().copy();
+   }
+
+   public void reset() {
+      counters.values().forEach(Counters::reset);
+   }
+
+   private static double millis(final Histogram latency, final double percentile) {
+      return latency.getValueAtPercentile(percentile) / 1000.0;
+   }
+
+   /**
+    * Point-in-time statistics of one endpoint. Latencies are in milliseconds; throughput is
+    * requests per second since the metrics were created.
+    */
+   public record EndpointSnapshot(long requests, long errors, long bytesSent, long bytesReceived,
+                                  double throughputPerSecond, double totalMillis,
+                                  double p50Millis, double p95Millis, double p99Millis, double maxMillis) {
+   }
+
+   private record Counters(Histogram latencyMicros, LongAdder totalNanos, LongAdder requests,
+                           LongAdder errors, LongAdder bytesSent, LongAdder bytesReceived) {
+
+      private Counters() {
+         this(new ConcurrentHistogram(SIGNIFICANT_DIGITS), new LongAdder(), new LongAdder(),
+               new LongAdder(), new LongAdder(), new LongAdder());
+      }
+
+      private void reset() {
+         latencyMicros.reset();
+         totalNanos.reset();
+         requests.reset();
+         errors.reset();
+         bytesSent.reset();
+         bytesReceived.reset();
+      }
+
+   }
+
+}
@@ -0,0 +1,82 @@
+package io.cyborgcode.api.test.framework.api.metrics;
+
+import io.cyborgcode.api.test.framework.api.AppEndpoints;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * REST Assured filter recording every request of one endpoint into {@link EndpointMetrics}.
+ * <p>
+ * Each {@link AppEndpoints} constant adds its own instance to its base specification, so the
+ * endpoint is known without parsing URLs. It runs before every other filter of the endpoint,
+ * so requests answered by the HTTP cache are recorded too. Body sizes are taken from the
+ * already serialized request body and from the {@code Content-Length} header; a response
+ * without one, e.g. a chunked one, counts as {@code 0} bytes received rather than being
+ * buffered just to measure it.
+ * </p>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class EndpointMetricsFilter implements Filter {
+
+   private static final int ERROR_STATUS = 400;
+
+   private final AppEndpoints endpoint;
+
+   public EndpointMetricsFilter(final AppEndpoints endpoint) {
+      this.endpoint = endpoint;
+   }
+
+   @Override
+   public Response filter(final FilterableRequestSpecification requestSpec,
+                          final FilterableResponseSpecification responseSpec, final FilterContext ctx) {
+      long start = System.nanoTime();
+      Response response = null;
+      try {
+         response = ctx.next(requestSpec, responseSpec);
+         return response;
+      } finally {
+         long duration = System.nanoTime() - start;
+         boolean failed = response == null || response.getStatusCode() >= ERROR_STATUS;
+         EndpointMetrics.shared().record(endpoint, duration, failed, bytesSent(requestSpec), bytesReceived(response));
+      }
+   }
+
+   /**
+    * Returns the size of the request body as serialized by REST Assured, or {@code 0} when
+    * there is none.
+    *
+    * @param requestSpec the request about to be sent
+    * @return the request body size in bytes
+    */
+   public static long bytesSent(final FilterableRequestSpecification requestSpec) {
+      Object body = requestSpec.getBody();
+      if (body instanceof byte[] bytes) {
+         return bytes.length;
+      }
+      if (body instanceof String text) {
+         return text.getBytes(StandardCharsets.UTF_8).length;
+      }
+      return 0;
+   }
+
+   private static long bytesReceived(final Response response) {
+      if (response == null) {
+         return 0;
+      }
+      String contentLength = response.getHeader("Content-Length");
+      if (contentLength == null) {
+         return 0;
+      }
+      try {
+         return Long.parseLong(contentLength.trim());
+      } catch (NumberFormatException e) {
+         return 0;
+      }
+   }
+
+}
@@ -0,0 +1,94 @@
+package io.cyborgcode.api.test.framework.api.metrics;
+
+import io.cyborgcode.api.test.framework.api.AppEndpoints;
+import io.cyborgcode.api.test.framework.api.metrics.EndpointMetrics.EndpointSnapshot;
+import io.cyborgcode.api.test.framework.config.Performance;
+import io.qameta.allure.util.PropertiesUtils;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Exports {@link EndpointMetrics} once, when the whole test run has finished.
+ * <p>
+ * Registered through JUnit extension auto-detection (see {@code junit-platform.properties}).
+ * The first test class stores a resource in the root extension context; JUnit closes it after
+ * the last test, which:
+ * </p>
+ * <ul>
+ *   <li>writes {@link MetricsExporter#JSON_FILE} and {@link MetricsExporter#PROMETHEUS_FILE}
+ *       into {@code api.metrics.export.dir},</li>
+ *   <li>adds one summary line per endpoint, plus the location of the files, to the
+ *       {@code environment.properties} of the Allure results, which the report shows in its
+ *       Environment section; existing entries are kept.</li>
+ * </ul>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public class MetricsExportExtension implements BeforeAllCallback {
+
+   private static final ExtensionContext.Namespace NAMESPACE =
+         ExtensionContext.Namespace.create(MetricsExportExtension.class);
+   private static final String ALLURE_RESULTS_PROPERTY = "allure.results.directory";
+   private static final String DEFAULT_ALLURE_RESULTS = "allure-results";
+   private static final String ENVIRONMENT_FILE = "environment.properties";
+
+   @Override
+   public void beforeAll(final ExtensionContext context) {
+      if (!Performance.config().apiMetricsEnabled()) {
+         return;
+      }
+      context.getRoot().getStore(NAMESPACE)
+            .getOrComputeIfAbsent(Export.class, key -> new Export(), Export.class);
+   }
+
+   private static final class Export implements ExtensionContext.Store.CloseableResource {
+
+      @Override
+      public void close() {
+         Map<AppEndpoints, EndpointSnapshot> snapshot = EndpointMetrics.shared().snapshot();
+         if (snapshot.isEmpty()) {
+            return;
+         }
+         MetricsExporter.write(Path.of(Performance.config().apiMetricsExportDir()), snapshot);
+         attach(snapshot);
+      }
+
+      private static void attach(final Map<AppEndpoints, EndpointSnapshot> snapshot) {
+         Path results = Path.of(PropertiesUtils.loadAllureProperties()
+               .getProperty(ALLURE_RESULTS_PROPERTY, DEFAULT_ALLURE_RESULTS));
+         Path environment = results.resolve(ENVIRONMENT_FILE);
+         try {
+            Files.createDirectories(results);
+            Properties properties = new Properties();
+            if (Files.exists(environment)) {
+               try (Reader reader = Files.newBufferedReader(environment, StandardCharsets.UTF_8)) {
+                  properties.load(reader);
+               }
+            }
+            snapshot.forEach((endpoint, stats) -> properties.setProperty("api.metrics." + endpoint.name(),
+                  String.format(Locale.ROOT, "n=%d errors=%d p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms",
+                        stats.requests(), stats.errors(), stats.p50Millis(), stats.p95Millis(),
+                        stats.p99Millis(), stats.maxMillis())));
+            properties.setProperty("api.metrics.files",
+                  Path.of(Performance.config().apiMetricsExportDir()).toAbsolutePath().toString());
+            try (Writer writer = Files.newBufferedWriter(environment, StandardCharsets.UTF_8)) {
+               properties.store(writer, null);
+            }
+         } catch (IOException e) {
+            throw new UncheckedIOException("Could not add endpoint metrics to " + environment, e);
+         }
+      }
+
+   }
+
+}
@@ -0,0 +1,115 @@
+package io.cyborgcode.api.test.framework.api.metrics;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.cyborgcode.api.test.framework.api.AppEndpoints;
+import io.cyborgcode.api.test.framework.api.metrics.EndpointMetrics.EndpointSnapshot;
+import io.cyborgcode.api.test.framework.api.response.ParseCounter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Renders an {@link EndpointMetrics} snapshot as JSON and as Prometheus text format.
+ * <p>
+ * In the Prometheus output, latencies form the summary {@code api_request_duration_seconds}
+ * with quantiles 0.5, 0.95, 0.99 and 1 (max); requests, errors and body bytes are counters
+ * labelled by {@code endpoint}. The unlabelled counters {@code api_parsed_responses_total} and
+ * {@code api_response_parses_total} export {@link ParseCounter}, so a run can confirm that
+ * every response body was parsed at most once.
+ * </p>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class MetricsExporter {
+
+   public static final String JSON_FILE = "api-metrics.json";
+   public static final String PROMETHEUS_FILE = "api-metrics.prom";
+
+   private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+   private MetricsExporter() {
+   }
+
+   public static byte[] toJson(final Map<AppEndpoints, EndpointSnapshot> snapshot) {
+      try {
+         return MAPPER.writeValueAsBytes(snapshot);
+      } catch (JsonProcessingException e) {
+         throw new IllegalStateException("Could not serialize endpoint metrics", e);
+      }
+   }
+
+   public static byte[] toPrometheus(final Map<AppEndpoints, EndpointSnapshot> snapshot) {
+      StringBuilder text = new StringBuilder();
+      text.append("# HELP api_request_duration_seconds Latency of API requests per endpoint.\n")
+            .append("# TYPE api_request_duration_seconds summary\n");
+      snapshot.forEach((endpoint, stats) -> {
+         quantile(text, endpoint, "0.5", stats.p50Millis());
+         quantile(text, endpoint, "0.95", stats.p95Millis());
+         quantile(text, endpoint, "0.99", stats.p99Millis());
+         quantile(text, endpoint, "1", stats.maxMillis());
+         sample(text, "api_request_duration_seconds_sum", endpoint, stats.totalMillis() / 1000.0);
+         sample(text, "api_request_duration_seconds_count", endpoint, stats.requests());
+      });
+      counter(text, snapshot, "api_requests_total", "Requests sent per endpoint.", EndpointSnapshot::requests);
+      counter(text, snapshot, "api_request_errors_total", "Failed or 4xx/5xx requests per endpoint.",
+            EndpointSnapshot::errors);
+      counter(text, snapshot, "api_request_bytes_total", "Request body bytes sent per endpoint.",
+            EndpointSnapshot::bytesSent);
+      counter(text, snapshot, "api_response_bytes_total", "Response body bytes received per endpoint.",
+            EndpointSnapshot::bytesReceived);
+      total(text, "api_parsed_responses_total", "Responses read through the parse-once view.",
+            ParseCounter.responses());
+      total(text, "api_response_parses_total", "JSON body parses of parse-once responses.",
+            ParseCounter.parses());
+      return text.toString().getBytes(StandardCharsets.UTF_8);
+   }
+
+   /**
+    * Writes {@value #JSON_FILE} and {@value #PROMETHEUS_FILE} into the directory.
+    *
+    * @param directory the target directory, created if missing
+    * @param snapshot  the metrics to write
+    */
+   public static void write(final Path directory, final Map<AppEndpoints, EndpointSnapshot> snapshot) {
+      try {
+         Files.createDirectories(directory);
+         Files.write(directory.resolve(JSON_FILE), toJson(snapshot));
+         Files.write(directory.resolve(PROMETHEUS_FILE), toPrometheus(snapshot));
+      } catch (IOException e) {
+         throw new UncheckedIOException("Could not write endpoint metrics to " + directory, e);
+      }
+   }
+
+   private static void quantile(final StringBuilder text, final AppEndpoints endpoint, final String quantile,
+                                final double millis) {
+      text.append(String.format(Locale.ROOT, "api_request_duration_seconds{endpoint=\"%s\",quantile=\"%s\"} %s%n",
+            endpoint.name(), quantile, millis / 1000.0));
+   }
+
+   private static void counter(final StringBuilder text, final Map<AppEndpoints, EndpointSnapshot> snapshot,
+                               final String name, final String help,
+                               final ToDoubleFunction<EndpointSnapshot> value) {
+      text.append("# HELP ").append(name).append(' ').append(help).append('\n')
+            .append("# TYPE ").append(name).append(" counter\n");
+      snapshot.forEach((endpoint, stats) -> sample(text, name, endpoint, value.applyAsDouble(stats)));
+   }
+
+   private static void total(final StringBuilder text, final String name, final String help, final long value) {
+      text.append("# HELP ").append(name).append(' ').append(help).append('\n')
+            .append("# TYPE ").append(name).append(" counter\n")
+            .append(name).append(' ').append(value).append('\n');
+   }
+
+   private static void sample(final StringBuilder text, final String name, final AppEndpoints endpoint,
+                              final double value) {
+      text.append(String.format(Locale.ROOT, "%s{endpoint=\"%s\"} %s%n", name, endpoint.name(), value));
+   }
+
+}
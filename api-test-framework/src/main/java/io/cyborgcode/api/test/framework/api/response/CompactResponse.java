@@ -0,0 +1,184 @@
+package io.cyborgcode.api.test.framework.api.response;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * {@link Response} keeping only what tests read back from storage: status, a selected set of
+ * headers and the body bytes.
+ * <p>
+ * A full RestAssured response also retains its request specification, filter context,
+ * connection configuration and every header for as long as it is stored. The view returned by
+ * {@link #of(Response, Set)} copies the retained parts out of the original response, which
+ * can then be collected right away:
+ * </p>
+ * <ul>
+ *   <li>status, status line, content type and the retained headers are answered directly,</li>
+ *   <li>any other call materializes a {@link ParsedResponse} over the stored bytes on first
+ *       use, so the body is parsed lazily and at most once,</li>
+ *   <li>{@link #release(Response)} drops everything; later calls fail with an
+ *       {@link IllegalStateException}, except for {@code equals}, {@code hashCode} and
+ *       {@code toString}, which are identity-based and keep working so that reports and
+ *       collections holding a released response stay usable.</li>
+ * </ul>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class CompactResponse implements InvocationHandler {
+
+   private final int statusCode;
+   private final String statusLine;
+   private final String contentType;
+   private final Headers headers;
+   private final long retainedBytes;
+   private volatile byte[] body;
+   private volatile Response materialized;
+   private volatile boolean released;
+
+   private CompactResponse(final Response response, final Set<String> retainedHeaders) {
+      this.statusCode = response.getStatusCode();
+      this.statusLine = response.getStatusLine();
+      this.contentType = response.getContentType();
+      this.body = response.asByteArray();
+      List<Header> kept = new ArrayList<>();
+      long headerChars = 0;
+      for (Header header : response.getHeaders()) {
+         if (retainedHeaders.contains(header.getName().toLowerCase(Locale.ROOT))) {
+            kept.add(header);
+            headerChars += header.getName().length() + header.getValue().length();
+         }
+      }
+      this.headers = new Headers(kept);
+      this.retainedBytes = body.length + 2 * (headerChars + length(statusLine) + length(contentType));
+   }
+
+   /**
+    * Copies the retained parts of a response into a compact view.
+    *
+    * @param response        the response to compact; not referenced afterwards
+    * @param retainedHeaders names of the headers to keep, case-insensitive
+    * @return the compact response
+    */
+   public static Response of(final Response response, final Set<String> retainedHeaders) {
+      Set<String> names = new TreeSet<>();
+      retainedHeaders.forEach(name -> names.add(name.trim().toLowerCase(Locale.ROOT)));
+      return (Response) Proxy.newProxyInstance(CompactResponse.class.getClassLoader(),
+            new Class<?>[] {Response.class}, new CompactResponse(response, names));
+   }
+
+   public static boolean isCompact(final Response response) {
+      return Proxy.isProxyClass(response.getClass())
+            && Proxy.getInvocationHandler(response) instanceof CompactResponse;
+   }
+
+   /**
+    * Approximate heap retained by a response: body bytes plus retained header characters for a
+    * compact response, the body length for any other response.
+    *
+    * @param response the stored response
+    * @return the estimated number of bytes
+    */
+   public static long retainedBytes(final Response response) {
+      if (isCompact(response)) {
+         return ((CompactResponse) Proxy.getInvocationHandler(response)).retainedBytes;
+      }
+      return response.asByteArray().length;
+   }
+
+   /**
+    * Drops the body, parse tree and headers of a compact response. Other responses are ignored.
+    *
+    * @param response the stored response
+    */
+   public static void release(final Response response) {
+      if (isCompact(response)) {
+         CompactResponse compact = (CompactResponse) Proxy.getInvocationHandler(response);
+         compact.released = true;
+         compact.body = null;
+         compact.materialized = null;
+      }
+   }
+
+   @Override
+   public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+      if (method.getDeclaringClass() == Object.class) {
+         return objectMethod(proxy, method, args);
+      }
+      if (released) {
+         throw new IllegalStateException("Response was released when its quest completed; "
+               + "read what later steps need before the test ends");
+      }
+      boolean noArgs = args == null || args.length == 0;
+      switch (method.getName()) {
+         case "statusCode", "getStatusCode":
+            return statusCode;
+         case "statusLine", "getStatusLine":
+            return statusLine;
+         case "contentType", "getContentType":
+            return contentType;
+         case "headers", "getHeaders":
+            if (noArgs) {
+               return headers;
+            }
+            break;
+         case "header", "getHeader":
+            if (args != null && args.length == 1 && args[0] instanceof String name) {
+               return headers.getValue(name);
+            }
+            break;
+         default:
+            break;
+      }
+      try {
+         return method.invoke(materialize(), args);
+      } catch (InvocationTargetException e) {
+         throw e.getCause();
+      }
+   }
+
+   private Object objectMethod(final Object proxy, final Method method, final Object[] args) {
+      return switch (method.getName()) {
+         case "equals" -> proxy == args[0];
+         case "hashCode" -> System.identityHashCode(proxy);
+         default -> "CompactResponse[" + statusLine + (released ? ", released" : "") + "]";
+      };
+   }
+
+   private Response materialize() {
+      Response response = materialized;
+      if (response == null) {
+         synchronized (this) {
+            response = materialized;
+            if (response == null) {
+               ResponseBuilder builder = new ResponseBuilder()
+                     .setStatusCode(statusCode)
+                     .setStatusLine(statusLine)
+                     .setHeaders(headers)
+                     .setBody(body);
+               if (contentType != null) {
+                  builder.setContentType(contentType);
+               }
+               response = ParsedResponse.of(builder.build());
+               materialized = response;
+            }
+         }
+      }
+      return response;
+   }
+
+   private static int length(final String value) {
+      return value == null ? 0 : value.length();
+   }
+
+}
@@ -0,0 +1,167 @@
+package io.cyborgcode.api.test.framework.api.response;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.cyborgcode.api.test.framework.api.dto.response.UserData;
+import io.restassured.response.Response;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.DATA;
+
+/**
+ * Lazy, streaming view over a JSON array in a response body.
+ * <p>
+ * Mapping a list response to {@code GetUsersDto} builds every {@link UserData} element, even
+ * when the caller only needs the first one or the first match. This view walks the body with
+ * Jackson's streaming parser instead:
+ * </p>
+ * <ul>
+ *   <li>elements are bound one at a time, only when the stream pulls them,</li>
+ *   <li>short-circuiting operations such as {@code findFirst} or {@code anyMatch} stop
+ *       parsing at the first match,</li>
+ *   <li>neither the array nor a parse tree of the body is ever materialized, so very large
+ *       listings cost memory for one element at a time.</li>
+ * </ul>
+ * The stream should be closed when it is not fully consumed; closing it releases the parser.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class JsonArrayStream {
+
+   private static final ObjectMapper MAPPER = new ObjectMapper();
+
+   private JsonArrayStream() {
+   }
+
+   /**
+    * Streams the elements of a top-level array field of the response body.
+    *
+    * @param response the response whose body holds the array
+    * @param field    the name of the top-level field holding the array
+    * @param type     the element type to bind each element to
+    * @param <T>      the element type
+    * @return a lazy stream of elements; empty if the field is missing or not an array
+    */
+   public static <T> Stream<T> of(final Response response, final String field, final Class<T> type) {
+      JsonParser parser = open(response);
+      Stream<T> elements = StreamSupport.stream(new ElementSpliterator<>(parser, field, type), false);
+      return elements.onClose(() -> close(parser));
+   }
+
+   /**
+    * Streams the {@code data} elements of a {@code GetUsersDto} shaped response.
+    *
+    * @param response the users list response
+    * @return a lazy stream of users
+    */
+   public static Stream<UserData> users(final Response response) {
+      return of(response, DATA.getJsonPath(), UserData.class);
+   }
+
+   /**
+    * Returns the first user of a users list response, parsing nothing beyond it.
+    *
+    * @param response the users list response
+    * @return the first user, or empty if the list is empty
+    */
+   public static Optional<UserData> firstUser(final Response response) {
+      return findUser(response, user -> true);
+   }
+
+   /**
+    * Returns the first user matching the predicate, parsing nothing beyond it.
+    *
+    * @param response  the users list response
+    * @param predicate the condition to match
+    * @return the first matching user, or empty if none matches
+    */
+   public static Optional<UserData> findUser(final Response response, final Predicate<UserData> predicate) {
+      try (Stream<UserData> users = users(response)) {
+         return users.filter(predicate).findFirst();
+      }
+   }
+
+   private static JsonParser open(final Response response) {
+      try {
+         return MAPPER.getFactory().createParser(response.asByteArray());
+      } catch (IOException e) {
+         throw new UncheckedIOException("Could not open response body for streaming", e);
+      }
+   }
+
+   private static void close(final JsonParser parser) {
+      try {
+         parser.close();
+      } catch (IOException e) {
+         throw new UncheckedIOException(e);
+      }
+   }
+
+   private static final class ElementSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+      private final JsonParser parser;
+      private final String field;
+      private final Class<T> type;
+      private boolean positioned;
+      private boolean exhausted;
+
+      private ElementSpliterator(final JsonParser parser, final String field, final Class<T> type) {
+         super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+         this.parser = parser;
+         this.field = field;
+         this.type = type;
+      }
+
+      @Override
+      public boolean tryAdvance(final Consumer<? super T> action) {
+         if (exhausted) {
+            return false;
+         }
+         try {
+            if (!positioned) {
+               positioned = true;
+               if (!moveToArray()) {
+                  exhausted = true;
+                  return false;
+               }
+            }
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+               exhausted = true;
+               return false;
+            }
+            action.accept(MAPPER.readValue(parser, type));
+            return true;
+         } catch (IOException e) {
+            exhausted = true;
+            throw new UncheckedIOException("Could not stream '" + field + "' from response body", e);
+         }
+      }
+
+      private boolean moveToArray() throws IOException {
+         if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return false;
+         }
+         while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (field.equals(name)) {
+               return value == JsonToken.START_ARRAY;
+            }
+            parser.skipChildren();
+         }
+         return false;
+      }
+
+   }
+
+}
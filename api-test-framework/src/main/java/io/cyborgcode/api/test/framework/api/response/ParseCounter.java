@@ -0,0 +1,45 @@
+package io.cyborgcode.api.test.framework.api.response;
+
+import java.util.concurrent.atomic.LongAdder;
+import lombok.experimental.UtilityClass;
+
+/**
+ * JVM-wide counters for response body parsing.
+ * <p>
+ * {@link ParsedResponse} increments {@link #responses()} once per wrapped response and
+ * {@link #parses()} every time a body is actually turned into a JSON tree. In a healthy run
+ * both numbers grow in lockstep, i.e. every response is parsed at most once no matter how
+ * many BODY assertions or extractions run against it. Both counters are exported with the
+ * endpoint metrics by {@code MetricsExporter}.
+ * </p>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@UtilityClass
+public class ParseCounter {
+
+   private static final LongAdder RESPONSES = new LongAdder();
+   private static final LongAdder PARSES = new LongAdder();
+
+   public static long responses() {
+      return RESPONSES.sum();
+   }
+
+   public static long parses() {
+      return PARSES.sum();
+   }
+
+   public static void reset() {
+      RESPONSES.reset();
+      PARSES.reset();
+   }
+
+   static void recordResponse() {
+      RESPONSES.increment();
+   }
+
+   static void recordParse() {
+      PARSES.increment();
+   }
+
+}
@@ -0,0 +1,189 @@
+package io.cyborgcode.api.test.framework.api.response;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.path.json.JsonPath;
+import io.restassured.path.json.config.JsonPathConfig;
+import io.restassured.response.Response;
+import io.restassured.response.ResponseBody;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link Response} view that parses the JSON body at most once.
+ * <p>
+ * RestAssured builds a new {@link JsonPath} (and with it a new parse tree) on every
+ * {@code response.jsonPath()} call, so a {@code requestAndValidate} with many BODY assertions
+ * re-reads the same body once per assertion. The view returned by {@link #of(Response)}
+ * memoizes the parsed {@link JsonPath} (one per {@link JsonPathConfig} for
+ * {@code jsonPath(config)}) and the body string, and answers {@code path(..)} on JSON bodies
+ * from the memoized tree; every other call is delegated to the original response, so it can be
+ * stored and validated like any other response.
+ * </p>
+ * <p>
+ * {@link #document(Response)} reads a body into plain maps, lists and Jackson number types
+ * ({@code BigDecimal} for decimals) for any response, memoized for a parse-once view, so its
+ * result does not depend on how the response was wrapped or stored.
+ * </p>
+ * Parse activity is reported through {@link ParseCounter}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class ParsedResponse implements InvocationHandler {
+
+   private static final ObjectMapper DOCUMENT_READER = new ObjectMapper()
+         .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+
+   private final Response delegate;
+   private final Map<JsonPathConfig, JsonPath> configuredJsonPaths = new ConcurrentHashMap<>();
+   private volatile JsonPath jsonPath;
+   private volatile String body;
+   private volatile Object document;
+   private Response self;
+
+   private ParsedResponse(final Response delegate) {
+      this.delegate = delegate;
+   }
+
+   /**
+    * Wraps the given response in a parse-once view.
+    * Wrapping an already wrapped response returns it unchanged.
+    *
+    * @param response the response to wrap
+    * @return a response that shares one parse tree across all body reads
+    */
+   public static Response of(final Response response) {
+      if (response == null || isParsed(response)) {
+         return response;
+      }
+      ParsedResponse handler = new ParsedResponse(response);
+      handler.self = (Response) Proxy.newProxyInstance(
+            ParsedResponse.class.getClassLoader(), new Class<?>[] {Response.class}, handler);
+      ParseCounter.recordResponse();
+      return handler.self;
+   }
+
+   public static boolean isParsed(final Response response) {
+      return Proxy.isProxyClass(response.getClass())
+            && Proxy.getInvocationHandler(response) instanceof ParsedResponse;
+   }
+
+   /**
+    * Reads the JSON body of a response into plain maps and lists; memoized for a parse-once
+    * view, read afresh for any other response.
+    *
+    * @param response the response whose body is read
+    * @return the document, or {@code null} for an empty body
+    * @throws UncheckedIOException if the body is not valid JSON
+    */
+   public static Object document(final Response response) {
+      if (isParsed(response)) {
+         return ((ParsedResponse) Proxy.getInvocationHandler(response)).document();
+      }
+      return read(response.asByteArray());
+   }
+
+   @Override
+   public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+      boolean noArgs = args == null || args.length == 0;
+      if (noArgs) {
+         switch (method.getName()) {
+            case "jsonPath":
+               return jsonPath();
+            case "asString":
+               return body();
+            case "getBody":
+            case "body":
+               if (method.getReturnType().isAssignableFrom(ResponseBody.class)) {
+                  return self;
+               }
+               break;
+            default:
+               break;
+         }
+      } else if (method.getName().equals("jsonPath") && args.length == 1
+            && args[0] instanceof JsonPathConfig config) {
+         return jsonPath(config);
+      } else if (method.getName().equals("path") && args.length == 2 && isJson()) {
+         String path = (String) args[0];
+         Object[] pathArgs = (Object[]) args[1];
+         return jsonPath().get(pathArgs == null || pathArgs.length == 0 ? path : String.format(path, pathArgs));
+      }
+      try {
+         return method.invoke(delegate, args);
+      } catch (InvocationTargetException e) {
+         throw e.getCause();
+      }
+   }
+
+   private JsonPath jsonPath() {
+      JsonPath parsed = jsonPath;
+      if (parsed == null) {
+         synchronized (this) {
+            parsed = jsonPath;
+            if (parsed == null) {
+               parsed = delegate.jsonPath();
+               ParseCounter.recordParse();
+               jsonPath = parsed;
+            }
+         }
+      }
+      return parsed;
+   }
+
+   private Object document() {
+      Object parsed = document;
+      if (parsed == null) {
+         synchronized (this) {
+            parsed = document;
+            if (parsed == null) {
+               parsed = read(delegate.asByteArray());
+               ParseCounter.recordParse();
+               document = parsed;
+            }
+         }
+      }
+      return parsed;
+   }
+
+   private static Object read(final byte[] body) {
+      if (body.length == 0) {
+         return null;
+      }
+      try {
+         return DOCUMENT_READER.readValue(body, Object.class);
+      } catch (IOException e) {
+         throw new UncheckedIOException("Response body is not valid JSON", e);
+      }
+   }
+
+   private JsonPath jsonPath(final JsonPathConfig config) {
+      return configuredJsonPaths.computeIfAbsent(config, key -> {
+         JsonPath parsed = delegate.jsonPath(key);
+         ParseCounter.recordParse();
+         return parsed;
+      });
+   }
+
+   private boolean isJson() {
+      String contentType = delegate.contentType();
+      return contentType != null && contentType.toLowerCase(Locale.ROOT).contains("json");
+   }
+
+   private String body() {
+      String text = body;
+      if (text == null) {
+         text = delegate.asString();
+         body = text;
+      }
+      return text;
+   }
+
+}
@@ -0,0 +1,96 @@
+package io.cyborgcode.api.test.framework.api.response;
+
+import io.cyborgcode.roa.api.log.LogApi;
+import io.restassured.response.Response;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Tracks the responses a test stores in its quest and the heap they retain.
+ * <p>
+ * {@link ResponseRetentionExtension} opens a ledger on the test thread before each test and
+ * closes it afterwards. Closing releases every {@link CompactResponse} stored meanwhile and
+ * logs the bytes the test retained, so worker heaps can be sized from real runs. The largest
+ * per-test figure and the total of the JVM are available through {@link #peakBytes()} and
+ * {@link #totalBytes()} and are logged at shutdown.
+ * </p>
+ * Responses stored outside of a test thread are not tracked.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@UtilityClass
+public class ResponseRetention {
+
+   private static final ThreadLocal<Ledger> CURRENT = new ThreadLocal<>();
+   private static final AtomicLong PEAK_BYTES = new AtomicLong();
+   private static final LongAdder TOTAL_BYTES = new LongAdder();
+
+   static {
+      Runtime.getRuntime().addShutdownHook(new Thread(ResponseRetention::report, "response-retention-report"));
+   }
+
+   /**
+    * Records a response just stored by the test running on the current thread.
+    *
+    * @param response the stored response
+    */
+   public static void retain(final Response response) {
+      Ledger ledger = CURRENT.get();
+      if (ledger != null) {
+         ledger.add(response);
+      }
+   }
+
+   public static long peakBytes() {
+      return PEAK_BYTES.get();
+   }
+
+   public static long totalBytes() {
+      return TOTAL_BYTES.sum();
+   }
+
+   static void open(final String test) {
+      CURRENT.set(new Ledger(test));
+   }
+
+   static void close() {
+      Ledger ledger = CURRENT.get();
+      CURRENT.remove();
+      if (ledger == null || ledger.responses.isEmpty()) {
+         return;
+      }
+      ledger.responses.forEach(CompactResponse::release);
+      PEAK_BYTES.accumulateAndGet(ledger.bytes, Math::max);
+      TOTAL_BYTES.add(ledger.bytes);
+      LogApi.info(ledger.test + " retained " + ledger.bytes + " bytes in " + ledger.responses.size()
+            + " stored response(s)");
+   }
+
+   private static void report() {
+      if (totalBytes() > 0) {
+         LogApi.info("Stored responses retained " + totalBytes() + " bytes in total, at most "
+               + peakBytes() + " bytes per test");
+      }
+   }
+
+   private static final class Ledger {
+
+      private final String test;
+      private final List<Response> responses = new ArrayList<>();
+      private long bytes;
+
+      private Ledger(final String test) {
+         this.test = test;
+      }
+
+      private synchronized void add(final Response response) {
+         responses.add(response);
+         bytes += CompactResponse.retainedBytes(response);
+      }
+
+   }
+
+}
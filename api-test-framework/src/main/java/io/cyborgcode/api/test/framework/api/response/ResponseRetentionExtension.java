@@ -0,0 +1,28 @@
+package io.cyborgcode.api.test.framework.api.response;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Opens a {@link ResponseRetention} ledger for each test and closes it once the test and its
+ * quest have completed, releasing compact responses and reporting the bytes retained.
+ * <p>
+ * Registered through JUnit extension auto-detection (see {@code junit-platform.properties}).
+ * </p>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public class ResponseRetentionExtension implements BeforeEachCallback, AfterEachCallback {
+
+   @Override
+   public void beforeEach(final ExtensionContext context) {
+      ResponseRetention.open(context.getRequiredTestClass().getSimpleName() + "#" + context.getDisplayName());
+   }
+
+   @Override
+   public void afterEach(final ExtensionContext context) {
+      ResponseRetention.close();
+   }
+
+}
@@ -0,0 +1,69 @@
+package io.cyborgcode.api.test.framework.api.retry;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential backoff with jitter between the probes of a retried condition.
+ * <p>
+ * The n-th wait is {@code minInterval * multiplier^(n-1)}, capped at {@code maxInterval}, and
+ * then shortened by a random fraction of up to {@code jitter}, but never below
+ * {@code minInterval}. Fast conditions are therefore probed again almost immediately, slow
+ * ones are probed less and less often, and concurrent waiters do not probe in lockstep.
+ * </p>
+ * <pre>{@code
+ * Backoff.exponential(Duration.ofMillis(50), Duration.ofSeconds(2)).withJitter(0.2)
+ * }</pre>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public record Backoff(Duration minInterval, Duration maxInterval, double multiplier, double jitter) {
+
+   private static final double DEFAULT_MULTIPLIER = 2.0;
+   private static final double DEFAULT_JITTER = 0.5;
+
+   public Backoff {
+      if (minInterval.isNegative() || minInterval.compareTo(maxInterval) > 0) {
+         throw new IllegalArgumentException("Backoff requires 0 <= minInterval <= maxInterval");
+      }
+      if (multiplier < 1.0) {
+         throw new IllegalArgumentException("Backoff multiplier must be at least 1");
+      }
+      if (jitter < 0.0 || jitter > 1.0) {
+         throw new IllegalArgumentException("Backoff jitter must be between 0 and 1");
+      }
+   }
+
+   /**
+    * Doubles the interval after every probe, with up to 50% jitter.
+    *
+    * @param minInterval the first and smallest wait
+    * @param maxInterval the largest wait
+    * @return the backoff
+    */
+   public static Backoff exponential(final Duration minInterval, final Duration maxInterval) {
+      return new Backoff(minInterval, maxInterval, DEFAULT_MULTIPLIER, DEFAULT_JITTER);
+   }
+
+   public Backoff withMultiplier(final double multiplier) {
+      return new Backoff(minInterval, maxInterval, multiplier, jitter);
+   }
+
+   public Backoff withJitter(final double jitter) {
+      return new Backoff(minInterval, maxInterval, multiplier, jitter);
+   }
+
+   /**
+    * Returns the wait after the given failed probe.
+    *
+    * @param attempt the number of probes made so far, starting at 1
+    * @return the time to wait before the next probe
+    */
+   public Duration delay(final int attempt) {
+      double min = minInterval.toNanos();
+      double base = Math.min(min * Math.pow(multiplier, attempt - 1.0), maxInterval.toNanos());
+      double jittered = base * (1.0 - jitter * ThreadLocalRandom.current().nextDouble());
+      return Duration.ofNanos((long) Math.max(min, jittered));
+   }
+
+}
@@ -0,0 +1,123 @@
+package io.cyborgcode.api.test.framework.api.retry;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Paces the probes of a retried condition, either with a {@link Backoff} or by re-probing only
+ * after a {@link RetrySignal}.
+ * <p>
+ * The returned probes block before every call but the first until the next probe is due, so
+ * they can be handed to the framework's {@code retryUntil} with a zero retry interval: the
+ * framework keeps evaluating the condition, enforcing {@code maxWait} and reporting the
+ * retry, while the probe decides when the condition is evaluated again. A probe never waits
+ * past {@code maxWait}, measured from its first call. Once {@code maxWait} has passed, every
+ * further call still pauses briefly, so the framework does not spin on the condition while it
+ * notices the timeout.
+ * </p>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class Retry {
+
+   private static final long OVERDUE_PAUSE_NANOS = Duration.ofMillis(10).toNanos();
+
+   private Retry() {
+   }
+
+   /**
+    * Wraps a probe so that consecutive calls are {@link Backoff#delay(int)} apart.
+    *
+    * @param probe   produces the value to test
+    * @param maxWait the overall time limit
+    * @param backoff the waits between probes
+    * @param <T>     the probed value type
+    * @return the paced probe, for a single wait
+    */
+   public static <T> Supplier<T> paced(final Supplier<T> probe, final Duration maxWait, final Backoff backoff) {
+      return new Supplier<>() {
+         private final Deadline deadline = new Deadline(maxWait);
+         private int attempts;
+
+         @Override
+         public T get() {
+            long remaining = deadline.remaining();
+            if (attempts > 0) {
+               sleep(remaining > 0 ? Math.min(backoff.delay(attempts).toNanos(), remaining) : OVERDUE_PAUSE_NANOS);
+            }
+            attempts++;
+            return probe.get();
+         }
+      };
+   }
+
+   /**
+    * Wraps a probe so that every call after the first waits for a new signal.
+    *
+    * @param probe   produces the value to test
+    * @param maxWait the overall time limit
+    * @param signal  fired whenever the probed value may have changed
+    * @param <T>     the probed value type
+    * @return the signalled probe, for a single wait
+    */
+   public static <T> Supplier<T> signalled(final Supplier<T> probe, final Duration maxWait,
+                                           final RetrySignal signal) {
+      return new Supplier<>() {
+         private final Deadline deadline = new Deadline(maxWait);
+         private boolean probed;
+         private long seen;
+
+         @Override
+         public T get() {
+            if (probed) {
+               try {
+                  signal.awaitAfter(seen, Math.max(deadline.at(), System.nanoTime() + OVERDUE_PAUSE_NANOS));
+               } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                  throw new IllegalStateException("Interrupted while waiting for retry condition", e);
+               }
+            }
+            probed = true;
+            seen = signal.version();
+            return probe.get();
+         }
+      };
+   }
+
+   private static void sleep(final long nanos) {
+      try {
+         Thread.sleep(nanos / 1_000_000, (int) (nanos % 1_000_000));
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+         throw new IllegalStateException("Interrupted while waiting for retry condition", e);
+      }
+   }
+
+   /**
+    * {@code maxWait} after the first probe.
+    */
+   private static final class Deadline {
+
+      private final Duration maxWait;
+      private long at;
+      private boolean started;
+
+      private Deadline(final Duration maxWait) {
+         this.maxWait = maxWait;
+      }
+
+      private long at() {
+         if (!started) {
+            started = true;
+            at = System.nanoTime() + maxWait.toNanos();
+         }
+         return at;
+      }
+
+      private long remaining() {
+         return at() - System.nanoTime();
+      }
+
+   }
+
+}
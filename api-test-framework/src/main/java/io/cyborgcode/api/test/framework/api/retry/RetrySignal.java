@@ -0,0 +1,52 @@
+package io.cyborgcode.api.test.framework.api.retry;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wakes up a waiter re-checking a condition as soon as something it depends on changed.
+ * <p>
+ * Instead of sleeping between probes, a {@link Retry#signalled} probe re-evaluates its condition
+ * only when {@link #signal()} is called, e.g. from a completion callback:
+ * </p>
+ * <pre>{@code
+ * RetrySignal signal = new RetrySignal();
+ * job.whenComplete((result, error) -> signal.signal());
+ * }</pre>
+ * Signals are never lost: a signal that arrives while the condition is being evaluated causes
+ * one more evaluation.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class RetrySignal {
+
+   private long version;
+
+   /**
+    * Wakes up every waiter so it re-evaluates its condition.
+    */
+   public synchronized void signal() {
+      version++;
+      notifyAll();
+   }
+
+   synchronized long version() {
+      return version;
+   }
+
+   /**
+    * Blocks until a signal newer than {@code seen} arrives or the deadline passes.
+    *
+    * @return {@code false} if the deadline passed without a new signal
+    */
+   synchronized boolean awaitAfter(final long seen, final long deadlineNanos) throws InterruptedException {
+      while (version == seen) {
+         long remaining = deadlineNanos - System.nanoTime();
+         if (remaining <= 0) {
+            return false;
+         }
+         TimeUnit.NANOSECONDS.timedWait(this, remaining);
+      }
+      return true;
+   }
+
+}
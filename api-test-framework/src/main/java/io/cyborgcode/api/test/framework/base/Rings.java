@@ -1,8 +1,8 @@
 package io.cyborgcode.api.test.framework.base;
 
+import io.cyborgcode.api.test.framework.api.AppApiService;
 import io.cyborgcode.api.test.framework.service.CustomService;
 import io.cyborgcode.api.test.framework.service.EvolutionService;
-import io.cyborgcode.roa.api.service.fluent.RestServiceFluent;
 import io.cyborgcode.roa.framework.quest.Quest;
 import lombok.experimental.UtilityClass;
 
@@ -13,7 +13,7 @@ import lombok.experimental.UtilityClass;
  * By switching rings, tests can:
  * </p>
  * <ul>
- *   <li>Use the default REST fluent API ({@link #RING_OF_API})</li>
+ *   <li>Use the REST fluent API, extended by the suite's {@link AppApiService} ({@link #RING_OF_API})</li>
  *   <li>Delegate to a custom higher-level service with reusable flows ({@link #RING_OF_CUSTOM})</li>
  *   <li>Demonstrate evolutionary patterns and advanced composition ({@link #RING_OF_EVOLUTION})</li>
  * </ul>
@@ -25,7 +25,7 @@ import lombok.experimental.UtilityClass;
 @UtilityClass
 public class Rings {
 
-   public static final Class<RestServiceFluent> RING_OF_API = RestServiceFluent.class;
+   public static final Class<AppApiService> RING_OF_API = AppApiService.class;
    public static final Class<CustomService> RING_OF_CUSTOM = CustomService.class;
    public static final Class<EvolutionService> RING_OF_EVOLUTION = EvolutionService.class;
 
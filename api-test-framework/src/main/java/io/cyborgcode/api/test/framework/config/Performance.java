@@ -0,0 +1,29 @@
+package io.cyborgcode.api.test.framework.config;
+
+/**
+ * Convenience accessor for performance-related configuration.
+ * <p>
+ * Mirrors {@code Data.testData()}: the {@link PerformanceProperties} instance is the
+ * compile-time generated {@code ImmutablePerformanceProperties}, loaded once and shared by
+ * every component that tunes caching, concurrency or instrumentation behavior. Reading a
+ * switch on a hot path is a plain field read.
+ * </p>
+ * <p>
+ * Usage:
+ * <pre>{@code
+ * Duration ttl = Duration.ofSeconds(Performance.config().tokenTtlSeconds());
+ * }</pre>
+ * </p>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class Performance {
+
+   private Performance() {
+   }
+
+   public static PerformanceProperties config() {
+      return ImmutablePerformanceProperties.instance();
+   }
+
+}
@@ -0,0 +1,130 @@
+package io.cyborgcode.api.test.framework.config;
+
+import io.cyborgcode.api.test.framework.api.http.HttpTransport;
+import io.cyborgcode.config.StaticConfig;
+import io.cyborgcode.utilities.config.PropertyConfig;
+import org.aeonbits.owner.Config;
+
+/**
+ * Central configuration interface for performance-related switches of the example suite.
+ * <p>
+ * Backed by the Owner library and {@link PropertyConfig}, it:
+ * <ul>
+ *   <li>Loads values from system properties and the active framework configuration file
+ *       (via {@code framework.config.file}.properties on the classpath)</li>
+ *   <li>Provides defaults for every key, so none of the {@code config-*.properties} files
+ *       has to declare them</li>
+ *   <li>Keeps caching and concurrency knobs out of the code that uses them</li>
+ * </ul>
+ * Any value can be overridden per run, e.g. {@code -Dauth.token.ttl.seconds=120}. The
+ * implementation handed out by {@link Performance#config()} is generated at compile time
+ * (see {@link StaticConfig}).
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@StaticConfig
+@Config.LoadPolicy(Config.LoadType.MERGE)
+@Config.Sources({"system:properties", "classpath:${framework.config.file}.properties"})
+public interface PerformanceProperties extends PropertyConfig {
+
+   @Key("auth.token.cache.enabled")
+   @DefaultValue("true")
+   boolean tokenCacheEnabled();
+
+   @Key("auth.token.ttl.seconds")
+   @DefaultValue("600")
+   long tokenTtlSeconds();
+
+   @Key("auth.token.refresh.ahead.seconds")
+   @DefaultValue("60")
+   long tokenRefreshAheadSeconds();
+
+   @Key("api.batch.parallelism")
+   @DefaultValue("8")
+   int batchParallelism();
+
+   @Key("api.http.max.connections")
+   @DefaultValue("50")
+   int httpMaxConnections();
+
+   @Key("api.get.cache.enabled")
+   @DefaultValue("true")
+   boolean responseCacheEnabled();
+
+   @Key("api.get.cache.ttl.seconds")
+   @DefaultValue("300")
+   long responseCacheTtlSeconds();
+
+   @Key("stub.server.enabled")
+   @DefaultValue("false")
+   boolean stubServerEnabled();
+
+   @Key("stub.server.port")
+   @DefaultValue("8089")
+   int stubServerPort();
+
+   @Key("stub.latency.default.ms")
+   @DefaultValue("0")
+   long stubDefaultLatencyMs();
+
+   @Key("stub.latency.ms")
+   @DefaultValue("")
+   String[] stubLatenciesMs();
+
+   @Key("cleanup.deferred.enabled")
+   @DefaultValue("false")
+   boolean deferredCleanupEnabled();
+
+   @Key("cleanup.deferred.flush.interval.ms")
+   @DefaultValue("2000")
+   long deferredCleanupFlushIntervalMs();
+
+   @Key("api.metrics.enabled")
+   @DefaultValue("true")
+   boolean apiMetricsEnabled();
+
+   @Key("api.metrics.export.dir")
+   @DefaultValue("target/api-metrics")
+   String apiMetricsExportDir();
+
+   @Key("api.async.logging.enabled")
+   @DefaultValue("false")
+   boolean asyncLoggingEnabled();
+
+   @Key("api.async.logging.max.body.bytes")
+   @DefaultValue("2048")
+   int asyncLoggingMaxBodyBytes();
+
+   @Key("api.async.logging.bodies.on.success")
+   @DefaultValue("false")
+   boolean asyncLoggingBodiesOnSuccess();
+
+   @Key("api.async.logging.buffer.size")
+   @DefaultValue("8192")
+   int asyncLoggingBufferSize();
+
+   @Key("api.http.cache.enabled")
+   @DefaultValue("false")
+   boolean httpCacheEnabled();
+
+   @Key("api.http.cache.max.entries")
+   @DefaultValue("1024")
+   int httpCacheMaxEntries();
+
+   @Key("api.storage.compact.enabled")
+   @DefaultValue("false")
+   boolean compactStorageEnabled();
+
+   @Key("api.storage.compact.headers")
+   @DefaultValue("Content-Type,Location,ETag")
+   String[] compactStorageHeaders();
+
+   @Key("api.http.transport")
+   @DefaultValue("HTTP_1_1")
+   HttpTransport httpTransport();
+
+   @Key("api.http.request.timeout.seconds")
+   @DefaultValue("30")
+   long httpRequestTimeoutSeconds();
+
+}
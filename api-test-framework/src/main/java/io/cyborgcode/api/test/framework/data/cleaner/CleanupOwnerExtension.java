@@ -0,0 +1,68 @@
+package io.cyborgcode.api.test.framework.data.cleaner;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Remembers which test is running on the current thread, so {@link DeferredCleanup} can
+ * report a failed cleanup against the test that registered it, and drains the deferred
+ * cleanup queue once the whole run has finished.
+ * <p>
+ * Registered through JUnit extension auto-detection (see {@code junit-platform.properties}).
+ * Auto-detected extensions are registered before the framework's own extensions, so their
+ * after-test callbacks run last: the test is still known while {@code @Ripper} functions run,
+ * and is forgotten in {@link #afterEach} so a pooled thread never reports it for later work.
+ * With {@code cleanup.deferred.enabled=true}, the first test class stores a resource in the
+ * root extension context; JUnit closes it after the last test, which calls
+ * {@link DeferredCleanup#close()} and so fails the run if any deferred cleanup failed.
+ * </p>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public class CleanupOwnerExtension implements BeforeAllCallback, BeforeEachCallback, AfterEachCallback {
+
+   private static final ExtensionContext.Namespace NAMESPACE =
+         ExtensionContext.Namespace.create(CleanupOwnerExtension.class);
+   private static final ThreadLocal<String> CURRENT_TEST = new ThreadLocal<>();
+
+   @Override
+   public void beforeAll(final ExtensionContext context) {
+      if (!DeferredCleanup.isEnabled()) {
+         return;
+      }
+      context.getRoot().getStore(NAMESPACE)
+            .getOrComputeIfAbsent(Drain.class, key -> new Drain(), Drain.class);
+   }
+
+   @Override
+   public void beforeEach(final ExtensionContext context) {
+      CURRENT_TEST.set(context.getRequiredTestClass().getSimpleName() + "#" + context.getDisplayName());
+   }
+
+   @Override
+   public void afterEach(final ExtensionContext context) {
+      CURRENT_TEST.remove();
+   }
+
+   /**
+    * Returns the test running on the current thread, or the thread name outside of tests.
+    *
+    * @return a readable identifier of the current test
+    */
+   public static String currentTest() {
+      String test = CURRENT_TEST.get();
+      return test != null ? test : Thread.currentThread().getName();
+   }
+
+   private static final class Drain implements ExtensionContext.Store.CloseableResource {
+
+      @Override
+      public void close() {
+         DeferredCleanup.shared().close();
+      }
+
+   }
+
+}
@@ -3,6 +3,7 @@ package io.cyborgcode.api.test.framework.data.cleaner;
 import io.cyborgcode.roa.framework.parameters.DataRipper;
 import io.cyborgcode.roa.framework.quest.SuperQuest;
 import io.cyborgcode.roa.validator.core.Assertion;
+import io.restassured.response.Response;
 
 import static io.cyborgcode.api.test.framework.api.AppEndpoints.DELETE_USER;
 import static io.cyborgcode.api.test.framework.base.Rings.RING_OF_API;
@@ -29,6 +30,11 @@ public final class DataCleanerFunctions {
    }
 
    public static void deleteAdminUser(SuperQuest quest) {
+      if (DeferredCleanup.isEnabled()) {
+         DeferredCleanup.shared().defer(DELETE_USER.name() + ":" + ID_THREE, CleanupOwnerExtension.currentTest(),
+               () -> deleteUser(ID_THREE));
+         return;
+      }
       quest.use(RING_OF_API)
             .requestAndValidate(
                   DELETE_USER.withPathParam(ID_PARAM, ID_THREE),
@@ -36,4 +42,17 @@ public final class DataCleanerFunctions {
             );
    }
 
+   /**
+    * Deletes a user without a quest, for cleanup that runs after the test has finished.
+    */
+   private static void deleteUser(int id) {
+      Response response = DELETE_USER.defaultConfiguration()
+            .pathParam(ID_PARAM, id)
+            .request(DELETE_USER.method(), DELETE_USER.url());
+      if (response.getStatusCode() != SC_NO_CONTENT) {
+         throw new IllegalStateException("Expected status " + SC_NO_CONTENT + " deleting user " + id
+               + " but got " + response.getStatusCode());
+      }
+   }
+
 }
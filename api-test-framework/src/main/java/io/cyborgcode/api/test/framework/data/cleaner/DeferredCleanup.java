@@ -0,0 +1,140 @@
+package io.cyborgcode.api.test.framework.data.cleaner;
+
+import io.cyborgcode.api.test.framework.api.concurrent.ApiExecutor;
+import io.cyborgcode.api.test.framework.config.Performance;
+import io.cyborgcode.roa.api.log.LogApi;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Queue of cleanup work executed in batches, off the test thread.
+ * <p>
+ * With {@code cleanup.deferred.enabled=true}, {@code @Ripper} functions register their work
+ * here instead of running it synchronously at the end of each test:
+ * </p>
+ * <ul>
+ *   <li>work is deduplicated by key, so many tests deleting the same user cause one delete,</li>
+ *   <li>a background thread drains the queue every {@code cleanup.deferred.flush.interval.ms},
+ *       and whatever is left is drained once more when the test run ends (see
+ *       {@link CleanupOwnerExtension}),</li>
+ *   <li>a failed task is logged with the tests that registered it and kept in
+ *       {@link #failures()}; at the end of the run {@link #close()} fails the run, naming
+ *       every failed task and its owning tests.</li>
+ * </ul>
+ * The owning tests have usually finished by the time their cleanup runs, so a failure
+ * cannot fail the test itself; it fails the run instead of passing unnoticed.
+ * Only cleanup whose exact timing does not matter to other tests should be deferred. Tasks
+ * run without a quest, so they must not depend on the registering test's state.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class DeferredCleanup {
+
+   private static final DeferredCleanup INSTANCE = new DeferredCleanup();
+
+   private final Map<String, Pending> pending = new LinkedHashMap<>();
+   private final List<Failure> failures = new CopyOnWriteArrayList<>();
+   private final ScheduledExecutorService flusher;
+
+   private DeferredCleanup() {
+      long interval = Performance.config().deferredCleanupFlushIntervalMs();
+      flusher = Executors.newSingleThreadScheduledExecutor(ApiExecutor.threads("deferred-cleanup-"));
+      flusher.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+   }
+
+   public static DeferredCleanup shared() {
+      return INSTANCE;
+   }
+
+   public static boolean isEnabled() {
+      return Performance.config().deferredCleanupEnabled();
+   }
+
+   /**
+    * Queues a cleanup task, merging it with a pending task of the same key.
+    *
+    * @param key   identifies the cleanup, e.g. {@code DELETE_USER:3}
+    * @param owner the test registering the cleanup, used when reporting failures
+    * @param task  the cleanup work
+    */
+   public void defer(final String key, final String owner, final Runnable task) {
+      synchronized (pending) {
+         pending.computeIfAbsent(key, k -> new Pending(task, new LinkedHashSet<>())).owners().add(owner);
+      }
+   }
+
+   /**
+    * Runs every queued task now, on the calling thread.
+    */
+   public void flush() {
+      List<Map.Entry<String, Pending>> batch;
+      synchronized (pending) {
+         batch = new ArrayList<>(pending.entrySet());
+         pending.clear();
+      }
+      for (Map.Entry<String, Pending> entry : batch) {
+         Pending task = entry.getValue();
+         try {
+            task.task().run();
+         } catch (RuntimeException | AssertionError e) {
+            Failure failure = new Failure(entry.getKey(), List.copyOf(task.owners()), e);
+            failures.add(failure);
+            LogApi.warn("Deferred cleanup '" + failure.key() + "' registered by " + failure.owners()
+                  + " failed: " + e.getMessage());
+         }
+      }
+   }
+
+   public List<Failure> failures() {
+      return Collections.unmodifiableList(failures);
+   }
+
+   /**
+    * Stops the background flushes, runs whatever is still queued and fails if any deferred
+    * task failed during the run.
+    *
+    * @throws IllegalStateException listing every failed task with its owning tests; the
+    *                               individual causes are attached as suppressed exceptions
+    */
+   public void close() {
+      flusher.shutdown();
+      try {
+         flusher.awaitTermination(1, TimeUnit.MINUTES);
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+      }
+      flush();
+      if (failures.isEmpty()) {
+         return;
+      }
+      StringBuilder message = new StringBuilder()
+            .append(failures.size()).append(" deferred cleanup task(s) failed during this run:");
+      for (Failure failure : failures) {
+         message.append(System.lineSeparator()).append("  ").append(failure.key())
+               .append(" registered by ").append(failure.owners())
+               .append(": ").append(failure.cause().getMessage());
+      }
+      IllegalStateException error = new IllegalStateException(message.toString());
+      failures.forEach(failure -> error.addSuppressed(failure.cause()));
+      throw error;
+   }
+
+   /**
+    * A cleanup task that failed, with the tests that registered it.
+    */
+   public record Failure(String key, List<String> owners, Throwable cause) {
+   }
+
+   private record Pending(Runnable task, Set<String> owners) {
+   }
+
+}
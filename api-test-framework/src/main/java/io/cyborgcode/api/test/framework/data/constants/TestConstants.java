@@ -51,6 +51,7 @@ public class TestConstants {
       }
 
       public static final int PAGE_TWO = 2;
+      public static final int TOTAL_USERS = 12;
       public static final List<Integer> TOTAL_USERS_IN_PAGE_RANGE = List.of(5, 15);
    }
 
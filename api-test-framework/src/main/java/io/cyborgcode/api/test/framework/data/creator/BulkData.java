@@ -0,0 +1,100 @@
+package io.cyborgcode.api.test.framework.data.creator;
+
+import io.cyborgcode.api.test.framework.api.dto.request.CreateUserDto;
+import io.cyborgcode.bulk.IdBlocks;
+import io.cyborgcode.bulk.IdRange;
+import io.cyborgcode.bulk.SeededRecords;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Seeded, reproducible generator of unique {@link CreateUserDto} instances for parallel and
+ * load runs.
+ * <p>
+ * Every record is a pure function of a seed and a numeric ID (see {@link SeededRecords}), so
+ * the same ID always yields the same user regardless of thread, order or parallelism, and
+ * different IDs never yield the same name:
+ * </p>
+ * <ul>
+ *   <li>{@link #users(long, IdRange)} streams a range lazily; millions of users cost no more
+ *       memory than one,</li>
+ *   <li>{@link IdRange#partition(int, int)} splits an ID space into disjoint per-worker
+ *       ranges for runs that distribute work explicitly,</li>
+ *   <li>{@link #nextUser()} hands every thread its own blocks of {@value #BLOCK_SIZE} IDs from
+ *       {@link #UNIQUE_IDS} and walks them, so concurrent tests never share a record; it backs
+ *       {@link DataCreator#USER_UNIQUE}; threads that end after a few users, such as the
+ *       virtual users of a load run, hand the rest of their block back with
+ *       {@link #releaseIds()}.</li>
+ * </ul>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class BulkData {
+
+   public static final int BLOCK_SIZE = 100;
+
+   /**
+    * IDs handed out by {@link #nextUser()}; the first million are left out so that generated
+    * IDs never meet the small fixed IDs used by hand-written data.
+    */
+   public static final IdRange UNIQUE_IDS = new IdRange(1_000_000, Integer.MAX_VALUE);
+
+   private static final List<String> FIRST_NAMES = List.of("George", "Janet", "Emma", "Eve", "Charles",
+         "Tracey", "Michael", "Lindsay", "Tobias", "Byron", "Rachel", "Lucas", "Mia", "Noah", "Ava", "Liam");
+   private static final List<String> LAST_NAMES = List.of("Bluth", "Weaver", "Wong", "Holt", "Morris", "Ramos",
+         "Lawson", "Ferguson", "Funke", "Fields", "Edwards", "Howell", "Novak", "Petrov", "Silva", "Kim");
+   private static final List<String> JOBS = List.of("Leader", "Senior", "Intermediate", "Junior", "Architect",
+         "Tester", "Analyst", "Operator");
+
+   private static final IdBlocks IDS = new IdBlocks(UNIQUE_IDS, BLOCK_SIZE);
+
+   private BulkData() {
+   }
+
+   /**
+    * Returns the user for an ID; the same seed and ID always produce an equal user.
+    *
+    * @param seed the generation seed
+    * @param id   the record ID, part of the name so that names are unique
+    * @return the user
+    */
+   public static CreateUserDto user(final long seed, final int id) {
+      SplittableRandom random = SeededRecords.random(seed, id);
+      return CreateUserDto.builder()
+            .name(SeededRecords.pick(random, FIRST_NAMES) + " " + SeededRecords.pick(random, LAST_NAMES) + " " + id)
+            .job(SeededRecords.pick(random, JOBS))
+            .build();
+   }
+
+   /**
+    * Lazily streams the users of an ID range, in ID order.
+    *
+    * @param seed  the generation seed
+    * @param range the IDs to generate
+    * @return a stream of {@code range.size()} distinct users
+    */
+   public static Stream<CreateUserDto> users(final long seed, final IdRange range) {
+      return IntStream.range(range.from(), range.to()).mapToObj(id -> user(seed, id));
+   }
+
+   /**
+    * Returns the next unused user of the current thread's ID block.
+    *
+    * @return a user no other thread of this JVM receives
+    * @throws IllegalStateException if every ID of {@link #UNIQUE_IDS} has been handed out
+    */
+   public static CreateUserDto nextUser() {
+      return user(SeededRecords.seed(), IDS.next());
+   }
+
+   /**
+    * Hands the unused IDs of the current thread's block back to {@link #nextUser()} of other
+    * threads.
+    */
+   public static void releaseIds() {
+      IDS.release();
+   }
+
+}
@@ -2,15 +2,17 @@ package io.cyborgcode.api.test.framework.data.creator;
 
 import io.cyborgcode.api.test.framework.api.dto.request.CreateUserDto;
 import io.cyborgcode.api.test.framework.api.dto.request.LoginDto;
-import io.cyborgcode.api.test.framework.api.dto.response.GetUsersDto;
 import io.cyborgcode.api.test.framework.api.dto.response.UserData;
+import io.cyborgcode.api.test.framework.api.response.JsonArrayStream;
 import io.cyborgcode.api.test.framework.data.constants.TestConstants;
+import io.cyborgcode.api.test.framework.data.storage.QuestStorage;
 import io.cyborgcode.api.test.framework.data.test_data.Data;
 import io.cyborgcode.roa.api.storage.StorageKeysApi;
 import io.cyborgcode.roa.framework.quest.QuestHolder;
 import io.cyborgcode.roa.framework.quest.SuperQuest;
 import io.cyborgcode.roa.framework.storage.StorageKeysTest;
 import io.restassured.response.Response;
+import java.util.Map;
 
 import static io.cyborgcode.api.test.framework.api.AppEndpoints.GET_ALL_USERS;
 import static io.cyborgcode.api.test.framework.base.Rings.RING_OF_API;
@@ -24,6 +26,8 @@ import static io.cyborgcode.api.test.framework.data.creator.DataCreator.USER_LEA
  * Provides centralized, reusable builders for test data objects used across examples.
  * Some factories are context-aware: they can read from the active {@link SuperQuest}
  * storage or trigger prerequisite calls (e.g. fetching users) to derive dynamic input.
+ * Prerequisite reference data is read through the suite-wide response cache, so it costs one
+ * HTTP call per suite rather than one per test.
  * <p>
  * This keeps test classes focused on behavior while delegating all data construction
  * and lookup logic to a single, maintainable location.
@@ -49,6 +53,13 @@ public final class DataCreatorFunctions {
             .build();
    }
 
+   /**
+    * A user no other test of the run receives, generated reproducibly by {@link BulkData}.
+    */
+   public static CreateUserDto uniqueUser() {
+      return BulkData.nextUser();
+   }
+
    public static CreateUserDto juniorUser() {
       SuperQuest quest = QuestHolder.get();
       UserData firstUser = firstUserFromGetAllUsersOrFetch(quest);
@@ -61,7 +72,7 @@ public final class DataCreatorFunctions {
    public static CreateUserDto seniorUser() {
       SuperQuest quest = QuestHolder.get();
       CreateUserDto userLeader =
-            leaderUserFromStorageOrDefault(quest, StorageKeysTest.ARGUMENTS); // encapsulated try/catch
+            leaderUserFromStorageOrDefault(quest, StorageKeysTest.ARGUMENTS);
       return CreateUserDto.builder()
             .name("Mr. " + userLeader.getName())
             .job("Senior " + userLeader.getJob())
@@ -71,7 +82,7 @@ public final class DataCreatorFunctions {
    public static CreateUserDto intermediateUser() {
       SuperQuest quest = QuestHolder.get();
       CreateUserDto userLeader =
-            leaderUserFromStorageOrDefault(quest, StorageKeysTest.PRE_ARGUMENTS); // encapsulated try/catch
+            leaderUserFromStorageOrDefault(quest, StorageKeysTest.PRE_ARGUMENTS);
       return CreateUserDto.builder()
             .name("Mr. " + userLeader.getName())
             .job("Intermediate " + userLeader.getJob())
@@ -79,33 +90,20 @@ public final class DataCreatorFunctions {
    }
 
    private static UserData firstUserFromGetAllUsersOrFetch(SuperQuest quest) {
-      try {
-         return extractFirstUserFromGetAllUsers(quest);
-      } catch (Exception ignored) {
-         quest.use(RING_OF_API)
-               .request(GET_ALL_USERS.withQueryParam(PAGE_PARAM, PAGE_TWO));
-         return extractFirstUserFromGetAllUsers(quest);
-      }
+      return QuestStorage.tryGet(quest, StorageKeysApi.API, GET_ALL_USERS, Response.class)
+            .flatMap(JsonArrayStream::firstUser)
+            .or(() -> {
+               Response users = quest.use(RING_OF_API).cachedGet(GET_ALL_USERS, Map.of(PAGE_PARAM, PAGE_TWO));
+               QuestStorage.put(quest, StorageKeysApi.API, GET_ALL_USERS, users);
+               return JsonArrayStream.firstUser(users);
+            })
+            .orElseThrow(() -> new IllegalStateException(
+                  "GET_ALL_USERS page " + PAGE_TWO + " returned no users to derive the junior user from"));
    }
 
    private static CreateUserDto leaderUserFromStorageOrDefault(SuperQuest quest, StorageKeysTest storageArea) {
-      try {
-         return quest.getStorage()
-               .sub(storageArea)
-               .get(USER_LEADER, CreateUserDto.class);
-      } catch (Exception ignored) {
-         return leaderUser();
-      }
-   }
-
-   private static UserData extractFirstUserFromGetAllUsers(SuperQuest quest) {
-      return quest.getStorage()
-            .sub(StorageKeysApi.API)
-            .get(GET_ALL_USERS, Response.class)
-            .getBody()
-            .as(GetUsersDto.class)
-            .getData()
-            .get(0);
+      return QuestStorage.getOrDefault(quest, storageArea, USER_LEADER, CreateUserDto.class,
+            DataCreatorFunctions::leaderUser);
    }
 
 }
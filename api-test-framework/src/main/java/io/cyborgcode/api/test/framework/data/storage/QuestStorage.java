@@ -0,0 +1,148 @@
+package io.cyborgcode.api.test.framework.data.storage;
+
+import io.cyborgcode.api.test.framework.api.retry.RetrySignal;
+import io.cyborgcode.roa.framework.quest.SuperQuest;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Exception-free lookups on a quest's storage.
+ * <p>
+ * Code that may run before a value was stored (crafted models, preconditions, cleanup)
+ * used to detect a missing key by catching the exception thrown while dereferencing the
+ * lookup result, which builds a stack trace on a hot path. The methods here report a miss as
+ * {@link Optional#empty()} instead:
+ * </p>
+ * <ul>
+ *   <li>lookups go straight to the keyed sub-area (e.g. {@code StorageKeysApi.API},
+ *       {@code StorageKeysTest.PRE_ARGUMENTS}), so a lookup is a single keyed read,</li>
+ *   <li>a value of an unexpected type is reported as a miss rather than a
+ *       {@link ClassCastException},</li>
+ *   <li>every {@link #put} and {@link #publish} fires the quest's {@link #signal(SuperQuest)},
+ *       so a {@code retryUntil} waiting on that signal re-checks as soon as a value is written
+ *       rather than by polling.</li>
+ * </ul>
+ * <p>
+ * The quest's storage itself is not thread-safe and is also written by ROA's own steps, so
+ * {@link #tryGet}, {@link #getOrDefault} and {@link #put} belong on the test thread. Forked
+ * work (executor tasks, completion callbacks) never touches it: it hands values over through
+ * {@link #publish} and {@link #tryGetPublished}, which use a concurrent store owned by this
+ * class, one per quest, that lives as long as the quest's storage.
+ * </p>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class QuestStorage {
+
+   private static final Map<Object, RetrySignal> SIGNALS = Collections.synchronizedMap(new WeakHashMap<>());
+   private static final Map<Object, ConcurrentMap<Slot, Object>> PUBLISHED =
+         Collections.synchronizedMap(new WeakHashMap<>());
+
+   private QuestStorage() {
+   }
+
+   /**
+    * Looks up a value without throwing on a missing key.
+    *
+    * @param quest the quest owning the storage
+    * @param area  the storage sub-area, e.g. {@code StorageKeysApi.API}
+    * @param key   the key within the sub-area
+    * @param type  the expected value type
+    * @param <T>   the expected value type
+    * @return the stored value, or empty if nothing of that type is stored under the key
+    */
+   public static <T> Optional<T> tryGet(final SuperQuest quest, final Enum<?> area, final Enum<?> key,
+                                        final Class<T> type) {
+      return typed(quest.getStorage().sub(area).get(key, Object.class), type);
+   }
+
+   /**
+    * Looks up a value, falling back to a default when it is missing.
+    *
+    * @param quest    the quest owning the storage
+    * @param area     the storage sub-area
+    * @param key      the key within the sub-area
+    * @param type     the expected value type
+    * @param fallback supplies the value to use when nothing is stored
+    * @param <T>      the expected value type
+    * @return the stored value or the fallback
+    */
+   public static <T> T getOrDefault(final SuperQuest quest, final Enum<?> area, final Enum<?> key,
+                                    final Class<T> type, final Supplier<? extends T> fallback) {
+      return tryGet(quest, area, key, type).orElseGet(fallback);
+   }
+
+   /**
+    * Stores a value in the quest's storage and fires the quest's {@link #signal(SuperQuest)}.
+    *
+    * @param quest the quest owning the storage
+    * @param area  the storage sub-area
+    * @param key   the key within the sub-area
+    * @param value the value to store
+    */
+   public static void put(final SuperQuest quest, final Enum<?> area, final Enum<?> key, final Object value) {
+      quest.getStorage().sub(area).put(key, value);
+      signal(quest).signal();
+   }
+
+   /**
+    * Hands a value over from forked work: stores it in the quest's concurrent store, never in
+    * the quest's storage, and fires the quest's {@link #signal(SuperQuest)}. Safe from any thread.
+    *
+    * @param quest the quest the work was forked from
+    * @param area  the sub-area, e.g. an enum of the forked job
+    * @param key   the key within the sub-area
+    * @param value the value to publish
+    */
+   public static void publish(final SuperQuest quest, final Enum<?> area, final Enum<?> key, final Object value) {
+      published(quest).put(new Slot(area, key), value);
+      signal(quest).signal();
+   }
+
+   /**
+    * Looks up a value handed over by {@link #publish}. Safe from any thread.
+    *
+    * @param quest the quest the work was forked from
+    * @param area  the sub-area
+    * @param key   the key within the sub-area
+    * @param type  the expected value type
+    * @param <T>   the expected value type
+    * @return the published value, or empty if nothing of that type was published under the key
+    */
+   public static <T> Optional<T> tryGetPublished(final SuperQuest quest, final Enum<?> area, final Enum<?> key,
+                                                 final Class<T> type) {
+      return typed(published(quest).get(new Slot(area, key)), type);
+   }
+
+   /**
+    * Returns the signal fired by every {@link #put} and {@link #publish} for the quest, for
+    * {@code retryUntil(condition, maxWait, signal)} waits on values handed over by forked work.
+    *
+    * @param quest the quest owning the storage
+    * @return the quest's storage signal
+    */
+   public static RetrySignal signal(final SuperQuest quest) {
+      return SIGNALS.computeIfAbsent(monitor(quest), storage -> new RetrySignal());
+   }
+
+   private static ConcurrentMap<Slot, Object> published(final SuperQuest quest) {
+      return PUBLISHED.computeIfAbsent(monitor(quest), storage -> new ConcurrentHashMap<>());
+   }
+
+   private static <T> Optional<T> typed(final Object value, final Class<T> type) {
+      return type.isInstance(value) ? Optional.of(type.cast(value)) : Optional.empty();
+   }
+
+   private static Object monitor(final SuperQuest quest) {
+      return quest.getStorage();
+   }
+
+   private record Slot(Enum<?> area, Enum<?> key) {
+   }
+
+}
@@ -1,13 +1,12 @@
 package io.cyborgcode.api.test.framework.data.test_data;
 
-import org.aeonbits.owner.ConfigCache;
-
 /**
  * Convenience accessor for test data configuration.
  * <p>
  * Provides a static factory method to retrieve the singleton {@link DataProperties}
- * instance, which is backed by the OWNER library's {@link ConfigCache}. This ensures
- * that configuration is loaded once and reused across all test executions.
+ * instance, an {@code ImmutableDataProperties} generated at compile time from the interface's
+ * Owner annotations. Its sources are read once per JVM and every getter is a plain field
+ * read, so no proxy is built and no cache lookup happens on access.
  * </p>
  * <p>
  * Usage:
@@ -30,11 +29,7 @@ public final class Data {
    }
 
    public static DataProperties testData() {
-      return getTestDataConfig();
-   }
-
-   private static DataProperties getTestDataConfig() {
-      return ConfigCache.getOrCreate(DataProperties.class);
+      return ImmutableDataProperties.instance();
    }
 
 }
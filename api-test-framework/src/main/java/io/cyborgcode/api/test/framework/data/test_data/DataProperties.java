@@ -1,5 +1,6 @@
 package io.cyborgcode.api.test.framework.data.test_data;
 
+import io.cyborgcode.config.StaticConfig;
 import io.cyborgcode.utilities.config.ConfigSource;
 import io.cyborgcode.utilities.config.PropertyConfig;
 import org.aeonbits.owner.Config;
@@ -19,9 +20,13 @@ import org.aeonbits.owner.Config;
  * </ul>
  * This allows the tests to read configuration in a consistent,
  * framework-friendly way without hardcoding values in the test code.
+ * <p>
+ * {@link StaticConfig} generates {@code ImmutableDataProperties} at compile time, which
+ * {@link Data#testData()} hands out instead of an Owner proxy.
  *
  * @author Cyborg Code Syndicate 💍👨💻
  */
+@StaticConfig
 @ConfigSource("test-config")
 @Config.LoadPolicy(Config.LoadType.MERGE)
 @Config.Sources({"system:properties", "classpath:${test.data.file}.properties"})
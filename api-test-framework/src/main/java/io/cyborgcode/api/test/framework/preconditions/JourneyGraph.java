@@ -0,0 +1,114 @@
+package io.cyborgcode.api.test.framework.preconditions;
+
+import io.cyborgcode.api.test.framework.api.ApiRequest;
+import io.cyborgcode.roa.framework.quest.SuperQuest;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static io.cyborgcode.api.test.framework.base.Rings.RING_OF_API;
+
+/**
+ * Dependency graph of precondition steps, executed with maximal concurrency.
+ * <p>
+ * Stacked {@code @Journey} annotations always run one after another, ordered by
+ * {@code order}, even when no data flows between them. A graph instead lets every step declare
+ * the steps it depends on:
+ * </p>
+ * <ul>
+ *   <li>steps whose dependencies are satisfied form a wave; all requests of a wave are sent
+ *       concurrently through {@code requestAllAndValidate},</li>
+ *   <li>a step's requests are built only when its wave starts, so they can read what earlier
+ *       waves stored in the quest,</li>
+ *   <li>within a wave, responses are stored and validated in declaration order, keeping
+ *       storage contents deterministic.</li>
+ * </ul>
+ * <pre>{@code
+ * JourneyGraph.create()
+ *       .step("leader", q -> List.of(ApiRequest.of(POST_CREATE_USER, leader, created)))
+ *       .step("junior", q -> List.of(ApiRequest.of(POST_CREATE_USER, junior, created)))
+ *       .step("login", q -> List.of(ApiRequest.of(POST_LOGIN_USER, login, ok)), "leader")
+ *       .run(quest);
+ * }</pre>
+ * Here {@code leader} and {@code junior} run concurrently, and {@code login} runs after
+ * {@code leader} completed.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class JourneyGraph {
+
+   private final Map<String, Step> steps = new LinkedHashMap<>();
+
+   private JourneyGraph() {
+   }
+
+   public static JourneyGraph create() {
+      return new JourneyGraph();
+   }
+
+   /**
+    * Declares a step.
+    *
+    * @param name      the unique step name
+    * @param requests  builds the step's requests when its wave starts
+    * @param dependsOn names of steps that must complete first; they must already be declared
+    * @return this graph for chaining
+    * @throws IllegalArgumentException if the name is taken or a dependency is unknown
+    */
+   public JourneyGraph step(final String name, final Function<SuperQuest, List<ApiRequest>> requests,
+                            final String... dependsOn) {
+      if (steps.containsKey(name)) {
+         throw new IllegalArgumentException("Duplicate journey step: " + name);
+      }
+      for (String dependency : dependsOn) {
+         if (!steps.containsKey(dependency)) {
+            throw new IllegalArgumentException(
+                  "Journey step '" + name + "' depends on undeclared step '" + dependency + "'");
+         }
+      }
+      steps.put(name, new Step(requests, new LinkedHashSet<>(List.of(dependsOn))));
+      return this;
+   }
+
+   /**
+    * Executes all steps, one wave of independent steps at a time.
+    *
+    * @param quest the quest to run the steps in
+    */
+   public void run(final SuperQuest quest) {
+      for (List<Step> wave : waves()) {
+         List<ApiRequest> requests = new ArrayList<>();
+         for (Step step : wave) {
+            requests.addAll(step.requests().apply(quest));
+         }
+         quest.use(RING_OF_API).requestAllAndValidate(requests);
+      }
+   }
+
+   /**
+    * Groups the steps into waves: each step lands in the first wave after all of its
+    * dependencies. Dependencies can only point to earlier declarations, so the graph is
+    * acyclic by construction.
+    */
+   private List<List<Step>> waves() {
+      Map<String, Integer> depth = new LinkedHashMap<>();
+      List<List<Step>> waves = new ArrayList<>();
+      steps.forEach((name, step) -> {
+         int wave = step.dependsOn().stream().mapToInt(depth::get).map(d -> d + 1).max().orElse(0);
+         depth.put(name, wave);
+         while (waves.size() <= wave) {
+            waves.add(new ArrayList<>());
+         }
+         waves.get(wave).add(step);
+      });
+      return waves;
+   }
+
+   private record Step(Function<SuperQuest, List<ApiRequest>> requests, Set<String> dependsOn) {
+   }
+
+}
@@ -1,14 +1,27 @@
 package io.cyborgcode.api.test.framework.preconditions;
 
+import io.cyborgcode.api.test.framework.api.ApiRequest;
 import io.cyborgcode.api.test.framework.api.dto.request.CreateUserDto;
+import io.cyborgcode.api.test.framework.api.dto.response.UserData;
+import io.cyborgcode.api.test.framework.api.response.JsonArrayStream;
+import io.cyborgcode.api.test.framework.data.storage.QuestStorage;
+import io.cyborgcode.roa.api.storage.StorageKeysApi;
 import io.cyborgcode.roa.framework.quest.SuperQuest;
 import io.cyborgcode.roa.validator.core.Assertion;
+import io.restassured.response.Response;
+import java.util.List;
 
 import static io.cyborgcode.api.test.framework.base.Rings.RING_OF_API;
+import static io.cyborgcode.api.test.framework.api.AppEndpoints.GET_ALL_USERS;
+import static io.cyborgcode.api.test.framework.api.AppEndpoints.GET_USER;
 import static io.cyborgcode.api.test.framework.api.AppEndpoints.POST_CREATE_USER;
+import static io.cyborgcode.api.test.framework.data.constants.PathVariables.ID_PARAM;
+import static io.cyborgcode.api.test.framework.data.constants.QueryParams.PAGE_PARAM;
+import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Pagination.PAGE_TWO;
 import static io.cyborgcode.roa.api.validator.RestAssertionTarget.STATUS;
 import static io.cyborgcode.roa.validator.core.AssertionTypes.IS;
 import static org.apache.http.HttpStatus.SC_CREATED;
+import static org.apache.http.HttpStatus.SC_OK;
 
 /**
  * Implementation of reusable precondition routines referenced by {@link Preconditions}.
@@ -36,4 +49,44 @@ public final class PreconditionFunctions {
                   Assertion.builder().target(STATUS).type(IS).expected(SC_CREATED).build());
    }
 
+   /**
+    * Creates every given user concurrently. The users are independent of each other, so no
+    * {@code order} is needed between them; the last one is left in storage, as if the users
+    * had been created one after another.
+    */
+   public static void createNewUsers(SuperQuest quest, Object... objects) {
+      JourneyGraph graph = JourneyGraph.create();
+      for (int i = 0; i < objects.length; i++) {
+         CreateUserDto user = (CreateUserDto) objects[i];
+         graph.step("user-" + i, q -> List.of(ApiRequest.of(POST_CREATE_USER, user,
+               Assertion.builder().target(STATUS).type(IS).expected(SC_CREATED).build())));
+      }
+      graph.run(quest);
+   }
+
+   /**
+    * Creates every given user and lists page two of the users concurrently, then loads the
+    * first listed user by the ID read from the stored list, i.e. in a second wave that depends on
+    * the list step only.
+    */
+   public static void createNewUsersAndLoadListedUser(SuperQuest quest, Object... objects) {
+      JourneyGraph graph = JourneyGraph.create()
+            .step("users-page", q -> List.of(ApiRequest.of(GET_ALL_USERS.withQueryParam(PAGE_PARAM, PAGE_TWO),
+                  Assertion.builder().target(STATUS).type(IS).expected(SC_OK).build())));
+      for (int i = 0; i < objects.length; i++) {
+         CreateUserDto user = (CreateUserDto) objects[i];
+         graph.step("user-" + i, q -> List.of(ApiRequest.of(POST_CREATE_USER, user,
+               Assertion.builder().target(STATUS).type(IS).expected(SC_CREATED).build())));
+      }
+      graph.step("listed-user", q -> List.of(ApiRequest.of(GET_USER.withPathParam(ID_PARAM, firstListedUser(q).getId()),
+            Assertion.builder().target(STATUS).type(IS).expected(SC_OK).build())), "users-page");
+      graph.run(quest);
+   }
+
+   private static UserData firstListedUser(SuperQuest quest) {
+      return QuestStorage.tryGet(quest, StorageKeysApi.API, GET_ALL_USERS, Response.class)
+            .flatMap(JsonArrayStream::firstUser)
+            .orElseThrow(() -> new IllegalStateException("The users-page step stored no listed user"));
+   }
+
 }
@@ -25,7 +25,9 @@ import java.util.function.BiConsumer;
  */
 public enum Preconditions implements PreQuestJourney<Preconditions> {
 
-   CREATE_NEW_USER(PreconditionFunctions::createNewUser);
+   CREATE_NEW_USER(PreconditionFunctions::createNewUser),
+   CREATE_NEW_USERS(PreconditionFunctions::createNewUsers),
+   CREATE_NEW_USERS_AND_LOAD_LISTED_USER(PreconditionFunctions::createNewUsersAndLoadListedUser);
 
    public static final class Data {
 
@@ -33,6 +35,8 @@ public enum Preconditions implements PreQuestJourney<Preconditions> {
       }
 
       public static final String CREATE_NEW_USER = "CREATE_NEW_USER";
+      public static final String CREATE_NEW_USERS = "CREATE_NEW_USERS";
+      public static final String CREATE_NEW_USERS_AND_LOAD_LISTED_USER = "CREATE_NEW_USERS_AND_LOAD_LISTED_USER";
 
    }
 
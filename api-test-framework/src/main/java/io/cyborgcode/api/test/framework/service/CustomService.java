@@ -81,10 +81,8 @@ public class CustomService extends FluentService {
             .requestAndValidate(
                   GET_USER
                         .withPathParam(ID_PARAM, ID_THREE)
-                        .withHeader(EXAMPLE_HEADER, quest.getStorage().sub(StorageKeysApi.API).get(POST_LOGIN_USER, Response.class)
-                              .getBody()
-                              .jsonPath()
-                              .getString(TOKEN.getJsonPath())),
+                        .withHeader(EXAMPLE_HEADER, TOKEN.<String>extract(
+                              quest.getStorage().sub(StorageKeysApi.API).get(POST_LOGIN_USER, Response.class))),
                   Assertion.builder().target(STATUS).type(IS).expected(SC_OK).build()
             );
       return this;
@@ -0,0 +1,351 @@
+package io.cyborgcode.api.test.framework.stub;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.cyborgcode.api.test.framework.api.AppEndpoints;
+import io.cyborgcode.api.test.framework.api.concurrent.ApiExecutor;
+import io.cyborgcode.api.test.framework.api.dto.request.CreateUserDto;
+import io.cyborgcode.api.test.framework.api.dto.request.LoginDto;
+import io.cyborgcode.api.test.framework.api.dto.response.CreatedUserDto;
+import io.cyborgcode.api.test.framework.api.dto.response.GetUsersDto;
+import io.cyborgcode.api.test.framework.api.dto.response.Support;
+import io.cyborgcode.api.test.framework.api.dto.response.UserData;
+import io.cyborgcode.api.test.framework.api.dto.response.UserDto;
+import io.cyborgcode.api.test.framework.config.Performance;
+import io.cyborgcode.api.test.framework.config.PerformanceProperties;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process HTTP stub of the reqres.in endpoints used by {@link AppEndpoints}.
+ * <p>
+ * Performance runs need a deterministic backend without network noise, so that the measured
+ * time is framework overhead only. This stub serves the same JSON shapes as
+ * {@link GetUsersDto}, {@link UserDto} and {@link CreatedUserDto} from a fixed data set of
+ * twelve users, paged six at a time like reqres:
+ * </p>
+ * <ul>
+ *   <li>{@code GET /api/users?page=n} and {@code GET /api/users/{id}},</li>
+ *   <li>{@code POST /api/users} and {@code DELETE /api/users/{id}},</li>
+ *   <li>{@code POST /api/login}, which only accepts {@code eve.holt@reqres.in}.</li>
+ * </ul>
+ * The stub is started by {@link #ensureStarted()} when {@code stub.server.enabled=true}
+ * (see the {@code local} Maven profile). Latency is configurable per endpoint through
+ * {@code stub.latency.ms}, e.g. {@code GET_USER=25,GET_ALL_USERS=40}, falling back to
+ * {@code stub.latency.default.ms}. Successful {@code GET}s carry an {@code ETag} and
+ * {@code Cache-Control: max-age=60} and answer a matching {@code If-None-Match} with
+ * {@code 304 Not Modified}, like reqres behind its CDN.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class ReqresStubServer {
+
+   private static final String BASE_PATH = "/api";
+   private static final String JSON = "application/json; charset=utf-8";
+   private static final String CACHE_CONTROL = "max-age=60";
+   private static final String LOGIN_EMAIL = "eve.holt@reqres.in";
+   private static final String LOGIN_TOKEN = "QpwL5tke4Pnpja7X4";
+   private static final int PER_PAGE = 6;
+   private static final int OK = 200;
+   private static final int CREATED = 201;
+   private static final int NO_CONTENT = 204;
+   private static final int NOT_MODIFIED = 304;
+   private static final int BAD_REQUEST = 400;
+   private static final int NOT_FOUND = 404;
+   private static final int METHOD_NOT_ALLOWED = 405;
+
+   private static final Support SUPPORT = Support.builder()
+         .url("https://contentcaddy.io?utm_source=reqres&utm_medium=json&utm_campaign=referral")
+         .text("Tired of writing endless social media content? Let Content Caddy generate it for you.")
+         .build();
+
+   private static final List<UserData> USERS = List.of(
+         user(1, "George", "Bluth"),
+         user(2, "Janet", "Weaver"),
+         user(3, "Emma", "Wong"),
+         user(4, "Eve", "Holt"),
+         user(5, "Charles", "Morris"),
+         user(6, "Tracey", "Ramos"),
+         user(7, "Michael", "Lawson"),
+         user(8, "Lindsay", "Ferguson"),
+         user(9, "Tobias", "Funke"),
+         user(10, "Byron", "Fields"),
+         user(11, "George", "Edwards"),
+         user(12, "Rachel", "Howell"));
+
+   private static ReqresStubServer running;
+
+   private final ObjectMapper mapper = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+   private final AtomicInteger createdIds = new AtomicInteger(100);
+   private final Set<InetSocketAddress> clients = ConcurrentHashMap.newKeySet();
+   private final LongAdder requests = new LongAdder();
+   private final Map<AppEndpoints, Long> latenciesMs;
+   private final HttpServer server;
+   private final ExecutorService workers;
+
+   private ReqresStubServer(final int port, final Map<AppEndpoints, Long> latenciesMs) {
+      this.latenciesMs = latenciesMs;
+      try {
+         this.server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+      } catch (IOException e) {
+         throw new UncheckedIOException("Could not bind reqres stub to port " + port, e);
+      }
+      this.workers = ApiExecutor.unbounded("reqres-stub-");
+      server.setExecutor(workers);
+      server.createContext(BASE_PATH + "/users", this::users);
+      server.createContext(BASE_PATH + "/login", this::login);
+   }
+
+   /**
+    * Starts a stub on the given port.
+    *
+    * @param port        the local port to bind, {@code 0} for an ephemeral one
+    * @param latenciesMs artificial latency per endpoint; missing endpoints respond immediately
+    * @return the running stub
+    */
+   public static ReqresStubServer start(final int port, final Map<AppEndpoints, Long> latenciesMs) {
+      ReqresStubServer stub = new ReqresStubServer(port, new EnumMap<>(latenciesMs));
+      stub.server.start();
+      return stub;
+   }
+
+   /**
+    * Starts the JVM-wide stub configured in {@link PerformanceProperties}, once.
+    * Does nothing unless {@code stub.server.enabled=true}.
+    */
+   public static synchronized void ensureStarted() {
+      PerformanceProperties config = Performance.config();
+      if (running != null || !config.stubServerEnabled()) {
+         return;
+      }
+      ReqresStubServer stub = start(config.stubServerPort(), latencies(config));
+      Runtime.getRuntime().addShutdownHook(new Thread(stub::stop, "reqres-stub-shutdown"));
+      running = stub;
+   }
+
+   /**
+    * Returns the JVM-wide stub started by {@link #ensureStarted()}, if any.
+    */
+   public static synchronized Optional<ReqresStubServer> running() {
+      return Optional.ofNullable(running);
+   }
+
+   /**
+    * Number of distinct client connections that sent at least one request since the stub
+    * started, told apart by their remote address.
+    */
+   public int connectionsSeen() {
+      return clients.size();
+   }
+
+   /**
+    * Number of requests the stub has received since it started, including {@code 304}s.
+    */
+   public long requestsServed() {
+      return requests.sum();
+   }
+
+   public int port() {
+      return server.getAddress().getPort();
+   }
+
+   public void stop() {
+      server.stop(0);
+      workers.shutdownNow();
+   }
+
+   private void users(final HttpExchange exchange) throws IOException {
+      clients.add(exchange.getRemoteAddress());
+      requests.increment();
+      String path = exchange.getRequestURI().getPath();
+      String id = path.length() > (BASE_PATH + "/users/").length()
+            ? path.substring((BASE_PATH + "/users/").length())
+            : null;
+      String method = exchange.getRequestMethod();
+
+      if (id == null && "GET".equals(method)) {
+         delay(AppEndpoints.GET_ALL_USERS);
+         sendCacheable(exchange, page(queryInt(exchange.getRequestURI(), "page", 1)));
+      } else if (id == null && "POST".equals(method)) {
+         delay(AppEndpoints.POST_CREATE_USER);
+         CreateUserDto request = read(exchange, CreateUserDto.class);
+         send(exchange, CREATED, CreatedUserDto.builder()
+               .name(request.getName())
+               .job(request.getJob())
+               .id(String.valueOf(createdIds.incrementAndGet()))
+               .createdAt(Instant.now().toString())
+               .build());
+      } else if (id != null && "GET".equals(method)) {
+         delay(AppEndpoints.GET_USER);
+         UserData user = findUser(id);
+         if (user == null) {
+            send(exchange, NOT_FOUND, Map.of());
+         } else {
+            sendCacheable(exchange, UserDto.builder().data(user).support(SUPPORT).build());
+         }
+      } else if (id != null && "DELETE".equals(method)) {
+         delay(AppEndpoints.DELETE_USER);
+         send(exchange, NO_CONTENT, null);
+      } else {
+         send(exchange, METHOD_NOT_ALLOWED, null);
+      }
+   }
+
+   private void login(final HttpExchange exchange) throws IOException {
+      clients.add(exchange.getRemoteAddress());
+      requests.increment();
+      if (!"POST".equals(exchange.getRequestMethod())) {
+         send(exchange, METHOD_NOT_ALLOWED, null);
+         return;
+      }
+      delay(AppEndpoints.POST_LOGIN_USER);
+      LoginDto request = read(exchange, LoginDto.class);
+      if (isBlank(request.getEmail())) {
+         send(exchange, BAD_REQUEST, Map.of("error", "Missing email or username"));
+      } else if (isBlank(request.getPassword())) {
+         send(exchange, BAD_REQUEST, Map.of("error", "Missing password"));
+      } else if (!LOGIN_EMAIL.equals(request.getEmail())) {
+         send(exchange, BAD_REQUEST, Map.of("error", "user not found"));
+      } else {
+         send(exchange, OK, Map.of("token", LOGIN_TOKEN));
+      }
+   }
+
+   private static GetUsersDto page(final int page) {
+      int from = Math.min(Math.max(page - 1, 0) * PER_PAGE, USERS.size());
+      int to = Math.min(from + PER_PAGE, USERS.size());
+      return GetUsersDto.builder()
+            .page(page)
+            .perPage(PER_PAGE)
+            .total(USERS.size())
+            .totalPages((USERS.size() + PER_PAGE - 1) / PER_PAGE)
+            .data(USERS.subList(from, to))
+            .support(SUPPORT)
+            .build();
+   }
+
+   private static UserData findUser(final String id) {
+      try {
+         int userId = Integer.parseInt(id);
+         return userId >= 1 && userId <= USERS.size() ? USERS.get(userId - 1) : null;
+      } catch (NumberFormatException e) {
+         return null;
+      }
+   }
+
+   private void delay(final AppEndpoints endpoint) {
+      long millis = latenciesMs.getOrDefault(endpoint, 0L);
+      if (millis <= 0) {
+         return;
+      }
+      try {
+         Thread.sleep(millis);
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+      }
+   }
+
+   private <T> T read(final HttpExchange exchange, final Class<T> type) throws IOException {
+      try (InputStream body = exchange.getRequestBody()) {
+         byte[] bytes = body.readAllBytes();
+         return bytes.length == 0 ? mapper.readValue("{}", type) : mapper.readValue(bytes, type);
+      }
+   }
+
+   private void send(final HttpExchange exchange, final int status, final Object payload) throws IOException {
+      if (payload == null) {
+         exchange.sendResponseHeaders(status, -1);
+         exchange.close();
+         return;
+      }
+      byte[] bytes = mapper.writeValueAsBytes(payload);
+      exchange.getResponseHeaders().set("Content-Type", JSON);
+      exchange.sendResponseHeaders(status, bytes.length);
+      try (OutputStream body = exchange.getResponseBody()) {
+         body.write(bytes);
+      }
+   }
+
+   private void sendCacheable(final HttpExchange exchange, final Object payload) throws IOException {
+      byte[] bytes = mapper.writeValueAsBytes(payload);
+      String etag = "\"" + Integer.toHexString(Arrays.hashCode(bytes)) + "\"";
+      exchange.getResponseHeaders().set("ETag", etag);
+      exchange.getResponseHeaders().set("Cache-Control", CACHE_CONTROL);
+      if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+         exchange.sendResponseHeaders(NOT_MODIFIED, -1);
+         exchange.close();
+         return;
+      }
+      exchange.getResponseHeaders().set("Content-Type", JSON);
+      exchange.sendResponseHeaders(OK, bytes.length);
+      try (OutputStream body = exchange.getResponseBody()) {
+         body.write(bytes);
+      }
+   }
+
+   private static int queryInt(final URI uri, final String name, final int fallback) {
+      String query = uri.getRawQuery();
+      if (query == null) {
+         return fallback;
+      }
+      for (String pair : query.split("&")) {
+         int separator = pair.indexOf('=');
+         if (separator > 0 && pair.substring(0, separator).equals(name)) {
+            try {
+               return Integer.parseInt(pair.substring(separator + 1));
+            } catch (NumberFormatException e) {
+               return fallback;
+            }
+         }
+      }
+      return fallback;
+   }
+
+   private static Map<AppEndpoints, Long> latencies(final PerformanceProperties config) {
+      Map<AppEndpoints, Long> latencies = new EnumMap<>(AppEndpoints.class);
+      for (AppEndpoints endpoint : AppEndpoints.values()) {
+         latencies.put(endpoint, config.stubDefaultLatencyMs());
+      }
+      for (String entry : config.stubLatenciesMs()) {
+         int separator = entry.indexOf('=');
+         if (separator < 0) {
+            continue;
+         }
+         AppEndpoints endpoint = AppEndpoints.valueOf(entry.substring(0, separator).trim());
+         latencies.put(endpoint, Long.parseLong(entry.substring(separator + 1).trim()));
+      }
+      return latencies;
+   }
+
+   private static boolean isBlank(final String value) {
+      return value == null || value.isBlank();
+   }
+
+   private static UserData user(final int id, final String firstName, final String lastName) {
+      return UserData.builder()
+            .id(id)
+            .email(firstName.toLowerCase() + "." + lastName.toLowerCase() + "@reqres.in")
+            .firstName(firstName)
+            .lastName(lastName)
+            .avatar("https://reqres.in/img/faces/" + id + "-image.jpg")
+            .build();
+   }
+
+}
@@ -1,5 +1,6 @@
 package io.cyborgcode.api.test.framework;
 
+import io.cyborgcode.api.test.framework.api.ApiRequest;
 import io.cyborgcode.api.test.framework.api.authentication.AdminAuth;
 import io.cyborgcode.api.test.framework.api.authentication.AppAuth;
 import io.cyborgcode.api.test.framework.api.dto.request.CreateUserDto;
@@ -8,9 +9,12 @@ import io.cyborgcode.api.test.framework.api.dto.response.CreatedUserDto;
 import io.cyborgcode.api.test.framework.api.dto.response.GetUsersDto;
 import io.cyborgcode.api.test.framework.api.dto.response.UserData;
 import io.cyborgcode.api.test.framework.api.dto.response.UserDto;
+import io.cyborgcode.api.test.framework.api.response.JsonArrayStream;
 import io.cyborgcode.api.test.framework.data.cleaner.DataCleaner;
+import io.cyborgcode.api.test.framework.data.creator.BulkData;
 import io.cyborgcode.api.test.framework.data.creator.DataCreator;
 import io.cyborgcode.api.test.framework.preconditions.Preconditions;
+import io.cyborgcode.bulk.SeededRecords;
 import io.cyborgcode.roa.api.annotations.API;
 import io.cyborgcode.roa.api.annotations.AuthenticateViaApi;
 import io.cyborgcode.roa.api.storage.StorageKeysApi;
@@ -27,6 +31,8 @@ import io.cyborgcode.roa.validator.core.Assertion;
 import io.qameta.allure.Description;
 import io.restassured.response.Response;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import static io.cyborgcode.api.test.framework.api.AppEndpoints.GET_ALL_USERS;
@@ -37,6 +43,7 @@ import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPa
 import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.CREATE_USER_NAME_RESPONSE;
 import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.DATA;
 import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.PER_PAGE;
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.SINGLE_USER_EMAIL_EXPLICIT;
 import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.SUPPORT_TEXT;
 import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.SUPPORT_URL;
 import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.TOKEN;
@@ -60,6 +67,7 @@ import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Page
 import static io.cyborgcode.api.test.framework.data.constants.TestConstants.PageTwo.PAGE_TWO_DATA_SIZE;
 import static io.cyborgcode.api.test.framework.data.constants.TestConstants.PageTwo.PAGE_TWO_EXPECTED_USERS;
 import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Pagination.PAGE_TWO;
+import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Pagination.TOTAL_USERS;
 import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Pagination.TOTAL_USERS_IN_PAGE_RANGE;
 import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Roles.USER_INTERMEDIATE_JOB;
 import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Roles.USER_INTERMEDIATE_NAME;
@@ -100,6 +108,7 @@ import static io.restassured.http.ContentType.JSON;
 import static java.time.ZoneOffset.UTC;
 import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE;
 import static org.apache.http.HttpHeaders.CONTENT_TYPE;
+import static org.apache.http.HttpHeaders.DATE;
 import static org.apache.http.HttpStatus.SC_CREATED;
 import static org.apache.http.HttpStatus.SC_OK;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -115,7 +124,12 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  * - {@link Craft} and {@link Late} for request model creation
  * - dynamic path/header values from previous responses
  * - {@link AuthenticateViaApi}, {@link Journey}, and {@link Ripper} flows
- * - usage of a custom ring ({@code RING_OF_CUSTOM}) for reusable services.
+ * - usage of a custom ring ({@code RING_OF_CUSTOM}) for reusable services
+ * - concurrent batches of independent requests via {@code requestAllAndValidate}
+ * - crawling every page of a list endpoint via {@code requestAllPages}
+ * - independent {@link Journey} users created concurrently via {@code CREATE_NEW_USERS}
+ * - seeded, collision-free request models via {@code USER_UNIQUE}
+ * - header assertions that hold with {@code api.storage.compact.enabled=true} as well.
  *
  * @author Cyborg Code Syndicate 💍👨💻
  */
@@ -153,6 +167,55 @@ class AdvancedExamplesTest extends BaseQuest {
             .complete();
    }
 
+   @Test
+   @Smoke
+   @Regression
+   @Description("Sends independent requests concurrently with requestAllAndValidate; responses are stored and validated in submission order.")
+   void showsConcurrentBatchOfIndependentRequests(Quest quest) {
+      quest
+            .use(RING_OF_API)
+            .requestAllAndValidate(
+                  ApiRequest.of(GET_ALL_USERS.withQueryParam(PAGE_PARAM, PAGE_TWO),
+                        Assertion.builder().target(STATUS).type(IS).expected(SC_OK).build(),
+                        Assertion.builder().target(BODY).key(DATA.getJsonPath()).type(LENGTH).expected(PAGE_TWO_DATA_SIZE).build()),
+                  ApiRequest.of(GET_USER.withPathParam(ID_PARAM, USER_NINE_ID),
+                        Assertion.builder().target(STATUS).type(IS).expected(SC_OK).build(),
+                        Assertion.builder().target(BODY).key(SINGLE_USER_EMAIL_EXPLICIT.getJsonPath()).type(IS).expected(USER_NINE_EMAIL).build())
+            )
+            .validate(() -> assertEquals(USER_NINE_ID,
+                  retrieve(StorageKeysApi.API, GET_USER, Response.class).getBody().as(UserDto.class).getData().getId()))
+            .complete();
+   }
+
+   @Test
+   @Regression
+   @Description("Asserts on a header that compact storage does not keep; assertions always see the full response.")
+   void showsHeaderAssertionOnFullResponse(Quest quest) {
+      quest
+            .use(RING_OF_API)
+            .requestAndValidate(
+                  GET_USER.withPathParam(ID_PARAM, USER_NINE_ID),
+                  Assertion.builder().target(STATUS).type(IS).expected(SC_OK).build(),
+                  Assertion.builder().target(HEADER).key(DATE).type(NOT_NULL).expected(true).build(),
+                  Assertion.builder().target(HEADER).key(CONTENT_TYPE).type(CONTAINS).expected(JSON.toString()).build())
+            .complete();
+   }
+
+   @Test
+   @Regression
+   @Description("Crawls every page of the users list concurrently and asserts over the merged data set.")
+   void showsCrawlingAllPagesOfUsersList(Quest quest) {
+      List<UserData> users = new ArrayList<>();
+      quest
+            .use(RING_OF_API)
+            .requestAllPages(GET_ALL_USERS, page -> JsonArrayStream.users(page).forEach(users::add))
+            .validate(() -> {
+               assertEquals(TOTAL_USERS, users.size(), USER_DATA_SIZE_INCORRECT);
+               assertEquals(TOTAL_USERS, users.stream().map(UserData::getId).distinct().count());
+            })
+            .complete();
+   }
+
    @Test
    @Smoke
    @Regression
@@ -186,9 +249,9 @@ class AdvancedExamplesTest extends BaseQuest {
             .requestAndValidate(
                   GET_USER.withPathParam(
                         ID_PARAM,
-                        retrieve(StorageKeysApi.API, GET_ALL_USERS, Response.class)
-                              .getBody().as(GetUsersDto.class)
-                              .getData().get(0).getId()
+                        JsonArrayStream.firstUser(retrieve(StorageKeysApi.API, GET_ALL_USERS, Response.class))
+                              .orElseThrow()
+                              .getId()
                   ),
                   Assertion.builder().target(STATUS).type(IS).expected(SC_OK).build()
             )
@@ -206,14 +269,10 @@ class AdvancedExamplesTest extends BaseQuest {
             .request(
                   GET_USER.withPathParam(
                         ID_PARAM,
-                        retrieve(StorageKeysApi.API, GET_ALL_USERS, Response.class)
-                              .getBody()
-                              .as(GetUsersDto.class)
-                              .getData()
-                              .stream()
-                              .filter(user -> USER_NINE_FIRST_NAME.equals(user.getFirstName()))
+                        JsonArrayStream.findUser(
+                                    retrieve(StorageKeysApi.API, GET_ALL_USERS, Response.class),
+                                    user -> USER_NINE_FIRST_NAME.equals(user.getFirstName()))
                               .map(UserData::getId)
-                              .findFirst()
                               .orElseThrow(() -> new RuntimeException(userWithFirstNameNotFound(USER_NINE_FIRST_NAME))))
             )
             .validate(softAssertions -> {
@@ -246,6 +305,32 @@ class AdvancedExamplesTest extends BaseQuest {
             .complete();
    }
 
+   @Test
+   @Regression
+   @Description("Creates a user from the seeded USER_UNIQUE model, so parallel tests never create the same user; the model is reproducible from seed and ID.")
+   void showsUniqueCraftModelForParallelRuns(Quest quest,
+                                             @Craft(model = DataCreator.Data.USER_UNIQUE) CreateUserDto uniqueUser) {
+      // The record ID is the last word of a generated name
+      String name = uniqueUser.getName();
+      int id = Integer.parseInt(name.substring(name.lastIndexOf(' ') + 1));
+
+      quest
+            .use(RING_OF_API)
+            .requestAndValidate(
+                  POST_CREATE_USER,
+                  uniqueUser,
+                  Assertion.builder().target(STATUS).type(IS).expected(SC_CREATED).build(),
+                  Assertion.builder().target(BODY).key(CREATE_USER_NAME_RESPONSE.getJsonPath())
+                        .type(IS).expected(uniqueUser.getName()).build()
+            )
+            .validate(() -> {
+               // Same seed and ID, same user
+               assertTrue(BulkData.UNIQUE_IDS.contains(id));
+               assertEquals(BulkData.user(SeededRecords.seed(), id), uniqueUser);
+            })
+            .complete();
+   }
+
    @Test
    @Smoke
    @Regression
@@ -323,6 +408,56 @@ class AdvancedExamplesTest extends BaseQuest {
             .complete();
    }
 
+   @Test
+   @Regression
+   @AuthenticateViaApi(credentials = AdminAuth.class, type = AppAuth.class)
+   @Journey(
+         value = Preconditions.Data.CREATE_NEW_USERS,
+         journeyData = {
+               @JourneyData(DataCreator.Data.USER_LEADER),
+               @JourneyData(DataCreator.Data.USER_INTERMEDIATE)
+         }
+   )
+   @Ripper(targets = {DataCleaner.Data.DELETE_ADMIN_USER})
+   @Description("Creates independent users concurrently in a single Journey instead of stacking ordered Journeys.")
+   void showsIndependentJourneyUsersCreatedConcurrently(Quest quest) {
+      quest
+            .use(RING_OF_API)
+            .validate(() -> {
+               CreatedUserDto createdUser =
+                     retrieve(StorageKeysApi.API, POST_CREATE_USER, Response.class)
+                           .getBody().as(CreatedUserDto.class);
+               assertEquals(USER_INTERMEDIATE_NAME, createdUser.getName(), CREATED_USER_NAME_INCORRECT);
+               assertEquals(USER_INTERMEDIATE_JOB, createdUser.getJob(), CREATED_USER_JOB_INCORRECT);
+            })
+            .complete();
+   }
+
+   @Test
+   @Regression
+   @AuthenticateViaApi(credentials = AdminAuth.class, type = AppAuth.class)
+   @Journey(
+         value = Preconditions.Data.CREATE_NEW_USERS_AND_LOAD_LISTED_USER,
+         journeyData = {@JourneyData(DataCreator.Data.USER_LEADER)}
+   )
+   @Ripper(targets = {DataCleaner.Data.DELETE_ADMIN_USER})
+   @Description("Runs a Journey graph whose second wave reads the user id stored by its first wave.")
+   void showsDependentJourneyStepRunningInLaterWave(Quest quest) {
+      quest
+            .use(RING_OF_API)
+            .validate(() -> {
+               UserData listedUser = JsonArrayStream.firstUser(
+                     retrieve(StorageKeysApi.API, GET_ALL_USERS, Response.class)).orElseThrow();
+               UserDto loadedUser = retrieve(StorageKeysApi.API, GET_USER, Response.class)
+                     .getBody().as(UserDto.class);
+               CreatedUserDto createdUser = retrieve(StorageKeysApi.API, POST_CREATE_USER, Response.class)
+                     .getBody().as(CreatedUserDto.class);
+               assertEquals(listedUser.getId(), loadedUser.getData().getId());
+               assertEquals(USER_LEADER_NAME, createdUser.getName(), CREATED_USER_NAME_INCORRECT);
+            })
+            .complete();
+   }
+
    @Test
    @Smoke
    @Regression
@@ -0,0 +1,81 @@
+package io.cyborgcode.api.test.framework;
+
+import io.cyborgcode.api.test.framework.api.cache.HttpCache;
+import io.cyborgcode.api.test.framework.config.Performance;
+import io.cyborgcode.api.test.framework.stub.ReqresStubServer;
+import io.cyborgcode.roa.api.annotations.API;
+import io.cyborgcode.roa.framework.annotation.Regression;
+import io.cyborgcode.roa.framework.base.BaseQuest;
+import io.cyborgcode.roa.framework.quest.Quest;
+import io.cyborgcode.roa.validator.core.Assertion;
+import io.qameta.allure.Description;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import static io.cyborgcode.api.test.framework.api.AppEndpoints.GET_USER;
+import static io.cyborgcode.api.test.framework.base.Rings.RING_OF_API;
+import static io.cyborgcode.api.test.framework.data.constants.PathVariables.ID_PARAM;
+import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Users.ID_THREE;
+import static io.cyborgcode.roa.api.validator.RestAssertionTarget.STATUS;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.IS;
+import static org.apache.http.HttpStatus.SC_OK;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Demonstrates the HTTP cache of cacheable endpoints.
+ *
+ * <p>The idea:
+ * <ul>
+ *   <li>A repeated {@code GET} of a cacheable endpoint is answered from the {@link HttpCache}
+ *       while the server's {@code Cache-Control} allows it.</li>
+ *   <li>{@link HttpCache#bypass} sends one call to the server regardless, e.g. when a test
+ *       asserts on data that has just changed.</li>
+ * </ul>
+ *
+ * <p>The cache and its statistics are shared by the whole JVM, so the class runs
+ * {@link Isolated} and asserts on deltas against an emptied cache. It only runs where the
+ * cache is enabled ({@code api.http.cache.enabled=true}, as in {@code config-local}).
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@API
+@Isolated
+class HttpCacheExamplesTest extends BaseQuest {
+
+   @Test
+   @Regression
+   @Description("Serves a repeated GET from the HTTP cache, then bypasses the cache for one call so that the response is fetched fresh from the server.")
+   void showsBypassingHttpCacheForFreshResponse(Quest quest) {
+      assumeTrue(Performance.config().httpCacheEnabled(), "HTTP cache is disabled");
+      ReqresStubServer.ensureStarted();
+      HttpCache cache = HttpCache.shared();
+      cache.invalidateAll();
+      HttpCache.Stats before = cache.stats();
+      Optional<ReqresStubServer> stub = ReqresStubServer.running();
+      long servedBefore = stub.map(ReqresStubServer::requestsServed).orElse(0L);
+
+      quest
+            .use(RING_OF_API)
+            .requestAndValidate(
+                  GET_USER.withPathParam(ID_PARAM, ID_THREE),
+                  Assertion.builder().target(STATUS).type(IS).expected(SC_OK).build())
+            .requestAndValidate(
+                  GET_USER.withPathParam(ID_PARAM, ID_THREE),
+                  Assertion.builder().target(STATUS).type(IS).expected(SC_OK).build())
+            .requestAndValidate(
+                  HttpCache.bypass(GET_USER.withPathParam(ID_PARAM, ID_THREE)),
+                  Assertion.builder().target(STATUS).type(IS).expected(SC_OK).build())
+            .validate(() -> {
+               HttpCache.Stats after = cache.stats();
+               assertEquals(1, after.misses() - before.misses(), "first call is a miss");
+               assertEquals(1, after.hits() - before.hits(), "repeated call is served from the cache");
+               assertEquals(1, after.bypassed() - before.bypassed(), "bypassed call skips the cache");
+               stub.ifPresent(server -> assertEquals(2, server.requestsServed() - servedBefore,
+                     "only the miss and the bypassed call reach the server"));
+            })
+            .complete();
+   }
+
+}
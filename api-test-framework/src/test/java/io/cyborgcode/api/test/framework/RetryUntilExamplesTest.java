@@ -1,15 +1,23 @@
 package io.cyborgcode.api.test.framework;
 
+import io.cyborgcode.api.test.framework.api.retry.Backoff;
+import io.cyborgcode.api.test.framework.api.retry.RetrySignal;
+import io.cyborgcode.api.test.framework.data.storage.QuestStorage;
 import io.cyborgcode.roa.api.annotations.API;
 import io.cyborgcode.roa.framework.annotation.Regression;
 import io.cyborgcode.roa.framework.annotation.Smoke;
 import io.cyborgcode.roa.framework.base.BaseQuest;
 import io.cyborgcode.roa.framework.quest.Quest;
+import io.cyborgcode.roa.framework.quest.QuestHolder;
+import io.cyborgcode.roa.framework.quest.SuperQuest;
 import io.cyborgcode.roa.framework.retry.RetryCondition;
 import io.cyborgcode.roa.framework.retry.RetryConditionImpl;
 import io.cyborgcode.roa.validator.core.Assertion;
 import io.qameta.allure.Description;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 
@@ -29,6 +37,8 @@ import static org.apache.http.HttpStatus.SC_OK;
  *   <li>Define a {@link RetryCondition} that is periodically evaluated.</li>
  *   <li>RoA will poll this condition until it becomes {@code true} or a timeout is reached.</li>
  *   <li>Once satisfied, continue the fluent chain with a normal API call.</li>
+ *   <li>Instead of a fixed interval, probe with exponential backoff and jitter ({@link Backoff}),
+ *       or re-check only when an external event fires ({@link RetrySignal}).</li>
  * </ul>
  *
  * <p>In real projects this can be used for:
@@ -75,4 +85,91 @@ class RetryUntilExamplesTest extends BaseQuest {
             .complete();
    }
 
+   @Test
+   @Regression
+   @Description("Feature demo: retryUntil with exponential backoff — probe after 50ms, 100ms, 200ms... (max 1s) instead of every 1s, then GET and assert 200.")
+   void showsRetryUntilWithExponentialBackoff(Quest quest) {
+      AtomicInteger probeCounter = new AtomicInteger(0);
+
+      RetryCondition<Boolean> condition = new RetryConditionImpl<>(
+            service -> probeCounter.incrementAndGet() >= 3,
+            result -> result
+      );
+
+      quest
+            .use(RING_OF_API)
+            // Fast conditions are re-probed almost immediately, slow ones less and less often
+            .retryUntil(
+                  condition,
+                  Duration.ofSeconds(10),
+                  Backoff.exponential(Duration.ofMillis(50), Duration.ofSeconds(1))
+            )
+            .requestAndValidate(
+                  GET_ALL_USERS.withQueryParam(PAGE_PARAM, PAGE_TWO),
+                  Assertion.builder().target(STATUS).type(IS).expected(SC_OK).build()
+            )
+            .complete();
+   }
+
+   @Test
+   @Regression
+   @Description("Feature demo: event-driven retryUntil — wait without sleeping until a completion callback signals the condition, then GET and assert 200.")
+   void showsRetryUntilWokenByCompletionSignal(Quest quest) {
+      AtomicBoolean jobDone = new AtomicBoolean(false);
+      RetrySignal signal = new RetrySignal();
+
+      // Simulates asynchronous processing that reports its completion through a callback
+      CompletableFuture
+            .runAsync(() -> jobDone.set(true), CompletableFuture.delayedExecutor(300, TimeUnit.MILLISECONDS))
+            .whenComplete((ignored, error) -> signal.signal());
+
+      RetryCondition<Boolean> condition = new RetryConditionImpl<>(
+            service -> jobDone.get(),
+            result -> result
+      );
+
+      quest
+            .use(RING_OF_API)
+            // The condition is re-checked only when the signal fires
+            .retryUntil(condition, Duration.ofSeconds(10), signal)
+            .requestAndValidate(
+                  GET_ALL_USERS.withQueryParam(PAGE_PARAM, PAGE_TWO),
+                  Assertion.builder().target(STATUS).type(IS).expected(SC_OK).build()
+            )
+            .complete();
+   }
+
+   @Test
+   @Regression
+   @Description("Feature demo: retryUntil on the quest storage signal — forked work publishes its result through QuestStorage, which wakes the wait immediately, then GET and assert 200.")
+   void showsRetryUntilWokenByQuestStorageWrite(Quest quest) {
+      SuperQuest superQuest = QuestHolder.get();
+
+      // Simulates forked work handing its result over to the test thread
+      CompletableFuture.runAsync(
+            () -> QuestStorage.publish(superQuest, AsyncJob.JOBS, AsyncJob.RESULT, "done"),
+            CompletableFuture.delayedExecutor(300, TimeUnit.MILLISECONDS));
+
+      RetryCondition<Boolean> condition = new RetryConditionImpl<>(
+            service -> QuestStorage.tryGetPublished(superQuest, AsyncJob.JOBS, AsyncJob.RESULT, String.class)
+                  .isPresent(),
+            result -> result
+      );
+
+      quest
+            .use(RING_OF_API)
+            // Every QuestStorage.publish fires the quest's signal, so the result is seen as soon as it is published
+            .retryUntil(condition, Duration.ofSeconds(10), QuestStorage.signal(superQuest))
+            .requestAndValidate(
+                  GET_ALL_USERS.withQueryParam(PAGE_PARAM, PAGE_TWO),
+                  Assertion.builder().target(STATUS).type(IS).expected(SC_OK).build()
+            )
+            .complete();
+   }
+
+   private enum AsyncJob {
+      JOBS,
+      RESULT
+   }
+
 }
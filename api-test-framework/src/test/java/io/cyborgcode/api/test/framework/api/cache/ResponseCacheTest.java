@@ -0,0 +1,100 @@
+package io.cyborgcode.api.test.framework.api.cache;
+
+import io.cyborgcode.api.test.framework.config.Performance;
+import io.cyborgcode.roa.api.core.Endpoint;
+import io.restassured.RestAssured;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ResponseCacheTest {
+
+   private final ResponseCache cache = ResponseCache.shared();
+   private final AtomicInteger fetches = new AtomicInteger();
+   private final Function<Endpoint<?>, Response> fetch = endpoint -> {
+      fetches.incrementAndGet();
+      return new ResponseBuilder().setStatusCode(200).setBody("{}").build();
+   };
+
+   @BeforeEach
+   void emptyCache() {
+      assumeTrue(Performance.config().responseCacheEnabled(), "response cache is disabled");
+      cache.invalidate(TestEndpoints.GET_ITEM);
+      cache.invalidate(TestEndpoints.GET_ITEMS);
+   }
+
+   @Test
+   void keepsOneEntryPerPathParameterVariant() {
+      Response first = cache.getOrFetch(TestEndpoints.GET_ITEM.withPathParam("id", 1), Map.of(), fetch);
+      Response second = cache.getOrFetch(TestEndpoints.GET_ITEM.withPathParam("id", 2), Map.of(), fetch);
+
+      assertEquals(2, fetches.get(), "each path parameter variant is fetched");
+      assertSame(first, cache.getOrFetch(TestEndpoints.GET_ITEM.withPathParam("id", 1), Map.of(), fetch));
+      assertSame(second, cache.getOrFetch(TestEndpoints.GET_ITEM.withPathParam("id", 2), Map.of(), fetch));
+      assertEquals(2, fetches.get(), "repeated variants are served from the cache");
+   }
+
+   @Test
+   void keysOnHeadersAndQueryParameters() {
+      cache.getOrFetch(TestEndpoints.GET_ITEMS.withHeader("Authorization", "Bearer a"), Map.of("page", 1), fetch);
+      cache.getOrFetch(TestEndpoints.GET_ITEMS.withHeader("Authorization", "Bearer b"), Map.of("page", 1), fetch);
+      cache.getOrFetch(TestEndpoints.GET_ITEMS.withHeader("Authorization", "Bearer a"), Map.of("page", 2), fetch);
+      cache.getOrFetch(TestEndpoints.GET_ITEMS.withHeader("Authorization", "Bearer a"), Map.of("page", 1), fetch);
+
+      assertEquals(3, fetches.get());
+   }
+
+   @Test
+   void rejectsNonGetEndpoints() {
+      assertThrows(IllegalArgumentException.class,
+            () -> cache.getOrFetch(TestEndpoints.POST_ITEM, Map.of(), fetch));
+   }
+
+   private enum TestEndpoints implements Endpoint<TestEndpoints> {
+
+      GET_ITEM(Method.GET, "/items/{id}"),
+      GET_ITEMS(Method.GET, "/items"),
+      POST_ITEM(Method.POST, "/items");
+
+      private final Method method;
+      private final String url;
+
+      TestEndpoints(final Method method, final String url) {
+         this.method = method;
+         this.url = url;
+      }
+
+      @Override
+      public Method method() {
+         return method;
+      }
+
+      @Override
+      public String url() {
+         return url;
+      }
+
+      @Override
+      public TestEndpoints enumImpl() {
+         return this;
+      }
+
+      @Override
+      public RequestSpecification defaultConfiguration() {
+         return RestAssured.given().baseUri("http://localhost");
+      }
+
+   }
+
+}
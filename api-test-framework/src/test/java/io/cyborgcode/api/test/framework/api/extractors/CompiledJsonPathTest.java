@@ -0,0 +1,63 @@
+package io.cyborgcode.api.test.framework.api.extractors;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompiledJsonPathTest {
+
+   private static final Map<String, Object> DOCUMENT = Map.of(
+         "page", 2,
+         "data", List.of(
+               Map.of("id", 7, "first_name", "Michael", "tags", List.of("a", "b")),
+               Map.of("id", 8, "first_name", "Lindsay", "tags", List.of("c"))),
+         "matrix", List.of(List.of(1, 2), List.of(3, 4)),
+         "support", Map.of("url", "https://reqres.in"));
+
+   @Test
+   void readsNestedProperties() {
+      assertEquals("https://reqres.in", CompiledJsonPath.compile("support.url").read(DOCUMENT));
+   }
+
+   @Test
+   void indexesIntoLists() {
+      assertEquals("Lindsay", CompiledJsonPath.compile("data[1].first_name").read(DOCUMENT));
+   }
+
+   @Test
+   void negativeIndexesCountFromTheEnd() {
+      assertEquals(8, (int) CompiledJsonPath.compile("data[-1].id").read(DOCUMENT));
+      assertEquals("b", CompiledJsonPath.compile("data[0].tags[-1]").read(DOCUMENT));
+   }
+
+   @Test
+   void indexesIntoNestedLists() {
+      assertEquals(3, (int) CompiledJsonPath.compile("matrix[1][0]").read(DOCUMENT));
+   }
+
+   @Test
+   void collectsPropertyFromEveryListElement() {
+      assertEquals(List.of(7, 8), CompiledJsonPath.compile("data.id").read(DOCUMENT));
+   }
+
+   @Test
+   void missingKeysAndIndexesEvaluateToNull() {
+      assertNull(CompiledJsonPath.compile("support.email").read(DOCUMENT));
+      assertNull(CompiledJsonPath.compile("missing.deeper.key").read(DOCUMENT));
+      assertNull(CompiledJsonPath.compile("data[5].id").read(DOCUMENT));
+      assertNull(CompiledJsonPath.compile("data[-3].id").read(DOCUMENT));
+      assertNull(CompiledJsonPath.compile("page[0]").read(DOCUMENT));
+   }
+
+   @Test
+   void rejectsUnsupportedExpressions() {
+      assertThrows(IllegalArgumentException.class, () -> CompiledJsonPath.compile(""));
+      assertThrows(IllegalArgumentException.class, () -> CompiledJsonPath.compile("data[0"));
+      assertThrows(IllegalArgumentException.class, () -> CompiledJsonPath.compile("data[*].id"));
+   }
+
+}
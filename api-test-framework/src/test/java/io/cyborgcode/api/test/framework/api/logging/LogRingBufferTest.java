@@ -0,0 +1,139 @@
+package io.cyborgcode.api.test.framework.api.logging;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LogRingBufferTest {
+
+   private static final int PRODUCERS = 8;
+   private static final int ENTRIES_PER_PRODUCER = 50_000;
+
+   @Test
+   void roundsCapacityUpToPowerOfTwo() {
+      LogRingBuffer<Integer> buffer = new LogRingBuffer<>(5);
+
+      for (int i = 0; i < 8; i++) {
+         assertTrue(buffer.offer(i));
+      }
+      assertFalse(buffer.offer(8));
+      assertEquals(1, buffer.dropped());
+   }
+
+   @Test
+   void wrapsAroundPreservingOrder() {
+      LogRingBuffer<Integer> buffer = new LogRingBuffer<>(4);
+
+      int next = 0;
+      for (int round = 0; round < 1_000; round++) {
+         assertTrue(buffer.offer(round * 3));
+         assertTrue(buffer.offer(round * 3 + 1));
+         assertTrue(buffer.offer(round * 3 + 2));
+         for (int i = 0; i < 3; i++) {
+            assertEquals(next++, (int) buffer.poll());
+         }
+         assertTrue(buffer.isEmpty());
+      }
+      assertNull(buffer.poll());
+      assertEquals(0, buffer.dropped());
+   }
+
+   @Test
+   void countsEveryDroppedEntryFromConcurrentProducers() throws Exception {
+      LogRingBuffer<Integer> buffer = new LogRingBuffer<>(1_024);
+
+      List<Long> accepted = produce(buffer);
+
+      long offered = (long) PRODUCERS * ENTRIES_PER_PRODUCER;
+      long total = accepted.stream().mapToLong(Long::longValue).sum();
+      assertEquals(1_024, total);
+      assertEquals(offered - total, buffer.dropped());
+      int polled = 0;
+      while (buffer.poll() != null) {
+         polled++;
+      }
+      assertEquals(1_024, polled);
+   }
+
+   @Test
+   void keepsEachProducersOrderAndLosesNothingWhileConsumed() throws Exception {
+      LogRingBuffer<Integer> buffer = new LogRingBuffer<>(64);
+      int[] lastSeen = new int[PRODUCERS];
+      Arrays.fill(lastSeen, -1);
+      long[] received = new long[1];
+      boolean[] outOfOrder = new boolean[1];
+      CountDownLatch producersDone = new CountDownLatch(1);
+
+      Thread consumer = new Thread(() -> {
+         while (true) {
+            Integer entry = buffer.poll();
+            if (entry == null) {
+               if (producersDone.getCount() == 0 && buffer.isEmpty()) {
+                  return;
+               }
+               Thread.onSpinWait();
+               continue;
+            }
+            int producer = entry / ENTRIES_PER_PRODUCER;
+            int sequence = entry % ENTRIES_PER_PRODUCER;
+            outOfOrder[0] |= sequence <= lastSeen[producer];
+            lastSeen[producer] = sequence;
+            received[0]++;
+         }
+      });
+      consumer.start();
+      List<Long> accepted = produce(buffer);
+      producersDone.countDown();
+      consumer.join(TimeUnit.SECONDS.toMillis(30));
+
+      assertFalse(consumer.isAlive());
+      assertFalse(outOfOrder[0], "entries of one producer must be polled in the order they were offered");
+      long total = accepted.stream().mapToLong(Long::longValue).sum();
+      assertEquals(total, received[0]);
+      assertEquals((long) PRODUCERS * ENTRIES_PER_PRODUCER, total + buffer.dropped());
+   }
+
+   /**
+    * Offers {@value #ENTRIES_PER_PRODUCER} entries from each of {@value #PRODUCERS} threads,
+    * encoded as {@code producer * ENTRIES_PER_PRODUCER + sequence}.
+    *
+    * @return the number of entries each producer got accepted
+    */
+   private static List<Long> produce(final LogRingBuffer<Integer> buffer) throws Exception {
+      ExecutorService producers = Executors.newFixedThreadPool(PRODUCERS);
+      CountDownLatch start = new CountDownLatch(1);
+      List<Future<Long>> results = new ArrayList<>();
+      for (int p = 0; p < PRODUCERS; p++) {
+         int producer = p;
+         results.add(producers.submit(() -> {
+            start.await();
+            long accepted = 0;
+            for (int i = 0; i < ENTRIES_PER_PRODUCER; i++) {
+               if (buffer.offer(producer * ENTRIES_PER_PRODUCER + i)) {
+                  accepted++;
+               }
+            }
+            return accepted;
+         }));
+      }
+      start.countDown();
+      List<Long> accepted = new ArrayList<>();
+      for (Future<Long> result : results) {
+         accepted.add(result.get(30, TimeUnit.SECONDS));
+      }
+      producers.shutdown();
+      return accepted;
+   }
+
+}
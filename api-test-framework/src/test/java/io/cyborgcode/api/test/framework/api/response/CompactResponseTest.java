@@ -0,0 +1,103 @@
+package io.cyborgcode.api.test.framework.api.response;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactResponseTest {
+
+   private static final String BODY = "{\"data\":{\"id\":9,\"first_name\":\"Tobias\"}}";
+   private static final Set<String> RETAINED = Set.of(" content-type", "ETag ");
+
+   @Test
+   void answersStatusAndRetainedHeadersOnly() {
+      Response compact = CompactResponse.of(original(), RETAINED);
+
+      assertTrue(CompactResponse.isCompact(compact));
+      assertEquals(200, compact.getStatusCode());
+      assertEquals("HTTP/1.1 200 OK", compact.getStatusLine());
+      assertEquals("\"abc\"", compact.getHeader("etag"));
+      assertEquals("application/json; charset=utf-8", compact.getHeader("Content-Type"));
+      assertNull(compact.getHeader("Date"));
+      assertEquals(2, compact.getHeaders().size());
+   }
+
+   @Test
+   void parsesTheStoredBodyOnDemand() {
+      Response compact = CompactResponse.of(original(), RETAINED);
+
+      assertEquals(BODY, compact.asString());
+      assertEquals("Tobias", compact.path("data.first_name"));
+      assertEquals(9, (int) compact.path("data.id"));
+   }
+
+   @Test
+   void estimatesRetainedBytesFromBodyAndKeptHeaders() {
+      Response original = original();
+      Response compact = CompactResponse.of(original, RETAINED);
+
+      assertTrue(CompactResponse.retainedBytes(compact) > BODY.length());
+      assertEquals(BODY.length(), CompactResponse.retainedBytes(original));
+   }
+
+   @Test
+   void releasedResponseRejectsReads() {
+      Response compact = CompactResponse.of(original(), RETAINED);
+      CompactResponse.release(compact);
+
+      assertThrows(IllegalStateException.class, compact::getStatusCode);
+      assertThrows(IllegalStateException.class, compact::asString);
+      assertThrows(IllegalStateException.class, () -> compact.getHeader("ETag"));
+   }
+
+   @Test
+   void releasedResponseKeepsObjectMethods() {
+      Response compact = CompactResponse.of(original(), RETAINED);
+      Response other = CompactResponse.of(original(), RETAINED);
+      int hash = compact.hashCode();
+      Set<Response> retained = new HashSet<>(Set.of(compact, other));
+      CompactResponse.release(compact);
+
+      assertEquals(hash, compact.hashCode());
+      assertEquals(compact, compact);
+      assertNotEquals(compact, other);
+      assertTrue(compact.toString().contains("released"));
+      assertFalse(other.toString().contains("released"));
+      assertTrue(retained.remove(compact));
+   }
+
+   @Test
+   void releaseIgnoresOtherResponses() {
+      Response original = original();
+      CompactResponse.release(original);
+
+      assertFalse(CompactResponse.isCompact(original));
+      assertEquals(BODY, original.asString());
+   }
+
+   private static Response original() {
+      return new ResponseBuilder()
+            .setStatusCode(200)
+            .setStatusLine("HTTP/1.1 200 OK")
+            .setHeaders(new Headers(
+                  new Header("Content-Type", "application/json; charset=utf-8"),
+                  new Header("ETag", "\"abc\""),
+                  new Header("Date", "Sat, 17 Oct 2026 10:00:00 GMT")))
+            .setContentType("application/json; charset=utf-8")
+            .setBody(BODY.getBytes(StandardCharsets.UTF_8))
+            .build();
+   }
+
+}
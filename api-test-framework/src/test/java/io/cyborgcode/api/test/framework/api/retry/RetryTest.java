@@ -0,0 +1,129 @@
+package io.cyborgcode.api.test.framework.api.retry;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RetryTest {
+
+   private static final Duration MAX_WAIT = Duration.ofSeconds(5);
+
+   @Test
+   void pacedProbeRunsFirstProbeImmediately() {
+      Supplier<Integer> probe = Retry.paced(() -> 1, MAX_WAIT,
+            Backoff.exponential(Duration.ofSeconds(1), Duration.ofSeconds(2)));
+
+      long start = System.nanoTime();
+      probe.get();
+
+      assertTrue(elapsedMillis(start) < 500, "first probe must not wait");
+   }
+
+   @Test
+   void pacedProbeWaitsAtLeastTheMinimumIntervalBetweenProbes() {
+      AtomicInteger probes = new AtomicInteger();
+      Supplier<Integer> probe = Retry.paced(probes::incrementAndGet, MAX_WAIT,
+            Backoff.exponential(Duration.ofMillis(50), Duration.ofMillis(50)));
+
+      probe.get();
+      long start = System.nanoTime();
+      probe.get();
+      probe.get();
+
+      assertEquals(3, probes.get());
+      assertTrue(elapsedMillis(start) >= 100, "two waits of at least 50ms expected");
+   }
+
+   @Test
+   void pacedProbeStopsWaitingAtMaxWait() {
+      Supplier<Integer> probe = Retry.paced(() -> 1, Duration.ofMillis(100),
+            Backoff.exponential(Duration.ofSeconds(10), Duration.ofSeconds(10)));
+
+      long start = System.nanoTime();
+      probe.get();
+      probe.get();
+
+      long elapsed = elapsedMillis(start);
+      assertTrue(elapsed >= 50 && elapsed < 2_000, "wait must end at maxWait, took " + elapsed);
+   }
+
+   @Test
+   void signalledProbeWaitsForTheNextSignal() {
+      RetrySignal signal = new RetrySignal();
+      AtomicInteger probes = new AtomicInteger();
+      Supplier<Integer> probe = Retry.signalled(probes::incrementAndGet, MAX_WAIT, signal);
+
+      probe.get();
+      CompletableFuture.runAsync(signal::signal, CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS));
+      long start = System.nanoTime();
+      probe.get();
+
+      assertEquals(2, probes.get());
+      long elapsed = elapsedMillis(start);
+      assertTrue(elapsed >= 50 && elapsed < 5_000, "second probe must wait for the signal, took " + elapsed);
+   }
+
+   @Test
+   void signalDuringProbeIsNotLost() {
+      RetrySignal signal = new RetrySignal();
+      Supplier<Integer> probe = Retry.signalled(() -> {
+         signal.signal();
+         return 1;
+      }, MAX_WAIT, signal);
+
+      probe.get();
+      long start = System.nanoTime();
+      probe.get();
+
+      assertTrue(elapsedMillis(start) < 1_000, "a signal fired while probing must trigger the next probe");
+   }
+
+   @Test
+   void signalledProbeGivesUpAtMaxWait() {
+      Supplier<Integer> probe = Retry.signalled(() -> 1, Duration.ofMillis(100), new RetrySignal());
+
+      long start = System.nanoTime();
+      probe.get();
+      probe.get();
+
+      long elapsed = elapsedMillis(start);
+      assertTrue(elapsed >= 50 && elapsed < 2_000, "wait must end at maxWait, took " + elapsed);
+   }
+
+   @Test
+   void pacedProbeKeepsPausingAfterMaxWait() {
+      Supplier<Integer> probe = Retry.paced(() -> 1, Duration.ZERO, Backoff.exponential(Duration.ZERO, Duration.ZERO));
+
+      probe.get();
+      long start = System.nanoTime();
+      for (int i = 0; i < 5; i++) {
+         probe.get();
+      }
+
+      assertTrue(elapsedMillis(start) >= 40, "probes past maxWait must not spin");
+   }
+
+   @Test
+   void signalledProbeKeepsPausingAfterMaxWait() {
+      Supplier<Integer> probe = Retry.signalled(() -> 1, Duration.ZERO, new RetrySignal());
+
+      probe.get();
+      long start = System.nanoTime();
+      for (int i = 0; i < 5; i++) {
+         probe.get();
+      }
+
+      assertTrue(elapsedMillis(start) >= 40, "probes past maxWait must not spin");
+   }
+
+   private static long elapsedMillis(final long startNanos) {
+      return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+   }
+
+}
@@ -0,0 +1,47 @@
+package io.cyborgcode.benchmarks;
+
+import io.cyborgcode.roa.validator.core.Assertion;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.DATA;
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.USER_FIRST_NAME;
+import static io.cyborgcode.roa.api.validator.RestAssertionTarget.BODY;
+import static io.cyborgcode.roa.api.validator.RestAssertionTarget.STATUS;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.IS;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.LENGTH;
+import static org.apache.http.HttpStatus.SC_OK;
+
+/**
+ * Cost of building the {@link Assertion} arrays that every {@code requestAndValidate} receives.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AssertionBenchmark {
+
+   @Benchmark
+   public Assertion statusAssertion() {
+      return Assertion.builder().target(STATUS).type(IS).expected(SC_OK).build();
+   }
+
+   @Benchmark
+   public Assertion[] typicalAssertionSet() {
+      return new Assertion[] {
+            Assertion.builder().target(STATUS).type(IS).expected(SC_OK).build(),
+            Assertion.builder().target(BODY).key(DATA.getJsonPath()).type(LENGTH).expected(6).build(),
+            Assertion.builder().target(BODY).key(USER_FIRST_NAME.getJsonPath(0)).type(LENGTH).expected(7).build()
+      };
+   }
+
+}
@@ -0,0 +1,47 @@
+package io.cyborgcode.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the shaded {@code benchmarks.jar}.
+ * <p>
+ * Accepts the regular JMH command line (e.g. a benchmark regex or {@code -f 1 -wi 2}) and
+ * always writes machine-readable results, so they can be archived per release and compared
+ * between runs:
+ * </p>
+ * <ul>
+ *   <li>results go to {@code target/jmh-result.json}, or to {@code -Djmh.result=<file>},</li>
+ *   <li>forked JVMs run against the {@code config-local} profile, i.e. the in-process
+ *       reqres stub with the HTTP cache turned off, so no benchmark depends on network
+ *       latency and every request chain reaches the stub.</li>
+ * </ul>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class BenchmarkRunner {
+
+   private static final String DEFAULT_RESULT = "target/jmh-result.json";
+
+   private BenchmarkRunner() {
+   }
+
+   public static void main(final String[] args) throws RunnerException, CommandLineOptionException {
+      ChainedOptionsBuilder options = new OptionsBuilder()
+            .parent(new CommandLineOptions(args))
+            .resultFormat(ResultFormatType.JSON)
+            .result(System.getProperty("jmh.result", DEFAULT_RESULT))
+            .jvmArgsAppend(
+                  "-Dframework.config.file=config-local",
+                  "-Dapi.config.file=config-local",
+                  "-Dtest.data.file=test_data-local",
+                  "-Dapi.http.cache.enabled=false");
+      new Runner(options.build()).run();
+   }
+
+}
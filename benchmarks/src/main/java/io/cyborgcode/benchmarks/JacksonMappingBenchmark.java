@@ -0,0 +1,62 @@
+package io.cyborgcode.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.cyborgcode.api.test.framework.api.dto.response.CreatedUserDto;
+import io.cyborgcode.api.test.framework.api.dto.response.GetUsersDto;
+import io.cyborgcode.api.test.framework.api.dto.response.UserDto;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Jackson mapping of the response DTOs the suites deserialize on almost every request.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonMappingBenchmark {
+
+   private ObjectMapper mapper;
+   private GetUsersDto usersPage;
+
+   @Setup
+   public void setUp() throws JsonProcessingException {
+      mapper = new ObjectMapper();
+      usersPage = mapper.readValue(Payloads.USERS_PAGE_TWO, GetUsersDto.class);
+   }
+
+   @Benchmark
+   public GetUsersDto readUsersPage() throws JsonProcessingException {
+      return mapper.readValue(Payloads.USERS_PAGE_TWO, GetUsersDto.class);
+   }
+
+   @Benchmark
+   public UserDto readSingleUser() throws JsonProcessingException {
+      return mapper.readValue(Payloads.SINGLE_USER, UserDto.class);
+   }
+
+   @Benchmark
+   public CreatedUserDto readCreatedUser() throws JsonProcessingException {
+      return mapper.readValue(Payloads.CREATED_USER, CreatedUserDto.class);
+   }
+
+   @Benchmark
+   public byte[] writeUsersPage() throws JsonProcessingException {
+      return mapper.writeValueAsBytes(usersPage);
+   }
+
+}
@@ -0,0 +1,78 @@
+package io.cyborgcode.benchmarks;
+
+import io.cyborgcode.api.test.framework.api.response.ParsedResponse;
+import io.restassured.response.Response;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.TOTAL;
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.USER_FIRST_NAME;
+import static org.apache.http.HttpStatus.SC_OK;
+
+/**
+ * Formatting and extraction through {@code ApiResponsesJsonPaths}.
+ * <p>
+ * The {@code raw*} variants show what the same lookups cost through plain
+ * {@code String.format} and {@code response.jsonPath()}, which re-parses the body per call.
+ * The extraction pair builds a fresh response per invocation, as every real request does, and
+ * reads {@code reads} values from it, so both sides pay for their parses: one for the
+ * {@link ParsedResponse}, one per read for the raw response.
+ * </p>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonPathBenchmark {
+
+   @Param({"1", "5", "20"})
+   private int reads;
+
+   @Benchmark
+   public String formatIndexedPath() {
+      return USER_FIRST_NAME.getJsonPath(3);
+   }
+
+   @Benchmark
+   public String rawFormatIndexedPath() {
+      return String.format("data[%d].first_name", 3);
+   }
+
+   @Benchmark
+   public Object extractFromParsedResponse() {
+      Response parsed = ParsedResponse.of(Payloads.response(SC_OK, Payloads.USERS_PAGE_TWO));
+      StringBuilder values = new StringBuilder();
+      for (int i = 0; i < reads; i++) {
+         Object value = i % 2 == 0 ? USER_FIRST_NAME.extract(parsed, i % 6) : TOTAL.extract(parsed);
+         values.append(value);
+      }
+      return values;
+   }
+
+   @Benchmark
+   public Object rawExtractFromResponse() {
+      Response raw = Payloads.response(SC_OK, Payloads.USERS_PAGE_TWO);
+      StringBuilder values = new StringBuilder();
+      for (int i = 0; i < reads; i++) {
+         Object value = i % 2 == 0
+               ? raw.jsonPath().get("data[" + i % 6 + "].first_name")
+               : raw.jsonPath().get("total");
+         values.append(value);
+      }
+      return values;
+   }
+
+}
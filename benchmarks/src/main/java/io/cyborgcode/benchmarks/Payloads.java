@@ -0,0 +1,49 @@
+package io.cyborgcode.benchmarks;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+
+/**
+ * Response bodies shaped like the reqres payloads, shared by the offline benchmarks.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+final class Payloads {
+
+   static final String USERS_PAGE_TWO = "{\"page\":2,\"per_page\":6,\"total\":12,\"total_pages\":2,\"data\":["
+         + user(7, "Michael", "Lawson") + ","
+         + user(8, "Lindsay", "Ferguson") + ","
+         + user(9, "Tobias", "Funke") + ","
+         + user(10, "Byron", "Fields") + ","
+         + user(11, "George", "Edwards") + ","
+         + user(12, "Rachel", "Howell") + "],"
+         + "\"support\":{\"url\":\"https://contentcaddy.io?utm_source=reqres&utm_medium=json&utm_campaign=referral\","
+         + "\"text\":\"Tired of writing endless social media content? Let Content Caddy generate it for you.\"}}";
+
+   static final String SINGLE_USER = "{\"data\":" + user(9, "Tobias", "Funke") + ","
+         + "\"support\":{\"url\":\"https://contentcaddy.io\",\"text\":\"Tired of writing\"}}";
+
+   static final String CREATED_USER =
+         "{\"name\":\"Morpheus\",\"job\":\"Leader\",\"id\":\"101\",\"createdAt\":\"2024-01-01T00:00:00.000Z\"}";
+
+   private Payloads() {
+   }
+
+   static Response response(final int status, final String body) {
+      return new ResponseBuilder()
+            .setStatusCode(status)
+            .setContentType(ContentType.JSON)
+            .setBody(body)
+            .build();
+   }
+
+   private static String user(final int id, final String firstName, final String lastName) {
+      return "{\"id\":" + id
+            + ",\"email\":\"" + firstName.toLowerCase() + "." + lastName.toLowerCase() + "@reqres.in\""
+            + ",\"first_name\":\"" + firstName + "\""
+            + ",\"last_name\":\"" + lastName + "\""
+            + ",\"avatar\":\"https://reqres.in/img/faces/" + id + "-image.jpg\"}";
+   }
+
+}
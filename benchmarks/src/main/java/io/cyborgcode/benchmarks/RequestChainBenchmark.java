@@ -0,0 +1,189 @@
+package io.cyborgcode.benchmarks;
+
+import io.cyborgcode.api.test.framework.api.response.ParsedResponse;
+import io.cyborgcode.api.test.framework.config.Performance;
+import io.cyborgcode.api.test.framework.stub.ReqresStubServer;
+import io.cyborgcode.roa.api.client.RestClientImpl;
+import io.cyborgcode.roa.api.service.RestService;
+import io.cyborgcode.roa.api.validator.RestResponseValidatorImpl;
+import io.cyborgcode.roa.validator.core.Assertion;
+import io.cyborgcode.roa.validator.core.AssertionResult;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static io.cyborgcode.api.test.framework.api.AppEndpoints.GET_ALL_USERS;
+import static io.cyborgcode.api.test.framework.api.AppEndpoints.GET_USER;
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.DATA;
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.SINGLE_USER_EMAIL_EXPLICIT;
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.TOTAL;
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.TOTAL_PAGES;
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.USER_FIRST_NAME;
+import static io.cyborgcode.api.test.framework.data.constants.Headers.API_KEY_HEADER;
+import static io.cyborgcode.api.test.framework.data.constants.Headers.API_KEY_VALUE;
+import static io.cyborgcode.api.test.framework.data.constants.PathVariables.ID_PARAM;
+import static io.cyborgcode.api.test.framework.data.constants.QueryParams.PAGE_PARAM;
+import static io.cyborgcode.roa.api.validator.RestAssertionTarget.BODY;
+import static io.cyborgcode.roa.api.validator.RestAssertionTarget.HEADER;
+import static io.cyborgcode.roa.api.validator.RestAssertionTarget.STATUS;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.CONTAINS;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.GREATER_THAN;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.IS;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.LENGTH;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.NOT_NULL;
+import static org.apache.http.HttpHeaders.CONTENT_TYPE;
+import static org.apache.http.HttpStatus.SC_OK;
+
+/**
+ * End-to-end request chains against the in-process {@link ReqresStubServer}.
+ * <p>
+ * The chain mirrors what {@code requestAndValidate} does per request, minus the quest:
+ * endpoint specification, HTTP exchange over the pooled client, a {@link ParsedResponse}
+ * and status plus body checks. Each pair compares the behavior before endpoint base specs were
+ * prebuilt and connections pooled ({@code legacy*}) with the current one:
+ * </p>
+ * <ul>
+ *   <li>{@link #legacySpecification()} vs {@link #prebuiltSpecification()}: building the
+ *       request specification alone,</li>
+ *   <li>{@link #legacyGetUserChain()} vs {@link #getUserChain()}: the full exchange, where the
+ *       legacy chain also opens a new client and connection per request and reads the body
+ *       through REST Assured's own JsonPath, without a {@link ParsedResponse}.</li>
+ * </ul>
+ * The {@code *RequestAndValidate} benchmarks run what the ring runs for
+ * {@code requestAndValidate}: the {@link RestService} request followed by the ROA validator over
+ * a STATUS, HEADER and BODY {@link Assertion} list, with ({@link #getUserRequestAndValidate()})
+ * and without ({@link #getUserRequestAndValidateUnparsed()}) the parse-once response. The
+ * service is wired by hand from the ROA client and validator, as the framework's context does;
+ * quest storage and reporting are left out.
+ * Run with {@code -prof gc} to get allocation per operation ({@code gc.alloc.rate.norm})
+ * next to the latency of each variant. The fork runs with the HTTP cache turned off, so every
+ * chain reaches the stub.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dapi.http.cache.enabled=false")
+public class RequestChainBenchmark {
+
+   private static final String USER_NINE_EMAIL = "tobias.funke@reqres.in";
+   private static final String JSON_CONTENT = ContentType.JSON.toString();
+
+   private static final Assertion[] GET_USER_ASSERTIONS = {
+         Assertion.builder().target(STATUS).type(IS).expected(SC_OK).build(),
+         Assertion.builder().target(HEADER).key(CONTENT_TYPE).type(CONTAINS).expected(JSON_CONTENT).build(),
+         Assertion.builder().target(BODY).key(SINGLE_USER_EMAIL_EXPLICIT.getJsonPath()).type(IS)
+               .expected(USER_NINE_EMAIL).build()
+   };
+
+   private static final Assertion[] GET_ALL_USERS_ASSERTIONS = {
+         Assertion.builder().target(STATUS).type(IS).expected(SC_OK).build(),
+         Assertion.builder().target(HEADER).key(CONTENT_TYPE).type(CONTAINS).expected(JSON_CONTENT).build(),
+         Assertion.builder().target(BODY).key(TOTAL.getJsonPath()).type(IS).expected(12).build(),
+         Assertion.builder().target(BODY).key(TOTAL_PAGES.getJsonPath()).type(GREATER_THAN).expected(1).build(),
+         Assertion.builder().target(BODY).key(DATA.getJsonPath()).type(LENGTH).expected(6).build(),
+         Assertion.builder().target(BODY).key(USER_FIRST_NAME.getJsonPath(0)).type(NOT_NULL).expected(true).build()
+   };
+
+   private String baseUri;
+   private RestService restService;
+
+   @Setup
+   public void setUp() {
+      ReqresStubServer.ensureStarted();
+      baseUri = "http://localhost:" + Performance.config().stubServerPort() + "/api";
+      restService = new RestService(new RestClientImpl(), new RestResponseValidatorImpl());
+   }
+
+   @Benchmark
+   public RequestSpecification legacySpecification() {
+      return RestAssured.given()
+            .baseUri(baseUri)
+            .contentType(ContentType.JSON)
+            .header(API_KEY_HEADER, API_KEY_VALUE)
+            .pathParam(ID_PARAM, 9);
+   }
+
+   @Benchmark
+   public RequestSpecification prebuiltSpecification() {
+      return GET_USER.defaultConfiguration().pathParam(ID_PARAM, 9);
+   }
+
+   @Benchmark
+   public Object getUserChain() {
+      Response response = ParsedResponse.of(GET_USER.defaultConfiguration()
+            .pathParam(ID_PARAM, 9)
+            .request(GET_USER.method(), GET_USER.url()));
+      check(response.getStatusCode() == SC_OK, "status");
+      check(USER_NINE_EMAIL.equals(SINGLE_USER_EMAIL_EXPLICIT.extract(response)), "email");
+      return response;
+   }
+
+   @Benchmark
+   public Object legacyGetUserChain() {
+      Response response = legacySpecification().request(GET_USER.method(), GET_USER.url());
+      check(response.getStatusCode() == SC_OK, "status");
+      check(USER_NINE_EMAIL.equals(response.jsonPath().getString(SINGLE_USER_EMAIL_EXPLICIT.getJsonPath())), "email");
+      return response;
+   }
+
+   @Benchmark
+   public Object getAllUsersChain() {
+      Response response = ParsedResponse.of(GET_ALL_USERS.defaultConfiguration()
+            .queryParam(PAGE_PARAM, 2)
+            .request(GET_ALL_USERS.method(), GET_ALL_USERS.url()));
+      check(response.getStatusCode() == SC_OK, "status");
+      check(Integer.valueOf(12).equals(TOTAL.extract(response)), "total");
+      return response;
+   }
+
+   @Benchmark
+   public Object getUserRequestAndValidate() {
+      Response response = ParsedResponse.of(restService.request(GET_USER.withPathParam(ID_PARAM, 9)));
+      checkPassed(restService.validate(response, GET_USER_ASSERTIONS));
+      return response;
+   }
+
+   @Benchmark
+   public Object getUserRequestAndValidateUnparsed() {
+      Response response = restService.request(GET_USER.withPathParam(ID_PARAM, 9));
+      checkPassed(restService.validate(response, GET_USER_ASSERTIONS));
+      return response;
+   }
+
+   @Benchmark
+   public Object getAllUsersRequestAndValidate() {
+      Response response = ParsedResponse.of(restService.request(GET_ALL_USERS.withQueryParam(PAGE_PARAM, 2)));
+      checkPassed(restService.validate(response, GET_ALL_USERS_ASSERTIONS));
+      return response;
+   }
+
+   private static void checkPassed(final List<? extends AssertionResult<?>> results) {
+      for (AssertionResult<?> result : results) {
+         check(result.isPassed(), "assertion");
+      }
+   }
+
+   private static void check(final boolean condition, final String what) {
+      if (!condition) {
+         throw new IllegalStateException("Stub response failed the " + what + " check");
+      }
+   }
+
+}
@@ -0,0 +1,24 @@
+package io.cyborgcode.benchmarks.load;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency distribution, in microseconds, and error count of one endpoint over a load run.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public record EndpointStats(Histogram histogram, long errors) {
+
+   public long requests() {
+      return histogram.getTotalCount();
+   }
+
+   public double percentileMillis(final double percentile) {
+      return histogram.getValueAtPercentile(percentile) / 1000.0;
+   }
+
+   public double errorRate() {
+      return requests() == 0 ? 0 : (double) errors / requests();
+   }
+
+}
@@ -0,0 +1,104 @@
+package io.cyborgcode.benchmarks.load;
+
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.io.Connection;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Response;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.util.Callback;
+
+/**
+ * Local server answering every request with one fixed {@code 200} response, over HTTP/1.1 and
+ * cleartext HTTP/2 ({@code h2c}) on the same port.
+ * <p>
+ * The reqres stub is built on the JDK HTTP server, which only speaks HTTP/1.1, so transports
+ * cannot be compared on it. Here clients without HTTP/2 support, such as REST Assured's
+ * Apache client, stay on HTTP/1.1, while the JDK client upgrades its connections to HTTP/2.
+ * Like the stub, the server counts the distinct client connections it served.
+ * </p>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+final class H2cMirrorServer implements AutoCloseable {
+
+   private static final int OK = 200;
+
+   private final Set<SocketAddress> clients = ConcurrentHashMap.newKeySet();
+   private final Server server = new Server();
+   private final ServerConnector connector;
+
+   private H2cMirrorServer(final byte[] body, final String contentType) {
+      HttpConfiguration http = new HttpConfiguration();
+      connector = new ServerConnector(server, new HttpConnectionFactory(http),
+            new HTTP2CServerConnectionFactory(http));
+      connector.setHost("localhost");
+      connector.setPort(0);
+      connector.addBean(new Connection.Listener() {
+         @Override
+         public void onOpened(final Connection connection) {
+            clients.add(connection.getEndPoint().getRemoteSocketAddress());
+         }
+
+         @Override
+         public void onClosed(final Connection connection) {
+            // connections are counted once, when opened
+         }
+      });
+      server.addConnector(connector);
+      server.setHandler(new Handler.Abstract() {
+         @Override
+         public boolean handle(final Request request, final Response response, final Callback callback) {
+            response.setStatus(OK);
+            if (contentType != null) {
+               response.getHeaders().put(HttpHeader.CONTENT_TYPE, contentType);
+            }
+            response.write(true, ByteBuffer.wrap(body), callback);
+            return true;
+         }
+      });
+   }
+
+   /**
+    * Starts a server on an ephemeral local port.
+    *
+    * @param body        the response body of every request
+    * @param contentType the response content type, or {@code null}
+    * @return the running server
+    */
+   static H2cMirrorServer start(final byte[] body, final String contentType) {
+      H2cMirrorServer mirror = new H2cMirrorServer(body, contentType);
+      try {
+         mirror.server.start();
+      } catch (Exception e) {
+         throw new IllegalStateException("Could not start the h2c server", e);
+      }
+      return mirror;
+   }
+
+   String baseUri() {
+      return "http://localhost:" + connector.getLocalPort();
+   }
+
+   int connectionsSeen() {
+      return clients.size();
+   }
+
+   @Override
+   public void close() {
+      try {
+         server.stop();
+      } catch (Exception e) {
+         throw new IllegalStateException("Could not stop the h2c server", e);
+      }
+   }
+
+}
@@ -0,0 +1,113 @@
+package io.cyborgcode.benchmarks.load;
+
+import io.cyborgcode.api.test.framework.api.AppEndpoints;
+import io.cyborgcode.api.test.framework.api.metrics.EndpointMetrics;
+import io.cyborgcode.api.test.framework.api.metrics.EndpointMetricsFilter;
+import io.cyborgcode.api.test.framework.api.response.ParsedResponse;
+import io.cyborgcode.roa.api.client.RestClientImpl;
+import io.cyborgcode.roa.api.service.RestService;
+import io.cyborgcode.roa.api.validator.RestResponseValidatorImpl;
+import io.cyborgcode.roa.validator.core.Assertion;
+import io.cyborgcode.roa.validator.core.AssertionResult;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+import static org.apache.http.HttpStatus.SC_BAD_REQUEST;
+
+/**
+ * HTTP client handed to a virtual user's flow.
+ * <p>
+ * Requests go through the same prebuilt {@link AppEndpoints} specifications and pooled
+ * connections as the test suites; every request is recorded into the run's own
+ * {@link EndpointMetrics} under its endpoint constant, with the serialized request body and
+ * the received response body sizes, and is followed by the profile's think time.
+ * </p>
+ * <p>
+ * Steps with assertions are validated the way {@code requestAndValidate} validates them: the
+ * response is wrapped in a {@link ParsedResponse} and checked by the ROA
+ * {@link RestService} validator, wired by hand as the framework's context does.
+ * </p>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class LoadClient {
+
+   private final EndpointMetrics metrics;
+   private final Duration thinkTime;
+   private final RestService restService = new RestService(new RestClientImpl(), new RestResponseValidatorImpl());
+
+   LoadClient(final EndpointMetrics metrics, final Duration thinkTime) {
+      this.metrics = metrics;
+      this.thinkTime = thinkTime;
+   }
+
+   public Response send(final AppEndpoints endpoint) {
+      return send(endpoint, UnaryOperator.identity());
+   }
+
+   /**
+    * Sends a request to the endpoint.
+    *
+    * @param endpoint  the endpoint to call
+    * @param customize adds per-request path/query parameters or a body to the endpoint spec
+    * @return the response
+    */
+   public Response send(final AppEndpoints endpoint, final UnaryOperator<RequestSpecification> customize) {
+      AtomicLong bytesSent = new AtomicLong();
+      RequestSpecification spec = customize.apply(endpoint.defaultConfiguration())
+            .filter((requestSpec, responseSpec, ctx) -> {
+               bytesSent.set(EndpointMetricsFilter.bytesSent(requestSpec));
+               return ctx.next(requestSpec, responseSpec);
+            });
+      long start = System.nanoTime();
+      Response response = null;
+      try {
+         response = spec.request(endpoint.method(), endpoint.url());
+         return response;
+      } finally {
+         long duration = System.nanoTime() - start;
+         boolean failed = response == null || response.getStatusCode() >= SC_BAD_REQUEST;
+         metrics.record(endpoint, duration, failed, bytesSent.get(),
+               response == null ? 0 : response.asByteArray().length);
+         think();
+      }
+   }
+
+   /**
+    * Sends a request and validates it like a {@code requestAndValidate} step, failing the flow
+    * when any assertion does not hold.
+    *
+    * @param endpoint   the endpoint to call
+    * @param customize  adds per-request path/query parameters or a body to the endpoint spec
+    * @param assertions the assertions of the step
+    * @return the parse-once response
+    * @throws AssertionError if an assertion fails
+    */
+   public Response send(final AppEndpoints endpoint, final UnaryOperator<RequestSpecification> customize,
+                        final Assertion... assertions) {
+      Response response = ParsedResponse.of(send(endpoint, customize));
+      List<? extends AssertionResult<?>> results = restService.validate(response, assertions);
+      long failures = results.stream().filter(result -> !result.isPassed()).count();
+      if (failures > 0) {
+         throw new AssertionError(endpoint + " answered " + response.getStatusCode() + " and failed "
+               + failures + " of " + results.size() + " assertions");
+      }
+      return response;
+   }
+
+   private void think() {
+      if (thinkTime.isZero()) {
+         return;
+      }
+      try {
+         Thread.sleep(thinkTime.toMillis());
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+      }
+   }
+
+}
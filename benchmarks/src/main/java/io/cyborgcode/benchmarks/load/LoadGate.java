@@ -0,0 +1,94 @@
+package io.cyborgcode.benchmarks.load;
+
+import io.cyborgcode.api.test.framework.api.dto.request.CreateUserDto;
+import io.cyborgcode.api.test.framework.data.creator.BulkData;
+import io.cyborgcode.api.test.framework.stub.ReqresStubServer;
+import io.cyborgcode.roa.validator.core.Assertion;
+import java.util.List;
+
+import static io.cyborgcode.api.test.framework.api.AppEndpoints.GET_ALL_USERS;
+import static io.cyborgcode.api.test.framework.api.AppEndpoints.GET_USER;
+import static io.cyborgcode.api.test.framework.api.AppEndpoints.POST_CREATE_USER;
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.CREATE_USER_NAME_RESPONSE;
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.DATA;
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.SINGLE_USER_EMAIL_EXPLICIT;
+import static io.cyborgcode.api.test.framework.data.constants.PathVariables.ID_PARAM;
+import static io.cyborgcode.api.test.framework.data.constants.QueryParams.PAGE_PARAM;
+import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Pagination.PAGE_TWO;
+import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Users.USER_NINE_ID;
+import static io.cyborgcode.roa.api.validator.RestAssertionTarget.BODY;
+import static io.cyborgcode.roa.api.validator.RestAssertionTarget.STATUS;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.IS;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.NOT_EMPTY;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.NOT_NULL;
+import static org.apache.http.HttpStatus.SC_CREATED;
+import static org.apache.http.HttpStatus.SC_OK;
+
+/**
+ * Performance regression gate: replays the suite's user lifecycle flow as virtual users
+ * against the in-process reqres stub and exits non-zero when an SLA is violated.
+ * <p>
+ * The flow mirrors the {@code RING_OF_API} chains of the example tests (list users, open one,
+ * create a unique one from {@link BulkData}), step by step and with STATUS and BODY assertions
+ * validated by the ROA validator against the parse-once response, as {@code requestAndValidate}
+ * does. Quests and their storage only exist inside the ROA JUnit extension, one per test, so
+ * the steps are not stored; requests still go through the same endpoint specifications,
+ * filters and pooled connections. Load shape comes from
+ * {@link LoadProfile#fromSystemProperties}; the p99 threshold from {@code load.sla.p99.ms}.
+ * The HTTP cache is turned off, so repeated {@code GET}s are measured against the server
+ * rather than answered from memory.
+ * </p>
+ * The {@code load-gate} profile of the benchmarks module runs the gate in the {@code verify}
+ * phase ({@code mvn -pl benchmarks -am verify -Pload-gate}), as does the Load Gate workflow.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class LoadGate {
+
+   private static final VirtualUserFlow USER_LIFECYCLE = client -> {
+      client.send(GET_ALL_USERS, spec -> spec.queryParam(PAGE_PARAM, PAGE_TWO),
+            Assertion.builder().target(STATUS).type(IS).expected(SC_OK).build(),
+            Assertion.builder().target(BODY).key(DATA.getJsonPath()).type(NOT_EMPTY).expected(true).build());
+      client.send(GET_USER, spec -> spec.pathParam(ID_PARAM, USER_NINE_ID),
+            Assertion.builder().target(STATUS).type(IS).expected(SC_OK).build(),
+            Assertion.builder().target(BODY).key(SINGLE_USER_EMAIL_EXPLICIT.getJsonPath()).type(NOT_NULL).expected(true)
+                  .build());
+      CreateUserDto user = BulkData.nextUser();
+      try {
+         client.send(POST_CREATE_USER, spec -> spec.body(user),
+               Assertion.builder().target(STATUS).type(IS).expected(SC_CREATED).build(),
+               Assertion.builder().target(BODY).key(CREATE_USER_NAME_RESPONSE.getJsonPath()).type(IS)
+                     .expected(user.getName()).build());
+      } finally {
+         // every virtual user runs on its own thread and creates one user
+         BulkData.releaseIds();
+      }
+   };
+
+   private LoadGate() {
+   }
+
+   public static void main(final String[] args) {
+      System.setProperty("api.http.cache.enabled", "false");
+      ReqresStubServer.ensureStarted();
+      LoadProfile profile = LoadProfile.fromSystemProperties(50, 5, 30, 0);
+      double p99Millis = Double.parseDouble(System.getProperty("load.sla.p99.ms", "50"));
+
+      LoadReport report = LoadRunner.run(profile, USER_LIFECYCLE);
+      System.out.print(report.summary());
+
+      List<String> violations = report.violations(List.of(
+            Sla.p99(GET_ALL_USERS, p99Millis),
+            Sla.p99(GET_USER, p99Millis),
+            Sla.p99(POST_CREATE_USER, p99Millis)));
+      if (!violations.isEmpty() || report.failedFlows() > 0) {
+         violations.forEach(violation -> System.err.println("SLA violated: " + violation));
+         if (report.failedFlows() > 0) {
+            System.err.println(report.failedFlows() + " virtual user flow(s) failed, "
+                  + report.unfinishedFlows() + " of them did not finish in time");
+         }
+         System.exit(1);
+      }
+   }
+
+}
@@ -0,0 +1,51 @@
+package io.cyborgcode.benchmarks.load;
+
+import java.time.Duration;
+
+/**
+ * Open-model load shape: virtual users arrive at a rate, independent of how fast earlier
+ * users finish.
+ * <p>
+ * The arrival rate ramps up linearly from zero to {@code arrivalsPerSecond} over
+ * {@code rampUp}, then holds until {@code duration} has elapsed (ramp-up included).
+ * {@code thinkTime} is the pause a virtual user takes after each request of its flow.
+ * </p>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public record LoadProfile(double arrivalsPerSecond, Duration rampUp, Duration duration, Duration thinkTime) {
+
+   public LoadProfile {
+      if (arrivalsPerSecond <= 0) {
+         throw new IllegalArgumentException("Arrival rate must be positive");
+      }
+      if (rampUp.compareTo(duration) > 0) {
+         throw new IllegalArgumentException("Ramp-up must not exceed the total duration");
+      }
+   }
+
+   /**
+    * Reads a profile from system properties, using the given values as defaults:
+    * {@code load.arrivals.per.second}, {@code load.ramp.up.seconds},
+    * {@code load.duration.seconds} and {@code load.think.time.ms}.
+    */
+   public static LoadProfile fromSystemProperties(final double arrivalsPerSecond, final long rampUpSeconds,
+                                                  final long durationSeconds, final long thinkTimeMs) {
+      return new LoadProfile(
+            Double.parseDouble(System.getProperty("load.arrivals.per.second", String.valueOf(arrivalsPerSecond))),
+            Duration.ofSeconds(Long.getLong("load.ramp.up.seconds", rampUpSeconds)),
+            Duration.ofSeconds(Long.getLong("load.duration.seconds", durationSeconds)),
+            Duration.ofMillis(Long.getLong("load.think.time.ms", thinkTimeMs)));
+   }
+
+   /**
+    * Arrival rate at the given time since the start of the run.
+    */
+   double rateAt(final Duration elapsed) {
+      if (rampUp.isZero() || elapsed.compareTo(rampUp) >= 0) {
+         return arrivalsPerSecond;
+      }
+      return arrivalsPerSecond * elapsed.toNanos() / rampUp.toNanos();
+   }
+
+}
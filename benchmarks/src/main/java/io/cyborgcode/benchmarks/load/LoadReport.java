@@ -0,0 +1,69 @@
+package io.cyborgcode.benchmarks.load;
+
+import io.cyborgcode.api.test.framework.api.AppEndpoints;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Outcome of a load run: per-endpoint latency distributions plus arrival bookkeeping.
+ * {@code failedFlows} includes the {@code unfinishedFlows} that were still running when the
+ * run's drain timeout expired.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public record LoadReport(Map<AppEndpoints, EndpointStats> endpoints, long arrivals, long failedFlows,
+                         long unfinishedFlows) {
+
+   /**
+    * Checks the report against the given thresholds.
+    *
+    * @param slas the thresholds to check
+    * @return a description of every violated threshold; empty if all are met
+    */
+   public List<String> violations(final List<Sla> slas) {
+      List<String> violations = new ArrayList<>();
+      for (Sla sla : slas) {
+         EndpointStats stats = endpoints.get(sla.endpoint());
+         if (stats == null) {
+            violations.add(sla.endpoint() + ": no requests recorded");
+            continue;
+         }
+         double actual = stats.percentileMillis(sla.percentile());
+         if (actual > sla.maxMillis()) {
+            violations.add(String.format(Locale.ROOT, "%s: p%s %.1f ms exceeds %.1f ms",
+                  sla.endpoint(), sla.percentile(), actual, sla.maxMillis()));
+         }
+         if (stats.errorRate() > sla.maxErrorRate()) {
+            violations.add(String.format(Locale.ROOT, "%s: error rate %.2f%% exceeds %.2f%%",
+                  sla.endpoint(), stats.errorRate() * 100, sla.maxErrorRate() * 100));
+         }
+      }
+      return violations;
+   }
+
+   /**
+    * Throws if any threshold is violated.
+    *
+    * @param slas the thresholds to check
+    * @throws AssertionError listing every violation
+    */
+   public void assertSla(final List<Sla> slas) {
+      List<String> violations = violations(slas);
+      if (!violations.isEmpty()) {
+         throw new AssertionError("SLA violated:\n  " + String.join("\n  ", violations));
+      }
+   }
+
+   public String summary() {
+      StringBuilder summary = new StringBuilder(String.format(Locale.ROOT,
+            "arrivals=%d failedFlows=%d unfinishedFlows=%d%n", arrivals, failedFlows, unfinishedFlows));
+      endpoints.forEach((endpoint, stats) -> summary.append(String.format(Locale.ROOT,
+            "%-18s n=%-7d p50=%7.1fms p90=%7.1fms p99=%7.1fms max=%7.1fms errors=%d%n",
+            endpoint, stats.requests(), stats.percentileMillis(50), stats.percentileMillis(90),
+            stats.percentileMillis(99), stats.percentileMillis(100), stats.errors())));
+      return summary.toString();
+   }
+
+}
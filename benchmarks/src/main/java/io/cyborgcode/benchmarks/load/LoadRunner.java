@@ -0,0 +1,92 @@
+package io.cyborgcode.benchmarks.load;
+
+import io.cyborgcode.api.test.framework.api.AppEndpoints;
+import io.cyborgcode.api.test.framework.api.concurrent.ApiExecutor;
+import io.cyborgcode.api.test.framework.api.metrics.EndpointMetrics;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Open-model load generator.
+ * <p>
+ * Virtual users arrive according to a {@link LoadProfile}, regardless of how long earlier
+ * users take, so a slowing backend shows up as growing latency instead of silently reduced
+ * throughput. Every arrival runs the {@link VirtualUserFlow} on its own thread; virtual threads
+ * are used when the runtime provides them, so thousands of concurrent users stay cheap.
+ * </p>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class LoadRunner {
+
+   private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+   private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+   private LoadRunner() {
+   }
+
+   /**
+    * Runs the flow under the given profile and waits for in-flight users to finish.
+    * Users still running when the drain timeout expires are interrupted and counted as failed.
+    *
+    * @param profile the arrival shape
+    * @param flow    the virtual user journey
+    * @return latencies per endpoint and arrival counts
+    */
+   public static LoadReport run(final LoadProfile profile, final VirtualUserFlow flow) {
+      EndpointMetrics metrics = new EndpointMetrics();
+      LoadClient client = new LoadClient(metrics, profile.thinkTime());
+      LongAdder failedFlows = new LongAdder();
+      LongAdder finishedFlows = new LongAdder();
+      ExecutorService users = ApiExecutor.unbounded("virtual-user-");
+
+      long arrivals = 0;
+      long unfinished = 0;
+      double credit = 0;
+      long start = System.nanoTime();
+      long end = start + profile.duration().toNanos();
+      long previous = start;
+      try {
+         for (long now = start; now < end; now = System.nanoTime()) {
+            credit += profile.rateAt(Duration.ofNanos(now - start)) * (now - previous) / 1e9;
+            previous = now;
+            while (credit >= 1) {
+               credit--;
+               arrivals++;
+               users.execute(() -> {
+                  try {
+                     flow.run(client);
+                  } catch (RuntimeException | AssertionError e) {
+                     failedFlows.increment();
+                  } finally {
+                     finishedFlows.increment();
+                  }
+               });
+            }
+            TimeUnit.NANOSECONDS.sleep(TICK_NANOS);
+         }
+         users.shutdown();
+         if (!users.awaitTermination(DRAIN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+            unfinished = arrivals - finishedFlows.sum();
+         }
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+         unfinished = arrivals - finishedFlows.sum();
+      } finally {
+         users.shutdownNow();
+      }
+      return new LoadReport(stats(metrics), arrivals, failedFlows.sum() + unfinished, unfinished);
+   }
+
+   private static Map<AppEndpoints, EndpointStats> stats(final EndpointMetrics metrics) {
+      Map<AppEndpoints, EndpointStats> stats = new EnumMap<>(AppEndpoints.class);
+      metrics.snapshot().forEach((endpoint, snapshot) ->
+            stats.put(endpoint, new EndpointStats(metrics.latencyMicros(endpoint), snapshot.errors())));
+      return stats;
+   }
+
+}
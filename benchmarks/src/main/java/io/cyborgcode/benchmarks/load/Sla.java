@@ -0,0 +1,20 @@
+package io.cyborgcode.benchmarks.load;
+
+import io.cyborgcode.api.test.framework.api.AppEndpoints;
+
+/**
+ * Service-level threshold for one endpoint: a latency percentile and a maximum error rate.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public record Sla(AppEndpoints endpoint, double percentile, double maxMillis, double maxErrorRate) {
+
+   public static Sla p99(final AppEndpoints endpoint, final double maxMillis) {
+      return new Sla(endpoint, 99.0, maxMillis, 0.0);
+   }
+
+   public Sla withMaxErrorRate(final double rate) {
+      return new Sla(endpoint, percentile, maxMillis, rate);
+   }
+
+}
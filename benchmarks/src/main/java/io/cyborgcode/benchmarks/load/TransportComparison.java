@@ -0,0 +1,111 @@
+package io.cyborgcode.benchmarks.load;
+
+import io.cyborgcode.api.test.framework.api.concurrent.ApiExecutor;
+import io.cyborgcode.api.test.framework.api.http.JdkHttpTransport;
+import io.cyborgcode.api.test.framework.api.http.PooledHttpClient;
+import io.cyborgcode.api.test.framework.stub.ReqresStubServer;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static io.cyborgcode.api.test.framework.api.AppEndpoints.GET_USER;
+import static io.cyborgcode.api.test.framework.data.constants.PathVariables.ID_PARAM;
+import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Users.USER_NINE_ID;
+
+/**
+ * Compares the connections and throughput of the two API ring transports under many
+ * concurrent tests against a local HTTP/2 server.
+ * <p>
+ * The {@code GET_USER} response of the in-process reqres stub is fetched once and served by an
+ * {@link H2cMirrorServer}, which speaks both HTTP/1.1 and cleartext HTTP/2. Each of
+ * {@code transport.tests} (default 200) concurrent "tests" then sends
+ * {@code transport.requests} (default 20) {@code GET_USER} requests to it, first through the
+ * default {@link PooledHttpClient} transport, then through {@link JdkHttpTransport}. Every
+ * phase reports the distinct client connections the server saw and how many responses came
+ * over HTTP/2. The HTTP cache is turned off, so every request reaches the server. Run with
+ * the default {@code api.http.transport=HTTP_1_1} and the {@code config-local} settings, e.g.
+ * {@code -Dframework.config.file=config-local -Dapi.config.file=config-local
+ * -Dtest.data.file=test_data-local}.
+ * </p>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class TransportComparison {
+
+   private static final int OK = 200;
+   private static final String HTTP_2 = "HTTP/2";
+
+   private TransportComparison() {
+   }
+
+   public static void main(final String[] args) throws InterruptedException {
+      System.setProperty("api.http.cache.enabled", "false");
+      ReqresStubServer.ensureStarted();
+      if (ReqresStubServer.running().isEmpty()) {
+         throw new IllegalStateException("Run with stub.server.enabled=true");
+      }
+      int tests = Integer.getInteger("transport.tests", 200);
+      int requests = Integer.getInteger("transport.requests", 20);
+
+      Response user = GET_USER.defaultConfiguration().pathParam(ID_PARAM, USER_NINE_ID)
+            .request(GET_USER.method(), GET_USER.url());
+      try (H2cMirrorServer server = H2cMirrorServer.start(user.asByteArray(), user.getContentType())) {
+         String baseUri = server.baseUri() + "/api";
+         System.out.println(phase("HTTP/1.1 pooled", server, tests, requests,
+               () -> GET_USER.defaultConfiguration().baseUri(baseUri)));
+         System.out.println(phase("JDK HttpClient", server, tests, requests,
+               () -> GET_USER.defaultConfiguration().baseUri(baseUri).filter(JdkHttpTransport.shared())));
+      }
+   }
+
+   private static String phase(final String name, final H2cMirrorServer server, final int tests, final int requests,
+                               final Supplier<RequestSpecification> spec) throws InterruptedException {
+      int connectionsBefore = server.connectionsSeen();
+      LongAdder failures = new LongAdder();
+      LongAdder http2 = new LongAdder();
+      CountDownLatch start = new CountDownLatch(1);
+      CountDownLatch done = new CountDownLatch(tests);
+      ExecutorService workers = ApiExecutor.unbounded("transport-test-");
+      for (int test = 0; test < tests; test++) {
+         workers.execute(() -> {
+            try {
+               start.await();
+               for (int i = 0; i < requests; i++) {
+                  Response response = spec.get().pathParam(ID_PARAM, USER_NINE_ID)
+                        .request(GET_USER.method(), GET_USER.url());
+                  if (response.getStatusCode() != OK) {
+                     failures.increment();
+                  }
+                  if (response.getStatusLine().startsWith(HTTP_2)) {
+                     http2.increment();
+                  }
+               }
+            } catch (InterruptedException e) {
+               Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+               failures.increment();
+            } finally {
+               done.countDown();
+            }
+         });
+      }
+      long begin = System.nanoTime();
+      start.countDown();
+      done.await();
+      long elapsed = System.nanoTime() - begin;
+      workers.shutdown();
+      workers.awaitTermination(1, TimeUnit.MINUTES);
+
+      long total = (long) tests * requests;
+      return String.format(Locale.ROOT,
+            "%-16s %d tests x %d requests: %d connections, %d over HTTP/2, %.0f req/s, %d failed",
+            name, tests, requests, server.connectionsSeen() - connectionsBefore, http2.sum(),
+            total / (elapsed / 1e9), failures.sum());
+   }
+
+}
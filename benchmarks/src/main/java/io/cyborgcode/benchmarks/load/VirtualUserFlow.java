@@ -0,0 +1,15 @@
+package io.cyborgcode.benchmarks.load;
+
+/**
+ * One virtual user's journey through the API, e.g. list users, open one, create one.
+ * Implementations must be stateless or thread-confined: every arrival runs the flow on its
+ * own thread.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@FunctionalInterface
+public interface VirtualUserFlow {
+
+   void run(LoadClient client);
+
+}
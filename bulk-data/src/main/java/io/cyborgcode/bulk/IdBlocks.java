@@ -0,0 +1,94 @@
+package io.cyborgcode.bulk;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out the IDs of an {@link IdRange} so that no two threads ever receive the same one.
+ * <p>
+ * The range is cut into blocks of a fixed size. A thread claims a block on its first call to
+ * {@link #next()} and walks it without any synchronization; when the block is used up it claims
+ * the next free one. Only claiming a block touches shared state, one atomic increment per
+ * block. Once every block has been claimed, {@link #next()} fails instead of reusing IDs.
+ * </p>
+ * <p>
+ * A thread that ends after a few IDs, such as a virtual user, would leave the rest of its block
+ * unused for good. Such threads call {@link #release()} when done; the unused rest is handed to
+ * the next thread that needs a block, before any new block is claimed.
+ * </p>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class IdBlocks {
+
+   private final IdRange space;
+   private final int blockSize;
+   private final AtomicLong claimed = new AtomicLong();
+   private final Queue<IdRange> released = new ConcurrentLinkedQueue<>();
+   private final ThreadLocal<Cursor> cursor = new ThreadLocal<>();
+
+   /**
+    * @param space     the IDs to hand out
+    * @param blockSize the number of IDs a thread claims at once
+    */
+   public IdBlocks(final IdRange space, final int blockSize) {
+      if (blockSize <= 0) {
+         throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+      }
+      this.space = space;
+      this.blockSize = blockSize;
+   }
+
+   /**
+    * Returns the next unused ID of the current thread's block, taking a released or claiming a
+    * new block first when the thread has none or has used its block up.
+    *
+    * @return an ID no other call of this instance returns
+    * @throws IllegalStateException if every block of the range has been claimed
+    */
+   public int next() {
+      Cursor current = cursor.get();
+      if (current == null || current.next >= current.block.to()) {
+         IdRange block = released.poll();
+         current = new Cursor(block != null ? block : claim());
+         cursor.set(current);
+      }
+      return current.next++;
+   }
+
+   /**
+    * Hands the unused rest of the current thread's block back for other threads; the thread's
+    * next call of {@link #next()} starts on another block.
+    */
+   public void release() {
+      Cursor current = cursor.get();
+      cursor.remove();
+      if (current != null && current.next < current.block.to()) {
+         released.add(new IdRange(current.next, current.block.to()));
+      }
+   }
+
+   IdRange claim() {
+      long index = claimed.getAndIncrement();
+      long from = space.from() + index * blockSize;
+      if (from >= space.to()) {
+         throw new IllegalStateException("All IDs of " + space + " have been handed out in blocks of "
+               + blockSize);
+      }
+      return new IdRange((int) from, (int) Math.min(from + blockSize, space.to()));
+   }
+
+   private static final class Cursor {
+
+      private final IdRange block;
+      private int next;
+
+      private Cursor(final IdRange block) {
+         this.block = block;
+         this.next = block.from();
+      }
+
+   }
+
+}
@@ -0,0 +1,43 @@
+package io.cyborgcode.bulk;
+
+/**
+ * Half-open range of record IDs, {@code [from, to)}.
+ * <p>
+ * IDs are {@code int}s, so every ID of a range fits the integer ID fields of generated models.
+ * </p>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public record IdRange(int from, int to) {
+
+   public IdRange {
+      if (from < 0 || to < from) {
+         throw new IllegalArgumentException("Invalid ID range [" + from + ", " + to + ")");
+      }
+   }
+
+   /**
+    * Returns the {@code worker}-th of {@code workers} disjoint, contiguous parts of this range;
+    * together the parts cover the range exactly.
+    *
+    * @param worker  zero-based worker index
+    * @param workers number of workers
+    * @return the worker's part
+    */
+   public IdRange partition(final int worker, final int workers) {
+      if (workers <= 0 || worker < 0 || worker >= workers) {
+         throw new IllegalArgumentException("Worker " + worker + " out of " + workers);
+      }
+      long size = size();
+      return new IdRange((int) (from + size * worker / workers), (int) (from + size * (worker + 1) / workers));
+   }
+
+   public int size() {
+      return to - from;
+   }
+
+   public boolean contains(final int id) {
+      return id >= from && id < to;
+   }
+
+}
@@ -0,0 +1,37 @@
+package io.cyborgcode.bulk;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Seeded randomness for generators whose records are a pure function of a seed and an ID.
+ * <p>
+ * {@link #random(long, int)} derives an independent generator per ID, so the same seed and ID
+ * always yield the same values regardless of thread, order or parallelism. The run's seed
+ * defaults to {@value #DEFAULT_SEED} and can be changed with {@code -Ddata.bulk.seed}.
+ * </p>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class SeededRecords {
+
+   public static final long DEFAULT_SEED = 20_240_601L;
+
+   private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+   private SeededRecords() {
+   }
+
+   public static long seed() {
+      return Long.getLong("data.bulk.seed", DEFAULT_SEED);
+   }
+
+   public static SplittableRandom random(final long seed, final int id) {
+      return new SplittableRandom(seed + id * GOLDEN_GAMMA);
+   }
+
+   public static <T> T pick(final SplittableRandom random, final List<T> values) {
+      return values.get(random.nextInt(values.size()));
+   }
+
+}
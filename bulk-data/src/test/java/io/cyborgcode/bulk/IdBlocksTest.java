@@ -0,0 +1,174 @@
+package io.cyborgcode.bulk;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdBlocksTest {
+
+   @Test
+   void walksTheBlockOfTheCurrentThread() {
+      IdBlocks blocks = new IdBlocks(new IdRange(100, 1_000), 10);
+
+      assertEquals(100, blocks.next());
+      assertEquals(101, blocks.next());
+      assertEquals(102, blocks.next());
+   }
+
+   @Test
+   void claimsTheNextBlockWhenTheCurrentOneIsUsedUp() {
+      IdBlocks blocks = new IdBlocks(new IdRange(0, 100), 3);
+      List<Integer> ids = new ArrayList<>();
+      for (int i = 0; i < 7; i++) {
+         ids.add(blocks.next());
+      }
+
+      assertEquals(List.of(0, 1, 2, 3, 4, 5, 6), ids);
+   }
+
+   @Test
+   void threadsReceiveDistinctBlocks() throws InterruptedException {
+      IdBlocks blocks = new IdBlocks(new IdRange(0, 1_000_000), 50);
+      int threads = 16;
+      int idsPerThread = 120;
+      Set<Integer> ids = ConcurrentHashMap.newKeySet();
+      Set<Integer> blocksPerThread = ConcurrentHashMap.newKeySet();
+      CountDownLatch start = new CountDownLatch(1);
+      List<Thread> workers = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+         Thread worker = new Thread(() -> {
+            awaitQuietly(start);
+            Set<Integer> own = new HashSet<>();
+            for (int i = 0; i < idsPerThread; i++) {
+               int id = blocks.next();
+               ids.add(id);
+               own.add(id / 50);
+            }
+            blocksPerThread.add(own.size());
+         });
+         workers.add(worker);
+         worker.start();
+      }
+      start.countDown();
+      for (Thread worker : workers) {
+         worker.join();
+      }
+
+      assertEquals(threads * idsPerThread, ids.size());
+      assertEquals(Set.of(3), blocksPerThread);
+   }
+
+   @Test
+   void newThreadsNeverShareIdsWithTheCallingThread() throws InterruptedException {
+      IdBlocks blocks = new IdBlocks(new IdRange(1_000_000, Integer.MAX_VALUE), 100);
+      Set<Integer> ids = ConcurrentHashMap.newKeySet();
+      ids.add(blocks.next());
+      List<Thread> workers = new ArrayList<>();
+      for (int t = 0; t < 8; t++) {
+         Thread worker = new Thread(() -> {
+            for (int i = 0; i < 3; i++) {
+               ids.add(blocks.next());
+            }
+         });
+         workers.add(worker);
+         worker.start();
+      }
+      for (Thread worker : workers) {
+         worker.join();
+      }
+
+      assertEquals(1 + 8 * 3, ids.size());
+   }
+
+   @Test
+   void releasedRestIsHandedToTheNextThreadBeforeANewBlock() throws InterruptedException {
+      IdBlocks blocks = new IdBlocks(new IdRange(0, 1_000), 10);
+      List<Integer> ids = new ArrayList<>();
+      Thread first = new Thread(() -> {
+         ids.add(blocks.next());
+         ids.add(blocks.next());
+         blocks.release();
+      });
+      first.start();
+      first.join();
+      Thread second = new Thread(() -> ids.add(blocks.next()));
+      second.start();
+      second.join();
+
+      assertEquals(List.of(0, 1, 2), ids);
+      assertEquals(new IdRange(10, 20), blocks.claim());
+   }
+
+   @Test
+   void shortLivedThreadsThatReleaseShareOneBlock() throws InterruptedException {
+      IdBlocks blocks = new IdBlocks(new IdRange(0, 1_000), 100);
+      Set<Integer> ids = ConcurrentHashMap.newKeySet();
+      for (int user = 0; user < 50; user++) {
+         Thread virtualUser = new Thread(() -> {
+            ids.add(blocks.next());
+            blocks.release();
+         });
+         virtualUser.start();
+         virtualUser.join();
+      }
+
+      assertEquals(50, ids.size());
+      assertTrue(ids.stream().allMatch(id -> id < 100));
+   }
+
+   @Test
+   void releasingWithoutABlockOrWithAUsedUpBlockHandsNothingBack() {
+      IdBlocks blocks = new IdBlocks(new IdRange(0, 4), 2);
+      blocks.release();
+      blocks.next();
+      blocks.next();
+      blocks.release();
+
+      assertEquals(2, blocks.next());
+   }
+
+   @Test
+   void lastBlockIsCutAtTheEndOfTheRange() {
+      IdBlocks blocks = new IdBlocks(new IdRange(0, 25), 10);
+
+      assertEquals(new IdRange(0, 10), blocks.claim());
+      assertEquals(new IdRange(10, 20), blocks.claim());
+      assertEquals(new IdRange(20, 25), blocks.claim());
+   }
+
+   @Test
+   void failsOnceEveryBlockIsClaimedAndNeverReusesIds() {
+      IdBlocks blocks = new IdBlocks(new IdRange(Integer.MAX_VALUE - 5, Integer.MAX_VALUE), 2);
+      Set<Integer> ids = new HashSet<>();
+      for (int i = 0; i < 5; i++) {
+         ids.add(blocks.next());
+      }
+
+      assertEquals(5, ids.size());
+      assertTrue(ids.stream().allMatch(id -> id >= Integer.MAX_VALUE - 5 && id < Integer.MAX_VALUE));
+      assertThrows(IllegalStateException.class, blocks::next);
+      assertThrows(IllegalStateException.class, blocks::next);
+   }
+
+   @Test
+   void rejectsNonPositiveBlockSizes() {
+      assertThrows(IllegalArgumentException.class, () -> new IdBlocks(new IdRange(0, 10), 0));
+   }
+
+   private static void awaitQuietly(final CountDownLatch latch) {
+      try {
+         latch.await();
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+      }
+   }
+
+}
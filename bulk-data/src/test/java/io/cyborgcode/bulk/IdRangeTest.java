@@ -0,0 +1,87 @@
+package io.cyborgcode.bulk;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdRangeTest {
+
+   @Test
+   void partitionsAreContiguousAndCoverTheRange() {
+      IdRange range = new IdRange(1_000, 1_103);
+      for (int workers = 1; workers <= 12; workers++) {
+         List<IdRange> parts = parts(range, workers);
+         assertEquals(range.from(), parts.get(0).from());
+         assertEquals(range.to(), parts.get(workers - 1).to());
+         int covered = 0;
+         for (int i = 0; i < workers; i++) {
+            covered += parts.get(i).size();
+            if (i > 0) {
+               assertEquals(parts.get(i - 1).to(), parts.get(i).from(), "part " + i + " of " + workers);
+            }
+         }
+         assertEquals(range.size(), covered);
+      }
+   }
+
+   @Test
+   void partitionSizesDifferByAtMostOne() {
+      List<IdRange> parts = parts(new IdRange(0, 10), 4);
+
+      assertEquals(List.of(2, 3, 2, 3), parts.stream().map(IdRange::size).toList());
+   }
+
+   @Test
+   void partitionsNearTheTopOfTheIdSpaceDoNotOverflow() {
+      IdRange range = new IdRange(1_000_000, Integer.MAX_VALUE);
+      List<IdRange> parts = parts(range, 7);
+
+      assertEquals(range.from(), parts.get(0).from());
+      assertEquals(Integer.MAX_VALUE, parts.get(6).to());
+      for (int i = 1; i < parts.size(); i++) {
+         assertEquals(parts.get(i - 1).to(), parts.get(i).from());
+      }
+   }
+
+   @Test
+   void moreWorkersThanIdsLeavesSomePartsEmpty() {
+      List<IdRange> parts = parts(new IdRange(5, 7), 4);
+
+      assertEquals(2, parts.stream().mapToInt(IdRange::size).sum());
+      assertEquals(2, parts.stream().filter(part -> part.size() == 0).count());
+   }
+
+   @Test
+   void containsIsHalfOpen() {
+      IdRange range = new IdRange(3, 5);
+
+      assertFalse(range.contains(2));
+      assertTrue(range.contains(3));
+      assertTrue(range.contains(4));
+      assertFalse(range.contains(5));
+   }
+
+   @Test
+   void rejectsInvalidRangesAndWorkers() {
+      assertThrows(IllegalArgumentException.class, () -> new IdRange(-1, 5));
+      assertThrows(IllegalArgumentException.class, () -> new IdRange(5, 4));
+      IdRange range = new IdRange(0, 10);
+      assertThrows(IllegalArgumentException.class, () -> range.partition(0, 0));
+      assertThrows(IllegalArgumentException.class, () -> range.partition(3, 3));
+      assertThrows(IllegalArgumentException.class, () -> range.partition(-1, 3));
+   }
+
+   private static List<IdRange> parts(final IdRange range, final int workers) {
+      List<IdRange> parts = new ArrayList<>(workers);
+      for (int worker = 0; worker < workers; worker++) {
+         parts.add(range.partition(worker, workers));
+      }
+      return parts;
+   }
+
+}
@@ -0,0 +1,34 @@
+package io.cyborgcode.bulk;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class SeededRecordsTest {
+
+   @Test
+   void sameSeedAndIdYieldTheSameSequence() {
+      assertEquals(draw(SeededRecords.random(7, 42)), draw(SeededRecords.random(7, 42)));
+   }
+
+   @Test
+   void differentIdsOrSeedsYieldDifferentSequences() {
+      List<Integer> reference = draw(SeededRecords.random(7, 42));
+
+      assertNotEquals(reference, draw(SeededRecords.random(7, 43)));
+      assertNotEquals(reference, draw(SeededRecords.random(8, 42)));
+   }
+
+   @Test
+   void seedDefaultsToTheConstant() {
+      assertEquals(SeededRecords.DEFAULT_SEED, SeededRecords.seed());
+   }
+
+   private static List<Integer> draw(final SplittableRandom random) {
+      return random.ints(8, 0, 1_000).boxed().toList();
+   }
+
+}
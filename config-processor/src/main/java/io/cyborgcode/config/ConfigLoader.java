@@ -0,0 +1,120 @@
+package io.cyborgcode.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Loads the sources of a {@link StaticConfig} interface the way Owner does.
+ * <p>
+ * Supported source URIs are {@code system:properties}, {@code system:env},
+ * {@code classpath:<resource>} and {@code file:<path>}; {@code ${name}} placeholders in a URI
+ * are resolved against system properties, then environment variables. Missing sources are
+ * skipped. With {@code merge}, earlier sources take precedence over later ones key by key;
+ * otherwise only the first existing source is used.
+ * </p>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class ConfigLoader {
+
+   private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{([^}]+)}");
+
+   private ConfigLoader() {
+   }
+
+   /**
+    * Loads and combines the given sources.
+    *
+    * @param merge   whether to merge all sources or use the first existing one
+    * @param sources the source URIs, highest precedence first
+    * @return the combined properties
+    */
+   public static Properties load(final boolean merge, final String... sources) {
+      Properties combined = new Properties();
+      for (String source : sources) {
+         Properties loaded = read(expand(source, new Properties()));
+         if (loaded == null) {
+            continue;
+         }
+         loaded.forEach(combined::putIfAbsent);
+         if (!merge) {
+            break;
+         }
+      }
+      return combined;
+   }
+
+   /**
+    * Resolves {@code ${name}} placeholders against the given properties, system properties
+    * and environment variables, in that order. Unresolved placeholders become empty.
+    *
+    * @param value      the text to expand
+    * @param properties the loaded configuration
+    * @return the expanded text
+    */
+   public static String expand(final String value, final Properties properties) {
+      if (value == null || value.indexOf('$') < 0) {
+         return value;
+      }
+      Matcher matcher = PLACEHOLDER.matcher(value);
+      StringBuilder expanded = new StringBuilder();
+      while (matcher.find()) {
+         String name = matcher.group(1);
+         String replacement = properties.getProperty(name, System.getProperty(name, System.getenv(name)));
+         matcher.appendReplacement(expanded, Matcher.quoteReplacement(replacement == null ? "" : replacement));
+      }
+      matcher.appendTail(expanded);
+      return expanded.toString();
+   }
+
+   private static Properties read(final String source) {
+      if ("system:properties".equals(source)) {
+         Properties copy = new Properties();
+         copy.putAll(System.getProperties());
+         return copy;
+      }
+      if ("system:env".equals(source)) {
+         Properties copy = new Properties();
+         for (Map.Entry<String, String> variable : System.getenv().entrySet()) {
+            copy.setProperty(variable.getKey(), variable.getValue());
+         }
+         return copy;
+      }
+      if (source.startsWith("classpath:")) {
+         String resource = source.substring("classpath:".length());
+         ClassLoader loader = Thread.currentThread().getContextClassLoader();
+         try (InputStream in = (loader != null ? loader : ConfigLoader.class.getClassLoader())
+               .getResourceAsStream(resource)) {
+            return in == null ? null : properties(in);
+         } catch (IOException e) {
+            throw new UncheckedIOException("Could not read config source " + source, e);
+         }
+      }
+      if (source.startsWith("file:")) {
+         Path path = Path.of(source.substring("file:".length()));
+         if (!Files.isRegularFile(path)) {
+            return null;
+         }
+         try (InputStream in = Files.newInputStream(path)) {
+            return properties(in);
+         } catch (IOException e) {
+            throw new UncheckedIOException("Could not read config source " + source, e);
+         }
+      }
+      throw new IllegalArgumentException("Unsupported config source: " + source);
+   }
+
+   private static Properties properties(final InputStream in) throws IOException {
+      Properties properties = new Properties();
+      properties.load(in);
+      return properties;
+   }
+
+}
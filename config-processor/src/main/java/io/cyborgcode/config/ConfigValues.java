@@ -0,0 +1,67 @@
+package io.cyborgcode.config;
+
+import java.util.Arrays;
+import java.util.Properties;
+
+/**
+ * Conversions used by generated {@link StaticConfig} classes to turn a property into a typed
+ * field value.
+ * <p>
+ * Every method looks up {@code key}, falls back to {@code defaultValue} (the text of
+ * {@code @DefaultValue}, or {@code null} without one), expands {@code ${name}} placeholders and
+ * converts the result. Missing values of primitive types fail fast, as Owner does.
+ * </p>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class ConfigValues {
+
+   private ConfigValues() {
+   }
+
+   public static String string(final Properties properties, final String key, final String defaultValue) {
+      return ConfigLoader.expand(properties.getProperty(key, defaultValue), properties);
+   }
+
+   public static boolean bool(final Properties properties, final String key, final String defaultValue) {
+      return Boolean.parseBoolean(required(properties, key, defaultValue));
+   }
+
+   public static int integer(final Properties properties, final String key, final String defaultValue) {
+      return Integer.parseInt(required(properties, key, defaultValue));
+   }
+
+   public static long longValue(final Properties properties, final String key, final String defaultValue) {
+      return Long.parseLong(required(properties, key, defaultValue));
+   }
+
+   public static double doubleValue(final Properties properties, final String key, final String defaultValue) {
+      return Double.parseDouble(required(properties, key, defaultValue));
+   }
+
+   public static String[] strings(final Properties properties, final String key, final String defaultValue) {
+      String value = string(properties, key, defaultValue);
+      if (value == null) {
+         return null;
+      }
+      if (value.isBlank()) {
+         return new String[0];
+      }
+      return Arrays.stream(value.split(",")).map(String::trim).toArray(String[]::new);
+   }
+
+   public static <E extends Enum<E>> E enumValue(final Properties properties, final String key,
+                                                 final String defaultValue, final Class<E> type) {
+      String value = string(properties, key, defaultValue);
+      return value == null || value.isBlank() ? null : Enum.valueOf(type, value.trim());
+   }
+
+   private static String required(final Properties properties, final String key, final String defaultValue) {
+      String value = string(properties, key, defaultValue);
+      if (value == null) {
+         throw new IllegalStateException("Missing value for config key '" + key + "'");
+      }
+      return value.trim();
+   }
+
+}
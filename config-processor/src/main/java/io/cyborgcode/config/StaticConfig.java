@@ -0,0 +1,28 @@
+package io.cyborgcode.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requests a compile-time generated, immutable implementation of an Owner config interface.
+ * <p>
+ * For an interface {@code FooProperties}, the annotation processor generates
+ * {@code ImmutableFooProperties} in the same package. It reads the interface's
+ * {@code @Config.Sources}, {@code @Config.LoadPolicy}, {@code @Key} and {@code @DefaultValue}
+ * annotations, loads the sources once per JVM when the class is first used, and converts
+ * every value into a final field. Getters are plain field reads; no proxy is created.
+ * </p>
+ * <pre>{@code
+ * public static FooProperties config() {
+ *    return ImmutableFooProperties.instance();
+ * }
+ * }</pre>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface StaticConfig {
+}
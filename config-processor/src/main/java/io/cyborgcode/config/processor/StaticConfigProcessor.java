@@ -0,0 +1,228 @@
+package io.cyborgcode.config.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedSourceVersion;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Generates {@code Immutable<Name>} classes for interfaces annotated with
+ * {@link io.cyborgcode.config.StaticConfig}.
+ * <p>
+ * Owner annotations are read by name, so the processor has no dependency on Owner itself.
+ * Supported getter types are {@code String}, {@code String[]}, {@code boolean}, {@code int},
+ * {@code long}, {@code double}, their boxed forms and enums; anything else is reported as a
+ * compile error on the offending method.
+ * </p>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@SupportedAnnotationTypes(StaticConfigProcessor.STATIC_CONFIG)
+@SupportedSourceVersion(SourceVersion.RELEASE_17)
+public class StaticConfigProcessor extends AbstractProcessor {
+
+   static final String STATIC_CONFIG = "io.cyborgcode.config.StaticConfig";
+
+   private static final String OWNER = "org.aeonbits.owner.Config";
+   private static final String KEY = OWNER + ".Key";
+   private static final String DEFAULT_VALUE = OWNER + ".DefaultValue";
+   private static final String SOURCES = OWNER + ".Sources";
+   private static final String LOAD_POLICY = OWNER + ".LoadPolicy";
+   private static final String PREFIX = "Immutable";
+
+   @Override
+   public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+      for (TypeElement annotation : annotations) {
+         for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+            if (element.getKind() != ElementKind.INTERFACE) {
+               error(element, "@StaticConfig is only supported on interfaces");
+               continue;
+            }
+            generate((TypeElement) element);
+         }
+      }
+      return true;
+   }
+
+   private void generate(final TypeElement config) {
+      List<Property> properties = new ArrayList<>();
+      for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(config))) {
+         if (!method.getModifiers().contains(Modifier.ABSTRACT)
+               || method.getEnclosingElement().getKind() != ElementKind.INTERFACE) {
+            continue;
+         }
+         if (!method.getParameters().isEmpty()) {
+            error(method, "@StaticConfig getters must not take parameters");
+            return;
+         }
+         Property property = property(method);
+         if (property == null) {
+            return;
+         }
+         properties.add(property);
+      }
+
+      String packageName = processingEnv.getElementUtils().getPackageOf(config).getQualifiedName().toString();
+      String className = PREFIX + config.getSimpleName();
+      try (Writer writer = processingEnv.getFiler()
+            .createSourceFile(packageName + "." + className, config).openWriter()) {
+         writer.write(source(config, packageName, className, properties));
+      } catch (IOException e) {
+         error(config, "Could not write " + className + ": " + e.getMessage());
+      }
+   }
+
+   private Property property(final ExecutableElement method) {
+      String name = method.getSimpleName().toString();
+      String key = stringValue(method, KEY);
+      String defaultValue = stringValue(method, DEFAULT_VALUE);
+      TypeMirror type = method.getReturnType();
+      String typeName = type.toString();
+      String converter = switch (typeName) {
+         case "java.lang.String" -> "string(properties, %s, %s)";
+         case "java.lang.String[]" -> "strings(properties, %s, %s)";
+         case "boolean", "java.lang.Boolean" -> "bool(properties, %s, %s)";
+         case "int", "java.lang.Integer" -> "integer(properties, %s, %s)";
+         case "long", "java.lang.Long" -> "longValue(properties, %s, %s)";
+         case "double", "java.lang.Double" -> "doubleValue(properties, %s, %s)";
+         default -> isEnum(type) ? "enumValue(properties, %s, %s, " + typeName + ".class)" : null;
+      };
+      if (converter == null) {
+         error(method, "Unsupported @StaticConfig property type " + typeName);
+         return null;
+      }
+      String read = "ConfigValues." + String.format(converter,
+            literal(key != null ? key : name), defaultValue != null ? literal(defaultValue) : "null");
+      return new Property(name, typeName, read, type.getKind() == TypeKind.ARRAY);
+   }
+
+   private String source(final TypeElement config, final String packageName, final String className,
+                         final List<Property> properties) {
+      String merge = "MERGE".equals(enumValue(config, LOAD_POLICY)) ? "true" : "false";
+      List<String> sources = stringValues(config, SOURCES);
+
+      StringBuilder java = new StringBuilder();
+      if (!packageName.isEmpty()) {
+         java.append("package ").append(packageName).append(";\n\n");
+      }
+      java.append("import io.cyborgcode.config.ConfigLoader;\n")
+            .append("import io.cyborgcode.config.ConfigValues;\n")
+            .append("import java.util.Properties;\n")
+            .append("import javax.annotation.processing.Generated;\n\n")
+            .append("/**\n * Immutable {@link ").append(config.getSimpleName())
+            .append("}, loaded once per JVM. Generated from the interface's annotations; do not edit.\n */\n")
+            .append("@Generated(\"").append(getClass().getName()).append("\")\n")
+            .append("public final class ").append(className).append(" implements ")
+            .append(config.getQualifiedName()).append(" {\n\n")
+            .append("   private static final ").append(className).append(" INSTANCE = new ").append(className)
+            .append("(ConfigLoader.load(").append(merge);
+      for (String source : sources) {
+         java.append(", ").append(literal(source));
+      }
+      java.append("));\n\n");
+      for (Property property : properties) {
+         java.append("   private final ").append(property.type()).append(' ').append(property.name()).append(";\n");
+      }
+      java.append("\n   private ").append(className).append("(final Properties properties) {\n");
+      for (Property property : properties) {
+         java.append("      this.").append(property.name()).append(" = ").append(property.read()).append(";\n");
+      }
+      java.append("   }\n\n")
+            .append("   public static ").append(className).append(" instance() {\n")
+            .append("      return INSTANCE;\n")
+            .append("   }\n");
+      for (Property property : properties) {
+         java.append("\n   @Override\n")
+               .append("   public ").append(property.type()).append(' ').append(property.name()).append("() {\n")
+               .append("      return ").append(property.name())
+               .append(property.array() ? " == null ? null : " + property.name() + ".clone()" : "")
+               .append(";\n")
+               .append("   }\n");
+      }
+      return java.append("\n}\n").toString();
+   }
+
+   private boolean isEnum(final TypeMirror type) {
+      return type instanceof DeclaredType declared && declared.asElement().getKind() == ElementKind.ENUM;
+   }
+
+   private static String stringValue(final Element element, final String annotation) {
+      AnnotationValue value = value(element, annotation);
+      return value == null ? null : (String) value.getValue();
+   }
+
+   private static String enumValue(final Element element, final String annotation) {
+      AnnotationValue value = value(element, annotation);
+      return value == null ? null : value.getValue().toString();
+   }
+
+   @SuppressWarnings("unchecked")
+   private static List<String> stringValues(final Element element, final String annotation) {
+      AnnotationValue value = value(element, annotation);
+      List<String> strings = new ArrayList<>();
+      if (value != null) {
+         for (AnnotationValue item : (List<? extends AnnotationValue>) value.getValue()) {
+            strings.add((String) item.getValue());
+         }
+      }
+      return strings;
+   }
+
+   private static AnnotationValue value(final Element element, final String annotation) {
+      for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+         TypeElement type = (TypeElement) mirror.getAnnotationType().asElement();
+         if (!type.getQualifiedName().contentEquals(annotation)) {
+            continue;
+         }
+         for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+               : mirror.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals("value")) {
+               return entry.getValue();
+            }
+         }
+      }
+      return null;
+   }
+
+   private static String literal(final String value) {
+      StringBuilder literal = new StringBuilder("\"");
+      for (char c : value.toCharArray()) {
+         switch (c) {
+            case '"' -> literal.append("\\\"");
+            case '\\' -> literal.append("\\\\");
+            case '\n' -> literal.append("\\n");
+            case '\r' -> literal.append("\\r");
+            case '\t' -> literal.append("\\t");
+            default -> literal.append(c);
+         }
+      }
+      return literal.append('"').toString();
+   }
+
+   private void error(final Element element, final String message) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+   }
+
+   private record Property(String name, String type, String read, boolean array) {
+   }
+
+}
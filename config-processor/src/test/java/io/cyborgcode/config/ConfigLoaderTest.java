@@ -0,0 +1,99 @@
+package io.cyborgcode.config;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigLoaderTest {
+
+   private static final String DIR_PROPERTY = "config.loader.test.dir";
+
+   private Path dir;
+
+   @BeforeEach
+   void createSources() throws IOException {
+      dir = Files.createTempDirectory("config-loader");
+      Files.writeString(dir.resolve("high.properties"), "shared=high\nonly.high=1\n");
+      Files.writeString(dir.resolve("low.properties"), "shared=low\nonly.low=2\n");
+      System.setProperty(DIR_PROPERTY, dir.toString());
+   }
+
+   @AfterEach
+   void deleteSources() throws IOException {
+      System.clearProperty(DIR_PROPERTY);
+      try (var files = Files.list(dir)) {
+         for (Path file : files.toList()) {
+            Files.delete(file);
+         }
+      }
+      Files.delete(dir);
+   }
+
+   @Test
+   void mergeLetsEarlierSourcesWinKeyByKey() {
+      Properties properties = ConfigLoader.load(true, file("high"), file("low"));
+
+      assertEquals("high", properties.getProperty("shared"));
+      assertEquals("1", properties.getProperty("only.high"));
+      assertEquals("2", properties.getProperty("only.low"));
+   }
+
+   @Test
+   void firstUsesOnlyTheFirstExistingSource() {
+      Properties properties = ConfigLoader.load(false, file("missing"), file("low"), file("high"));
+
+      assertEquals("low", properties.getProperty("shared"));
+      assertEquals("2", properties.getProperty("only.low"));
+      assertNull(properties.getProperty("only.high"));
+   }
+
+   @Test
+   void skipsMissingSources() {
+      assertTrue(ConfigLoader.load(true, file("missing"), "classpath:missing.properties").isEmpty());
+   }
+
+   @Test
+   void expandsPlaceholdersInSourceUris() {
+      Properties properties = ConfigLoader.load(true, "file:${" + DIR_PROPERTY + "}/high.properties");
+
+      assertEquals("high", properties.getProperty("shared"));
+   }
+
+   @Test
+   void readsSystemProperties() {
+      assertEquals(dir.toString(), ConfigLoader.load(true, "system:properties").getProperty(DIR_PROPERTY));
+   }
+
+   @Test
+   void rejectsUnsupportedSources() {
+      assertThrows(IllegalArgumentException.class, () -> ConfigLoader.load(true, "http://config"));
+   }
+
+   @Test
+   void expandsFromLoadedPropertiesBeforeSystemProperties() {
+      Properties properties = new Properties();
+      properties.setProperty(DIR_PROPERTY, "loaded");
+
+      assertEquals("loaded/x", ConfigLoader.expand("${" + DIR_PROPERTY + "}/x", properties));
+      assertEquals(dir + "/x", ConfigLoader.expand("${" + DIR_PROPERTY + "}/x", new Properties()));
+   }
+
+   @Test
+   void expandsUnresolvedPlaceholdersToEmpty() {
+      assertEquals("a--b", ConfigLoader.expand("a-${config.loader.test.undefined}-b", new Properties()));
+   }
+
+   private String file(final String name) {
+      return "file:" + dir.resolve(name + ".properties");
+   }
+
+}
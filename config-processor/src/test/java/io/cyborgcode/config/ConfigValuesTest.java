@@ -0,0 +1,92 @@
+package io.cyborgcode.config;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigValuesTest {
+
+   @Test
+   void fallsBackToDefaultValue() {
+      Properties properties = properties("set", "7");
+
+      assertEquals(7, ConfigValues.integer(properties, "set", "1"));
+      assertEquals(1, ConfigValues.integer(properties, "unset", "1"));
+      assertNull(ConfigValues.string(properties, "unset", null));
+   }
+
+   @Test
+   void expandsPlaceholdersInValuesAndDefaults() {
+      Properties properties = properties("host", "example.org", "url", "https://${host}/api");
+
+      assertEquals("https://example.org/api", ConfigValues.string(properties, "url", null));
+      assertEquals("example.org:8080", ConfigValues.string(properties, "unset", "${host}:8080"));
+   }
+
+   @Test
+   void convertsPrimitives() {
+      Properties properties = properties("flag", " true ", "count", "3", "big", "5000000000", "ratio", "0.25");
+
+      assertTrue(ConfigValues.bool(properties, "flag", null));
+      assertFalse(ConfigValues.bool(properties, "unset", "false"));
+      assertEquals(3, ConfigValues.integer(properties, "count", null));
+      assertEquals(5_000_000_000L, ConfigValues.longValue(properties, "big", null));
+      assertEquals(0.25, ConfigValues.doubleValue(properties, "ratio", null), 0.0);
+   }
+
+   @Test
+   void failsFastOnMissingPrimitives() {
+      Properties properties = new Properties();
+
+      IllegalStateException missing = assertThrows(IllegalStateException.class,
+            () -> ConfigValues.integer(properties, "threads", null));
+      assertTrue(missing.getMessage().contains("threads"));
+      assertThrows(IllegalStateException.class, () -> ConfigValues.bool(properties, "flag", null));
+      assertThrows(IllegalStateException.class, () -> ConfigValues.longValue(properties, "big", null));
+      assertThrows(IllegalStateException.class, () -> ConfigValues.doubleValue(properties, "ratio", null));
+   }
+
+   @Test
+   void rejectsMalformedNumbers() {
+      assertThrows(NumberFormatException.class,
+            () -> ConfigValues.integer(properties("count", "many"), "count", null));
+   }
+
+   @Test
+   void splitsArraysOnCommasAndTrims() {
+      Properties properties = properties("tags", "smoke, regression ,api", "blank", " ");
+
+      assertArrayEquals(new String[] {"smoke", "regression", "api"}, ConfigValues.strings(properties, "tags", null));
+      assertArrayEquals(new String[0], ConfigValues.strings(properties, "blank", null));
+      assertArrayEquals(new String[] {"a", "b"}, ConfigValues.strings(properties, "unset", "a,b"));
+      assertNull(ConfigValues.strings(properties, "unset", null));
+   }
+
+   @Test
+   void convertsEnums() {
+      Properties properties = properties("unit", " SECONDS ", "blank", "", "wrong", "FORTNIGHTS");
+
+      assertEquals(TimeUnit.SECONDS, ConfigValues.enumValue(properties, "unit", null, TimeUnit.class));
+      assertEquals(TimeUnit.MINUTES, ConfigValues.enumValue(properties, "unset", "MINUTES", TimeUnit.class));
+      assertNull(ConfigValues.enumValue(properties, "blank", null, TimeUnit.class));
+      assertNull(ConfigValues.enumValue(properties, "unset", null, TimeUnit.class));
+      assertThrows(IllegalArgumentException.class,
+            () -> ConfigValues.enumValue(properties, "wrong", null, TimeUnit.class));
+   }
+
+   private static Properties properties(final String... keysAndValues) {
+      Properties properties = new Properties();
+      for (int i = 0; i < keysAndValues.length; i += 2) {
+         properties.setProperty(keysAndValues[i], keysAndValues[i + 1]);
+      }
+      return properties;
+   }
+
+}
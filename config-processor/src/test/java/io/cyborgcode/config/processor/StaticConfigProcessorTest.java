@@ -0,0 +1,293 @@
+package io.cyborgcode.config.processor;
+
+import io.cyborgcode.config.ConfigLoader;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StaticConfigProcessorTest {
+
+   private static final String DIR_PROPERTY = "static.config.test.dir";
+
+   /**
+    * The Owner annotations the processor reads by name.
+    */
+   private static final String OWNER = """
+         package org.aeonbits.owner;
+
+         import java.lang.annotation.Retention;
+         import java.lang.annotation.RetentionPolicy;
+
+         public interface Config {
+            @Retention(RetentionPolicy.RUNTIME) @interface Key { String value(); }
+            @Retention(RetentionPolicy.RUNTIME) @interface DefaultValue { String value(); }
+            @Retention(RetentionPolicy.RUNTIME) @interface Sources { String[] value(); }
+            @Retention(RetentionPolicy.RUNTIME) @interface LoadPolicy { LoadType value(); }
+            enum LoadType { FIRST, MERGE }
+         }
+         """;
+
+   private Path dir;
+
+   @BeforeEach
+   void createSources() throws IOException {
+      dir = Files.createTempDirectory("static-config");
+      Files.writeString(dir.resolve("high.properties"), """
+            name=high
+            threads=8
+            host=example.org
+            url=https://${host}/api
+            tags=smoke, api
+            unit=SECONDS
+            """);
+      Files.writeString(dir.resolve("low.properties"), """
+            name=low
+            ratio=0.5
+            limit=5000000000
+            enabled=true
+            """);
+      System.setProperty(DIR_PROPERTY, dir.toString());
+   }
+
+   @AfterEach
+   void deleteSources() throws IOException {
+      System.clearProperty(DIR_PROPERTY);
+      try (Stream<Path> files = Files.walk(dir)) {
+         for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+            Files.delete(file);
+         }
+      }
+   }
+
+   @Test
+   void mergeCombinesSourcesWithEarlierOnesWinning() throws Exception {
+      Object config = instance(compile(config("MERGE", """
+            String name();
+            double ratio();
+            """)));
+
+      assertEquals("high", call(config, "name"));
+      assertEquals(0.5, call(config, "ratio"));
+   }
+
+   @Test
+   void firstUsesOnlyTheFirstExistingSource() throws Exception {
+      Object config = instance(compile(config("FIRST", """
+            String name();
+            @Config.DefaultValue("none")
+            String ratio();
+            """)));
+
+      assertEquals("high", call(config, "name"));
+      assertEquals("none", call(config, "ratio"));
+   }
+
+   @Test
+   void convertsEverySupportedType() throws Exception {
+      Object config = instance(compile(config("MERGE", """
+            @Config.Key("threads")
+            int threadCount();
+            Integer threads();
+            long limit();
+            boolean enabled();
+            @Config.DefaultValue("false")
+            Boolean disabled();
+            String[] tags();
+            java.util.concurrent.TimeUnit unit();
+            @Config.DefaultValue("MINUTES")
+            java.util.concurrent.TimeUnit fallbackUnit();
+            """)));
+
+      assertEquals(8, call(config, "threadCount"));
+      assertEquals(8, call(config, "threads"));
+      assertEquals(5_000_000_000L, call(config, "limit"));
+      assertEquals(true, call(config, "enabled"));
+      assertEquals(false, call(config, "disabled"));
+      assertArrayEquals(new String[] {"smoke", "api"}, (String[]) call(config, "tags"));
+      assertEquals(TimeUnit.SECONDS, call(config, "unit"));
+      assertEquals(TimeUnit.MINUTES, call(config, "fallbackUnit"));
+   }
+
+   @Test
+   void arraysAreCopiedOnEveryRead() throws Exception {
+      Object config = instance(compile(config("MERGE", """
+            String[] tags();
+            String[] missing();
+            """)));
+
+      String[] tags = (String[]) call(config, "tags");
+      tags[0] = "changed";
+
+      assertEquals("smoke", ((String[]) call(config, "tags"))[0]);
+      assertNull(call(config, "missing"));
+   }
+
+   @Test
+   void expandsPlaceholdersInValuesAndDefaults() throws Exception {
+      Object config = instance(compile(config("MERGE", """
+            String url();
+            @Config.DefaultValue("${host}:8080")
+            String endpoint();
+            """)));
+
+      assertEquals("https://example.org/api", call(config, "url"));
+      assertEquals("example.org:8080", call(config, "endpoint"));
+   }
+
+   @Test
+   void missingPrimitivesFailWhenTheClassIsLoaded() throws Exception {
+      Path classes = compile(config("MERGE", """
+            int retries();
+            """));
+
+      Throwable cause = assertThrows(ExceptionInInitializerError.class, () -> instance(classes)).getCause();
+      assertInstanceOf(IllegalStateException.class, cause);
+      assertTrue(cause.getMessage().contains("retries"));
+   }
+
+   @Test
+   void rejectsUnsupportedTypes() {
+      List<String> errors = errors(config("MERGE", """
+            java.util.List<String> hosts();
+            """));
+
+      assertEquals(1, errors.size());
+      assertTrue(errors.get(0).contains("Unsupported @StaticConfig property type java.util.List<java.lang.String>"));
+   }
+
+   @Test
+   void rejectsGettersWithParameters() {
+      List<String> errors = errors(config("MERGE", """
+            String name(String fallback);
+            """));
+
+      assertEquals(List.of("@StaticConfig getters must not take parameters"), errors);
+   }
+
+   @Test
+   void rejectsClasses() {
+      List<String> errors = errors("""
+            package sample;
+
+            @io.cyborgcode.config.StaticConfig
+            public class SampleProperties {
+            }
+            """);
+
+      assertEquals(List.of("@StaticConfig is only supported on interfaces"), errors);
+   }
+
+   private static String config(final String loadPolicy, final String getters) {
+      return """
+            package sample;
+
+            import org.aeonbits.owner.Config;
+
+            @io.cyborgcode.config.StaticConfig
+            @Config.LoadPolicy(Config.LoadType.%s)
+            @Config.Sources({"file:${%s}/missing.properties", "file:${%s}/high.properties",
+                  "file:${%s}/low.properties"})
+            public interface SampleProperties {
+            %s
+            }
+            """.formatted(loadPolicy, DIR_PROPERTY, DIR_PROPERTY, DIR_PROPERTY, getters);
+   }
+
+   private Path compile(final String config) throws IOException {
+      Path classes = Files.createTempDirectory(dir, "classes");
+      DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+      assertTrue(run(config, classes, diagnostics), () -> diagnostics.getDiagnostics().toString());
+      return classes;
+   }
+
+   private List<String> errors(final String config) {
+      DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+      try {
+         assertFalse(run(config, Files.createTempDirectory(dir, "classes"), diagnostics));
+      } catch (IOException e) {
+         throw new IllegalStateException(e);
+      }
+      List<String> errors = new ArrayList<>();
+      for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+         if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+            errors.add(diagnostic.getMessage(Locale.ROOT));
+         }
+      }
+      return errors;
+   }
+
+   private static boolean run(final String config, final Path classes,
+                              final DiagnosticCollector<JavaFileObject> diagnostics) {
+      JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+      JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics,
+            List.of("-d", classes.toString(), "-classpath", runtimeClasses()), null,
+            List.of(new Source("org/aeonbits/owner/Config", OWNER), new Source("sample/SampleProperties", config)));
+      task.setProcessors(List.of(new StaticConfigProcessor()));
+      return task.call();
+   }
+
+   /**
+    * Where {@code ConfigLoader} and {@code ConfigValues}, which generated classes call, were loaded from.
+    */
+   private static String runtimeClasses() {
+      try {
+         return Path.of(ConfigLoader.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+      } catch (URISyntaxException e) {
+         throw new IllegalStateException(e);
+      }
+   }
+
+   private static Object instance(final Path classes) throws Exception {
+      URLClassLoader loader = new URLClassLoader(new URL[] {classes.toUri().toURL()},
+            StaticConfigProcessorTest.class.getClassLoader());
+      return loader.loadClass("sample.ImmutableSampleProperties").getMethod("instance").invoke(null);
+   }
+
+   private static Object call(final Object config, final String getter) throws Exception {
+      return config.getClass().getMethod(getter).invoke(config);
+   }
+
+   private static final class Source extends SimpleJavaFileObject {
+
+      private final String code;
+
+      private Source(final String path, final String code) {
+         super(URI.create("string:///" + path + Kind.SOURCE.extension), Kind.SOURCE);
+         this.code = code;
+      }
+
+      @Override
+      public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+         return code;
+      }
+
+   }
+
+}
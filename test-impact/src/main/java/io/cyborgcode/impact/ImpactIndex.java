@@ -0,0 +1,103 @@
+package io.cyborgcode.impact;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Mapping from test methods to the tracked enum constants they reference, directly or through
+ * helper code.
+ * <p>
+ * Stored as a tab-separated text file so it can be diffed and inspected by hand:
+ * </p>
+ * <pre>
+ * constant  &lt;Enum.CONSTANT&gt;  &lt;source file&gt;  &lt;first line&gt;  &lt;last line&gt;
+ * test      &lt;class&gt;#&lt;method&gt;  &lt;source file&gt;  &lt;Enum.CONSTANT,...&gt;
+ * </pre>
+ * Constant names are qualified by their enum's fully qualified name; source files are relative
+ * to the repository root.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public record ImpactIndex(Map<String, ConstantLocation> constants, Map<String, TestEntry> tests) {
+
+   private static final String CONSTANT = "constant";
+   private static final String TEST = "test";
+
+   public void write(final Path file) {
+      List<String> lines = new ArrayList<>();
+      constants.forEach((name, location) -> lines.add(String.join("\t", CONSTANT, name, location.file(),
+            String.valueOf(location.firstLine()), String.valueOf(location.lastLine()))));
+      tests.forEach((name, test) -> lines.add(String.join("\t", TEST, name, test.file(),
+            String.join(",", test.constants()))));
+      try {
+         if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+         }
+         Files.write(file, lines, StandardCharsets.UTF_8);
+      } catch (IOException e) {
+         throw new UncheckedIOException("Could not write impact index " + file, e);
+      }
+   }
+
+   public static ImpactIndex read(final Path file) {
+      Map<String, ConstantLocation> constants = new TreeMap<>();
+      Map<String, TestEntry> tests = new TreeMap<>();
+      try {
+         for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            String[] columns = line.split("\t", -1);
+            if (CONSTANT.equals(columns[0])) {
+               constants.put(columns[1], new ConstantLocation(columns[2],
+                     Integer.parseInt(columns[3]), Integer.parseInt(columns[4])));
+            } else if (TEST.equals(columns[0])) {
+               Set<String> referenced = columns[3].isEmpty()
+                     ? new TreeSet<>()
+                     : new TreeSet<>(Arrays.asList(columns[3].split(",")));
+               tests.put(columns[1], new TestEntry(columns[2], referenced));
+            }
+         }
+      } catch (IOException e) {
+         throw new UncheckedIOException("Could not read impact index " + file, e);
+      }
+      return new ImpactIndex(constants, tests);
+   }
+
+   /**
+    * Returns the tests referencing any of the given constants.
+    *
+    * @param changedConstants qualified constant names
+    * @return {@code class#method} names, sorted
+    */
+   public Set<String> testsReferencing(final Set<String> changedConstants) {
+      Set<String> selected = new LinkedHashSet<>();
+      tests.forEach((name, test) -> {
+         if (test.constants().stream().anyMatch(changedConstants::contains)) {
+            selected.add(name);
+         }
+      });
+      return selected;
+   }
+
+   /**
+    * Where a tracked constant is declared, including its initializer arguments.
+    */
+   public record ConstantLocation(String file, int firstLine, int lastLine) {
+   }
+
+   /**
+    * A test method, the file declaring it, and every tracked constant it reaches.
+    */
+   public record TestEntry(String file, Set<String> constants) {
+   }
+
+}
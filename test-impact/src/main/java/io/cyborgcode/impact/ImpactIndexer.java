@@ -0,0 +1,812 @@
+package io.cyborgcode.impact;
+
+import com.sun.source.tree.ArrayTypeTree;
+import com.sun.source.tree.BlockTree;
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.IdentifierTree;
+import com.sun.source.tree.ImportTree;
+import com.sun.source.tree.LiteralTree;
+import com.sun.source.tree.MemberReferenceTree;
+import com.sun.source.tree.MemberSelectTree;
+import com.sun.source.tree.MethodInvocationTree;
+import com.sun.source.tree.MethodTree;
+import com.sun.source.tree.NewArrayTree;
+import com.sun.source.tree.NewClassTree;
+import com.sun.source.tree.ParameterizedTypeTree;
+import com.sun.source.tree.ParenthesizedTree;
+import com.sun.source.tree.PrimitiveTypeTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.tree.TypeCastTree;
+import com.sun.source.tree.VariableTree;
+import com.sun.source.tree.WildcardTree;
+import com.sun.source.util.JavacTask;
+import com.sun.source.util.SourcePositions;
+import com.sun.source.util.TreeScanner;
+import com.sun.source.util.Trees;
+import io.cyborgcode.impact.ImpactIndex.ConstantLocation;
+import io.cyborgcode.impact.ImpactIndex.TestEntry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+/**
+ * Builds an {@link ImpactIndex} from the sources of one or more Maven modules.
+ * <p>
+ * Sources are parsed, not compiled, so no classpath is needed. Within each module:
+ * </p>
+ * <ul>
+ *   <li>enum constants of enums implementing a tracked interface ({@code Endpoint},
+ *       {@code DbQuery}, {@code *Element} by default; override with the {@code impact.tracked}
+ *       regex) are the units of change,</li>
+ *   <li>every method, field and enum constant is a node; a node points to the members it
+ *       references by name, through static imports, qualified type names and method
+ *       references,</li>
+ *   <li>the {@code Data} string constants used in {@code @Journey}, {@code @Craft} and
+ *       {@code @Ripper} point to the enum constant of the same name in the enclosing enum, so
+ *       preconditions and data creators are followed to the endpoints they call,</li>
+ *   <li>calls point to the method of the receiver's declared type, resolved from field, local
+ *       variable and parameter declarations, {@code new} expressions, casts and the return
+ *       types of the module's own methods, and to its overrides in subtypes; a receiver of a
+ *       type outside the module, e.g. a JDK {@code InputStream}, only reaches the module's
+ *       implementations of that type, so {@code in.close()} adds no edge,</li>
+ *   <li>a call on a type outside the module that takes a {@code Class} of a module type, such
+ *       as {@code quest.use(RING)}, is taken to return that type,</li>
+ *   <li>calls whose receiver type cannot be resolved, e.g. on implicitly typed lambda
+ *       parameters, point to every method of that name in the module, so the index errs on
+ *       selecting too many tests rather than too few.</li>
+ * </ul>
+ * A test method's entry is every tracked constant reachable from it or from the lifecycle
+ * methods of its class.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class ImpactIndexer {
+
+   private static final Pattern TRACKED =
+         Pattern.compile(System.getProperty("impact.tracked", "Endpoint|DbQuery|\\w*Element"));
+   private static final Set<String> TEST_ANNOTATIONS =
+         Set.of("Test", "ParameterizedTest", "RepeatedTest", "TestFactory", "TestTemplate");
+   private static final Set<String> LIFECYCLE_ANNOTATIONS =
+         Set.of("BeforeEach", "BeforeAll", "AfterEach", "AfterAll");
+   private static final String CONSTRUCTOR = "<init>";
+   private static final String CLASS = "class";
+   private static final int MAX_INFERENCE_DEPTH = 8;
+
+   private final Path root;
+   private final Map<String, ConstantLocation> constants = new TreeMap<>();
+   private final Map<String, TestEntry> tests = new TreeMap<>();
+
+   private ImpactIndexer(final Path root) {
+      this.root = root;
+   }
+
+   /**
+    * Usage: {@code ImpactIndexer <index file> <module dir>...}
+    */
+   public static void main(final String[] args) {
+      if (args.length < 2) {
+         System.err.println("Usage: ImpactIndexer <index file> <module dir>...");
+         System.exit(2);
+      }
+      List<Path> modules = new ArrayList<>();
+      for (int i = 1; i < args.length; i++) {
+         modules.add(Path.of(args[i]));
+      }
+      ImpactIndex index = index(Path.of("").toAbsolutePath(), modules);
+      index.write(Path.of(args[0]));
+      System.out.println("Indexed " + index.tests().size() + " tests and " + index.constants().size()
+            + " tracked constants into " + args[0]);
+   }
+
+   /**
+    * Indexes the given modules.
+    *
+    * @param root    the repository root, which index paths are relative to
+    * @param modules the module directories, absolute or relative to the working directory
+    * @return the index
+    */
+   static ImpactIndex index(final Path root, final List<Path> modules) {
+      ImpactIndexer indexer = new ImpactIndexer(root.toAbsolutePath().normalize());
+      modules.forEach(indexer::indexModule);
+      return new ImpactIndex(indexer.constants, indexer.tests);
+   }
+
+   private void indexModule(final Path module) {
+      List<Path> mainSources = sources(module.resolve("src/main/java"));
+      List<Path> testSources = sources(module.resolve("src/test/java"));
+      List<Path> all = new ArrayList<>(mainSources);
+      all.addAll(testSources);
+      if (all.isEmpty()) {
+         return;
+      }
+      new ModuleIndex(all, Set.copyOf(testSources)).build();
+   }
+
+   private static List<Path> sources(final Path directory) {
+      if (!Files.isDirectory(directory)) {
+         return List.of();
+      }
+      try (Stream<Path> files = Files.walk(directory)) {
+         return files.filter(file -> file.toString().endsWith(".java"))
+               .map(file -> file.toAbsolutePath().normalize())
+               .sorted()
+               .toList();
+      } catch (IOException e) {
+         throw new UncheckedIOException("Could not list sources in " + directory, e);
+      }
+   }
+
+   private String relative(final CompilationUnitTree unit) {
+      return root.relativize(Path.of(unit.getSourceFile().toUri()).toAbsolutePath().normalize())
+            .toString().replace('\\', '/');
+   }
+
+   /**
+    * Declarations and reference graph of a single module.
+    */
+   private final class ModuleIndex {
+
+      private final List<Path> files;
+      private final Set<Path> testFiles;
+      private final Map<String, List<TypeInfo>> typesByName = new HashMap<>();
+      private final Map<String, Set<String>> methodOwners = new HashMap<>();
+      private final Map<String, Set<TypeInfo>> subtypes = new HashMap<>();
+      private final Map<String, Set<TypeInfo>> externalSubtypes = new HashMap<>();
+      private final Map<String, Set<String>> edges = new HashMap<>();
+      private final Map<String, String> trackedNodes = new HashMap<>();
+      private final List<TypeInfo> types = new ArrayList<>();
+      private SourcePositions positions;
+
+      private ModuleIndex(final List<Path> files, final Set<Path> testFiles) {
+         this.files = files;
+         this.testFiles = testFiles;
+      }
+
+      private void build() {
+         JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+         try (StandardJavaFileManager fileManager =
+                    compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            JavacTask task = (JavacTask) compiler.getTask(null, fileManager, diagnostic -> {
+            }, List.of("-proc:none"), null, fileManager.getJavaFileObjectsFromPaths(files));
+            positions = Trees.instance(task).getSourcePositions();
+            for (CompilationUnitTree unit : task.parse()) {
+               boolean test = testFiles.contains(Path.of(unit.getSourceFile().toUri()));
+               for (Tree declaration : unit.getTypeDecls()) {
+                  if (declaration instanceof ClassTree type) {
+                     declare(unit, type, null, test);
+                  }
+               }
+            }
+         } catch (IOException e) {
+            throw new UncheckedIOException("Could not parse module sources", e);
+         }
+         types.forEach(this::linkSupertypes);
+         types.forEach(this::linkDataConstants);
+         types.forEach(this::scanMembers);
+         types.stream().filter(TypeInfo::test).forEach(this::collectTests);
+      }
+
+      private void declare(final CompilationUnitTree unit, final ClassTree tree, final TypeInfo outer,
+                           final boolean test) {
+         String name = tree.getSimpleName().toString();
+         String packageName = unit.getPackageName() == null ? "" : unit.getPackageName().toString();
+         String fqn = outer != null ? outer.fqn() + "." + name : packageName.isEmpty() ? name : packageName + "." + name;
+         String path = outer != null ? outer.path() + "." + name : name;
+         boolean isEnum = tree.getKind() == Tree.Kind.ENUM;
+         boolean tracked = isEnum && tree.getImplementsClause().stream()
+               .anyMatch(type -> TRACKED.matcher(simpleName(type)).matches());
+         TypeInfo type = new TypeInfo(fqn, path, outer, unit, tree, isEnum, test, new HashSet<>(), new HashSet<>(),
+               new HashMap<>(), new HashMap<>());
+         types.add(type);
+         typesByName.computeIfAbsent(name, key -> new ArrayList<>()).add(type);
+         if (!path.equals(name)) {
+            typesByName.computeIfAbsent(path, key -> new ArrayList<>()).add(type);
+         }
+         typesByName.computeIfAbsent(fqn, key -> new ArrayList<>()).add(type);
+
+         for (Tree member : tree.getMembers()) {
+            if (member instanceof ClassTree nested) {
+               declare(unit, nested, type, test);
+            } else if (member instanceof MethodTree method) {
+               String methodName = methodName(method);
+               type.members().add(methodName);
+               if (method.getReturnType() != null) {
+                  type.returnTypes().computeIfAbsent(methodName, key -> new ArrayList<>()).add(method.getReturnType());
+               }
+               methodOwners.computeIfAbsent(methodName, key -> new HashSet<>()).add(fqn);
+            } else if (member instanceof VariableTree variable) {
+               String fieldName = variable.getName().toString();
+               type.members().add(fieldName);
+               type.fields().put(fieldName, variable);
+               if (isEnumConstant(type, variable)) {
+                  type.constants().add(fieldName);
+                  if (tracked) {
+                     String qualified = fqn + "." + fieldName;
+                     trackedNodes.put(node(fqn, fieldName), qualified);
+                     constants.put(qualified, new ConstantLocation(relative(unit),
+                           line(unit, positions.getStartPosition(unit, variable)),
+                           line(unit, positions.getEndPosition(unit, variable))));
+                  }
+               }
+            }
+         }
+      }
+
+      private void linkSupertypes(final TypeInfo type) {
+         for (Tree supertype : supertypes(type)) {
+            List<TypeInfo> parents = repoTypes(type, simpleName(supertype));
+            if (parents.isEmpty()) {
+               externalSubtypes.computeIfAbsent(simpleName(supertype), key -> new HashSet<>()).add(type);
+            }
+            parents.forEach(parent -> subtypes.computeIfAbsent(parent.fqn(), key -> new HashSet<>()).add(type));
+         }
+      }
+
+      /**
+       * {@code Preconditions.Data.CREATE_NEW_USER} names {@code Preconditions.CREATE_NEW_USER}.
+       */
+      private void linkDataConstants(final TypeInfo type) {
+         TypeInfo outer = type.outer();
+         if (outer == null || !outer.isEnum()) {
+            return;
+         }
+         for (String member : type.members()) {
+            if (outer.constants().contains(member)) {
+               edge(node(type.fqn(), member), node(outer.fqn(), member));
+            }
+         }
+      }
+
+      private void scanMembers(final TypeInfo type) {
+         for (Tree member : type.tree().getMembers()) {
+            if (member instanceof MethodTree method) {
+               scan(type, node(type.fqn(), methodName(method)), method);
+            } else if (member instanceof VariableTree variable) {
+               scan(type, node(type.fqn(), variable.getName().toString()), variable);
+            } else if (member instanceof BlockTree block) {
+               scan(type, node(type.fqn(), CONSTRUCTOR), block);
+            }
+         }
+      }
+
+      private void scan(final TypeInfo type, final String from, final Tree tree) {
+         Scope scope = new Scope(type, locals(tree));
+         new TreeScanner<Void, Void>() {
+
+            @Override
+            public Void visitClass(final ClassTree nested, final Void unused) {
+               return nested.getSimpleName().isEmpty() ? super.visitClass(nested, unused) : null;
+            }
+
+            @Override
+            public Void visitIdentifier(final IdentifierTree identifier, final Void unused) {
+               String name = identifier.getName().toString();
+               if (!scope.locals().containsKey(name)) {
+                  resolveMember(type, name, false).forEach(to -> edge(from, to));
+               }
+               return null;
+            }
+
+            @Override
+            public Void visitMemberSelect(final MemberSelectTree select, final Void unused) {
+               String member = select.getIdentifier().toString();
+               for (TypeInfo owner : typesNamed(select.getExpression().toString())) {
+                  if (owner.members().contains(member)) {
+                     edge(from, node(owner.fqn(), member));
+                  }
+               }
+               return super.visitMemberSelect(select, unused);
+            }
+
+            @Override
+            public Void visitMethodInvocation(final MethodInvocationTree invocation, final Void unused) {
+               ExpressionTree select = invocation.getMethodSelect();
+               if (select instanceof IdentifierTree identifier) {
+                  resolveMember(type, identifier.getName().toString(), true).forEach(to -> edge(from, to));
+               } else if (select instanceof MemberSelectTree member) {
+                  String method = member.getIdentifier().toString();
+                  callTargets(scope, member.getExpression(), method).forEach(to -> edge(from, to));
+                  scan(member.getExpression(), unused);
+               }
+               return scan(invocation.getArguments(), unused);
+            }
+
+            @Override
+            public Void visitMemberReference(final MemberReferenceTree reference, final Void unused) {
+               String method = reference.getMode() == MemberReferenceTree.ReferenceMode.NEW
+                     ? CONSTRUCTOR
+                     : reference.getName().toString();
+               callTargets(scope, reference.getQualifierExpression(), method).forEach(to -> edge(from, to));
+               return super.visitMemberReference(reference, unused);
+            }
+
+            @Override
+            public Void visitNewClass(final NewClassTree newClass, final Void unused) {
+               for (TypeInfo created : typesNamed(simpleName(newClass.getIdentifier()))) {
+                  edge(from, node(created.fqn(), CONSTRUCTOR));
+               }
+               return super.visitNewClass(newClass, unused);
+            }
+
+         }.scan(tree, null);
+      }
+
+      private Set<String> callTargets(final Scope scope, final ExpressionTree receiver, final String method) {
+         String receiverText = receiver.toString();
+         if ("this".equals(receiverText) || "super".equals(receiverText)) {
+            return resolveMember(scope.type(), method, true);
+         }
+         return targets(typeOf(scope, receiver, 0), method);
+      }
+
+      private Set<String> targets(final ExprType receiver, final String method) {
+         Set<String> targets = new LinkedHashSet<>();
+         switch (receiver.kind()) {
+            case REPO -> receiver.types().forEach(owner -> targets.addAll(dispatch(owner, method)));
+            case EXTERNAL -> externalSubtypes.getOrDefault(receiver.name(), Set.of())
+                  .forEach(implementor -> targets.addAll(dispatch(implementor, method)));
+            default -> methodOwners.getOrDefault(method, Set.of()).forEach(owner -> targets.add(node(owner, method)));
+         }
+         return targets;
+      }
+
+      /**
+       * The declaration a call on {@code type} binds to, plus its overrides in subtypes.
+       */
+      private Set<String> dispatch(final TypeInfo type, final String method) {
+         Set<String> targets = new LinkedHashSet<>();
+         TypeInfo owner = findInHierarchy(type, method, new HashSet<>());
+         if (owner != null) {
+            targets.add(node(owner.fqn(), method));
+         }
+         Set<String> declaring = methodOwners.getOrDefault(method, Set.of());
+         for (TypeInfo subtype : allSubtypes(type)) {
+            if (declaring.contains(subtype.fqn())) {
+               targets.add(node(subtype.fqn(), method));
+            }
+         }
+         return targets;
+      }
+
+      private Set<TypeInfo> allSubtypes(final TypeInfo type) {
+         Set<TypeInfo> found = new LinkedHashSet<>();
+         Deque<TypeInfo> pending = new ArrayDeque<>(subtypes.getOrDefault(type.fqn(), Set.of()));
+         while (!pending.isEmpty()) {
+            TypeInfo subtype = pending.pop();
+            if (found.add(subtype)) {
+               pending.addAll(subtypes.getOrDefault(subtype.fqn(), Set.of()));
+            }
+         }
+         return found;
+      }
+
+      /**
+       * Infers the static type of an expression as far as declarations in the module allow.
+       */
+      private ExprType typeOf(final Scope scope, final ExpressionTree expression, final int depth) {
+         if (depth > MAX_INFERENCE_DEPTH) {
+            return ExprType.UNKNOWN;
+         }
+         if (expression instanceof ParenthesizedTree parenthesized) {
+            return typeOf(scope, parenthesized.getExpression(), depth + 1);
+         }
+         if (expression instanceof TypeCastTree cast) {
+            return typeOfDeclared(scope.type(), cast.getType());
+         }
+         if (expression instanceof NewClassTree newClass) {
+            return typeOfDeclared(scope.type(), newClass.getIdentifier());
+         }
+         if (expression instanceof LiteralTree || expression instanceof NewArrayTree) {
+            return ExprType.external("", List.of());
+         }
+         if (expression instanceof IdentifierTree identifier) {
+            return typeOfName(scope, identifier.getName().toString(), depth);
+         }
+         if (expression instanceof MemberSelectTree select) {
+            return typeOfSelect(scope, select, depth);
+         }
+         if (expression instanceof MethodInvocationTree invocation) {
+            return typeOfCall(scope, invocation, depth);
+         }
+         return ExprType.UNKNOWN;
+      }
+
+      private ExprType typeOfName(final Scope scope, final String name, final int depth) {
+         if (scope.locals().containsKey(name)) {
+            VariableTree local = scope.locals().get(name);
+            return local == null ? ExprType.UNKNOWN : typeOfVariable(scope, local, depth);
+         }
+         for (TypeInfo enclosing = scope.type(); enclosing != null; enclosing = enclosing.outer()) {
+            TypeInfo owner = findInHierarchy(enclosing, name, new HashSet<>());
+            if (owner != null && owner.fields().containsKey(name)) {
+               return typeOfVariable(new Scope(owner, Map.of()), owner.fields().get(name), depth);
+            }
+         }
+         for (TypeInfo owner : staticImportOwners(scope.type(), name)) {
+            if (owner.fields().containsKey(name)) {
+               return typeOfVariable(new Scope(owner, Map.of()), owner.fields().get(name), depth);
+            }
+         }
+         List<TypeInfo> named = repoTypes(scope.type(), name);
+         if (!named.isEmpty()) {
+            return ExprType.repo(named);
+         }
+         return Character.isUpperCase(name.charAt(0)) ? ExprType.external(name, List.of()) : ExprType.UNKNOWN;
+      }
+
+      private ExprType typeOfSelect(final Scope scope, final MemberSelectTree select, final int depth) {
+         String text = select.toString();
+         List<TypeInfo> named = typesNamed(text);
+         if (!named.isEmpty()) {
+            return ExprType.repo(named);
+         }
+         String member = select.getIdentifier().toString();
+         if (CLASS.equals(member)) {
+            return ExprType.external("Class", typeOfDeclared(scope.type(), select.getExpression()).types());
+         }
+         ExprType target = typeOf(scope, select.getExpression(), depth + 1);
+         if (target.kind() == Kind.REPO) {
+            for (TypeInfo type : target.types()) {
+               TypeInfo owner = findInHierarchy(type, member, new HashSet<>());
+               if (owner != null && owner.fields().containsKey(member)) {
+                  return typeOfVariable(new Scope(owner, Map.of()), owner.fields().get(member), depth);
+               }
+            }
+            return ExprType.UNKNOWN;
+         }
+         if (target.kind() == Kind.EXTERNAL) {
+            return ExprType.external(Character.isUpperCase(member.charAt(0)) ? member : "", List.of());
+         }
+         return ExprType.UNKNOWN;
+      }
+
+      private ExprType typeOfCall(final Scope scope, final MethodInvocationTree invocation, final int depth) {
+         ExpressionTree select = invocation.getMethodSelect();
+         ExprType receiver;
+         String method;
+         Set<String> targets;
+         if (select instanceof MemberSelectTree member) {
+            method = member.getIdentifier().toString();
+            String receiverText = member.getExpression().toString();
+            receiver = "this".equals(receiverText) || "super".equals(receiverText)
+                  ? ExprType.repo(List.of(scope.type()))
+                  : typeOf(scope, member.getExpression(), depth + 1);
+            targets = "this".equals(receiverText) || "super".equals(receiverText)
+                  ? resolveMember(scope.type(), method, true)
+                  : targets(receiver, method);
+         } else if (select instanceof IdentifierTree identifier) {
+            method = identifier.getName().toString();
+            receiver = ExprType.UNKNOWN;
+            targets = resolveMember(scope.type(), method, true);
+         } else {
+            return ExprType.UNKNOWN;
+         }
+         if (!targets.isEmpty()) {
+            return returnType(targets);
+         }
+         for (ExpressionTree argument : invocation.getArguments()) {
+            ExprType argumentType = typeOf(scope, argument, depth + 1);
+            if ("Class".equals(argumentType.name()) && !argumentType.types().isEmpty()) {
+               return ExprType.repo(argumentType.types());
+            }
+         }
+         if (receiver.kind() == Kind.REPO) {
+            // inherited from a type outside the module; fluent calls return the receiver
+            return receiver;
+         }
+         if (receiver.kind() == Kind.EXTERNAL) {
+            return receiver.types().isEmpty() ? ExprType.external("", List.of()) : ExprType.repo(receiver.types());
+         }
+         return ExprType.UNKNOWN;
+      }
+
+      private ExprType returnType(final Set<String> targets) {
+         List<TypeInfo> repo = new ArrayList<>();
+         boolean unknown = false;
+         for (String target : targets) {
+            String fqn = target.substring(0, target.indexOf('#'));
+            String method = target.substring(target.indexOf('#') + 1);
+            for (TypeInfo owner : typesNamed(fqn)) {
+               for (Tree returned : owner.returnTypes().getOrDefault(method, List.of())) {
+                  ExprType type = typeOfDeclared(owner, returned);
+                  if (type.kind() == Kind.REPO) {
+                     repo.addAll(type.types());
+                  } else if (type.kind() == Kind.UNKNOWN) {
+                     unknown = true;
+                  }
+               }
+            }
+         }
+         if (!repo.isEmpty()) {
+            return ExprType.repo(repo);
+         }
+         return unknown ? ExprType.UNKNOWN : ExprType.external("", List.of());
+      }
+
+      private ExprType typeOfVariable(final Scope scope, final VariableTree variable, final int depth) {
+         Tree declared = variable.getType();
+         if (declared == null || "var".equals(declared.toString())) {
+            return variable.getInitializer() == null
+                  ? ExprType.UNKNOWN
+                  : typeOf(scope, variable.getInitializer(), depth + 1);
+         }
+         return typeOfDeclared(scope.type(), declared);
+      }
+
+      /**
+       * The type named by a declaration; type arguments that are module types are kept, so
+       * e.g. {@code list.get(0)} of a {@code List<User>} is taken to be a {@code User}.
+       */
+      private ExprType typeOfDeclared(final TypeInfo context, final Tree declared) {
+         if (declared instanceof PrimitiveTypeTree || declared instanceof ArrayTypeTree) {
+            return ExprType.external("", List.of());
+         }
+         if (declared instanceof WildcardTree wildcard) {
+            return wildcard.getBound() == null ? ExprType.UNKNOWN : typeOfDeclared(context, wildcard.getBound());
+         }
+         List<TypeInfo> arguments = new ArrayList<>();
+         if (declared instanceof ParameterizedTypeTree parameterized) {
+            for (Tree argument : parameterized.getTypeArguments()) {
+               arguments.addAll(typeOfDeclared(context, argument).types());
+            }
+         }
+         String name = simpleName(declared);
+         List<TypeInfo> named = typesNamed(declared.toString());
+         if (named.isEmpty()) {
+            named = repoTypes(context, name);
+         }
+         return named.isEmpty() ? ExprType.external(name, arguments) : ExprType.repo(named);
+      }
+
+      /**
+       * Module types a simple name refers to in the file of {@code context}: an explicit import
+       * of a type outside the module shadows module types of the same simple name.
+       */
+      private List<TypeInfo> repoTypes(final TypeInfo context, final String name) {
+         for (ImportTree importTree : context.unit().getImports()) {
+            if (importTree.isStatic()) {
+               continue;
+            }
+            MemberSelectTree qualified = (MemberSelectTree) importTree.getQualifiedIdentifier();
+            if (qualified.getIdentifier().contentEquals(name)) {
+               return typesNamed(qualified.toString());
+            }
+         }
+         return typesNamed(name);
+      }
+
+      private List<TypeInfo> staticImportOwners(final TypeInfo type, final String name) {
+         List<TypeInfo> owners = new ArrayList<>();
+         for (ImportTree importTree : type.unit().getImports()) {
+            if (!importTree.isStatic()) {
+               continue;
+            }
+            MemberSelectTree qualified = (MemberSelectTree) importTree.getQualifiedIdentifier();
+            String importedName = qualified.getIdentifier().toString();
+            if (importedName.equals(name) || "*".equals(importedName)) {
+               for (TypeInfo owner : typesNamed(qualified.getExpression().toString())) {
+                  if (owner.members().contains(name)) {
+                     owners.add(owner);
+                  }
+               }
+            }
+         }
+         return owners;
+      }
+
+      /**
+       * Resolves a simple name through the enclosing types, their supertypes and the static
+       * imports of the file. A method found in none of them is inherited from a type outside
+       * the module, so only its overrides in subtypes of the enclosing types are linked.
+       */
+      private Set<String> resolveMember(final TypeInfo type, final String name, final boolean method) {
+         for (TypeInfo enclosing = type; enclosing != null; enclosing = enclosing.outer()) {
+            TypeInfo owner = findInHierarchy(enclosing, name, new HashSet<>());
+            if (owner != null) {
+               return Set.of(node(owner.fqn(), name));
+            }
+         }
+         Set<String> imported = new LinkedHashSet<>();
+         staticImportOwners(type, name).forEach(owner -> imported.add(node(owner.fqn(), name)));
+         if (imported.isEmpty() && method) {
+            for (TypeInfo enclosing = type; enclosing != null; enclosing = enclosing.outer()) {
+               imported.addAll(dispatch(enclosing, name));
+            }
+         }
+         return imported;
+      }
+
+      private TypeInfo findInHierarchy(final TypeInfo type, final String name, final Set<String> visited) {
+         if (!visited.add(type.fqn())) {
+            return null;
+         }
+         if (type.members().contains(name)) {
+            return type;
+         }
+         for (Tree supertype : supertypes(type)) {
+            for (TypeInfo parent : typesNamed(simpleName(supertype))) {
+               TypeInfo owner = findInHierarchy(parent, name, visited);
+               if (owner != null) {
+                  return owner;
+               }
+            }
+         }
+         return null;
+      }
+
+      private List<TypeInfo> typesNamed(final String name) {
+         return typesByName.getOrDefault(name, List.of());
+      }
+
+      private void collectTests(final TypeInfo type) {
+         List<String> lifecycle = new ArrayList<>();
+         List<MethodTree> testMethods = new ArrayList<>();
+         for (Tree member : type.tree().getMembers()) {
+            if (member instanceof MethodTree method) {
+               Set<String> annotations = annotations(method);
+               if (annotations.stream().anyMatch(TEST_ANNOTATIONS::contains)) {
+                  testMethods.add(method);
+               } else if (annotations.stream().anyMatch(LIFECYCLE_ANNOTATIONS::contains)) {
+                  lifecycle.add(node(type.fqn(), methodName(method)));
+               }
+            }
+         }
+         for (MethodTree method : testMethods) {
+            String start = node(type.fqn(), methodName(method));
+            Set<String> roots = new LinkedHashSet<>(lifecycle);
+            roots.add(start);
+            tests.put(type.fqn() + "#" + method.getName(), new TestEntry(relative(type.unit()), reachable(roots)));
+         }
+      }
+
+      private Set<String> reachable(final Set<String> roots) {
+         Set<String> visited = new HashSet<>();
+         Set<String> reached = new TreeSet<>();
+         Deque<String> pending = new ArrayDeque<>(roots);
+         while (!pending.isEmpty()) {
+            String current = pending.pop();
+            if (!visited.add(current)) {
+               continue;
+            }
+            String tracked = trackedNodes.get(current);
+            if (tracked != null) {
+               reached.add(tracked);
+            }
+            pending.addAll(edges.getOrDefault(current, Set.of()));
+         }
+         return reached;
+      }
+
+      private void edge(final String from, final String to) {
+         if (!from.equals(to)) {
+            edges.computeIfAbsent(from, key -> new LinkedHashSet<>()).add(to);
+         }
+      }
+
+   }
+
+   private static List<Tree> supertypes(final TypeInfo type) {
+      List<Tree> supertypes = new ArrayList<>(type.tree().getImplementsClause());
+      if (type.tree().getExtendsClause() != null) {
+         supertypes.add(type.tree().getExtendsClause());
+      }
+      return supertypes;
+   }
+
+   /**
+    * Parameters and local variables declared anywhere in a member, outside named nested
+    * classes; a name declared twice with different types maps to {@code null}.
+    */
+   private static Map<String, VariableTree> locals(final Tree member) {
+      Map<String, VariableTree> locals = new HashMap<>();
+      new TreeScanner<Void, Void>() {
+
+         @Override
+         public Void visitClass(final ClassTree nested, final Void unused) {
+            return nested.getSimpleName().isEmpty() ? super.visitClass(nested, unused) : null;
+         }
+
+         @Override
+         public Void visitVariable(final VariableTree variable, final Void unused) {
+            if (variable != member) {
+               String name = variable.getName().toString();
+               VariableTree previous = locals.get(name);
+               boolean conflicting = locals.containsKey(name) && (previous == null
+                     || !String.valueOf(previous.getType()).equals(String.valueOf(variable.getType())));
+               locals.put(name, conflicting ? null : variable);
+            }
+            return super.visitVariable(variable, unused);
+         }
+
+      }.scan(member, null);
+      return locals;
+   }
+
+   private static Set<String> annotations(final MethodTree method) {
+      Set<String> names = new HashSet<>();
+      method.getModifiers().getAnnotations()
+            .forEach(annotation -> names.add(simpleName(annotation.getAnnotationType())));
+      return names;
+   }
+
+   private static boolean isEnumConstant(final TypeInfo type, final VariableTree variable) {
+      return type.isEnum()
+            && variable.getInitializer() instanceof NewClassTree
+            && variable.getType() != null
+            && variable.getType().toString().equals(type.tree().getSimpleName().toString());
+   }
+
+   private static String methodName(final MethodTree method) {
+      return method.getName().toString();
+   }
+
+   private static String simpleName(final Tree type) {
+      Tree raw = type instanceof ParameterizedTypeTree parameterized ? parameterized.getType() : type;
+      String name = raw.toString();
+      return name.substring(name.lastIndexOf('.') + 1);
+   }
+
+   private static String node(final String fqn, final String member) {
+      return fqn + "#" + member;
+   }
+
+   private static int line(final CompilationUnitTree unit, final long position) {
+      return (int) unit.getLineMap().getLineNumber(position);
+   }
+
+   private record TypeInfo(String fqn, String path, TypeInfo outer, CompilationUnitTree unit, ClassTree tree,
+                           boolean isEnum, boolean test, Set<String> members, Set<String> constants,
+                           Map<String, VariableTree> fields, Map<String, List<Tree>> returnTypes) {
+   }
+
+   /**
+    * The member being scanned: its type and its parameters and local variables.
+    */
+   private record Scope(TypeInfo type, Map<String, VariableTree> locals) {
+   }
+
+   private enum Kind {
+      REPO,
+      EXTERNAL,
+      UNKNOWN
+   }
+
+   /**
+    * An inferred expression type: module types, a type outside the module (by simple name,
+    * with the module types among its type arguments), or unknown.
+    */
+   private record ExprType(Kind kind, String name, List<TypeInfo> types) {
+
+      private static final ExprType UNKNOWN = new ExprType(Kind.UNKNOWN, "", List.of());
+
+      private static ExprType repo(final List<TypeInfo> types) {
+         return new ExprType(Kind.REPO, "", List.copyOf(new LinkedHashSet<>(types)));
+      }
+
+      private static ExprType external(final String name, final List<TypeInfo> typeArguments) {
+         return new ExprType(Kind.EXTERNAL, name, List.copyOf(new LinkedHashSet<>(typeArguments)));
+      }
+
+   }
+
+}
@@ -0,0 +1,189 @@
+package io.cyborgcode.impact;
+
+import io.cyborgcode.impact.ImpactIndex.ConstantLocation;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Selects the tests affected by the changes since a base revision, using an
+ * {@link ImpactIndex}.
+ * <p>
+ * Each changed file of {@code git diff -U0 <base>...HEAD}, i.e. the commits of the branch
+ * since its merge base with {@code <base>}, is classified:
+ * </p>
+ * <ul>
+ *   <li>lines inside a tracked constant's declaration select the tests referencing that
+ *       constant; other lines of a tracked enum select the tests referencing any of its
+ *       constants,</li>
+ *   <li>a changed test class selects all of its tests,</li>
+ *   <li>a renamed file counts as a change of both its old and its new path,</li>
+ *   <li>any other change under {@code src/} (helpers, rings, resources, build files) cannot be
+ *       attributed precisely and selects the full suite,</li>
+ *   <li>changes outside {@code src/}, e.g. documentation, select nothing.</li>
+ * </ul>
+ * The result is printed as a Surefire {@code -Dtest} value, as {@code ALL}, or as an empty line.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class ImpactSelector {
+
+   static final String ALL = "ALL";
+
+   private static final Pattern FILE_HEADER = Pattern.compile("^\\+\\+\\+ (?:b/)?(.+)$");
+   private static final Pattern OLD_FILE_HEADER = Pattern.compile("^--- (?:a/)?(.+)$");
+   private static final Pattern RENAME = Pattern.compile("^rename (?:from|to) (.+)$");
+   private static final Pattern HUNK = Pattern.compile("^@@ -\\d+(?:,\\d+)? \\+(\\d+)(?:,(\\d+))? @@");
+   private static final String DEV_NULL = "/dev/null";
+
+   private ImpactSelector() {
+   }
+
+   /**
+    * Usage: {@code ImpactSelector <index file> <base revision>}
+    */
+   public static void main(final String[] args) {
+      if (args.length != 2) {
+         System.err.println("Usage: ImpactSelector <index file> <base revision>");
+         System.exit(2);
+      }
+      ImpactIndex index = ImpactIndex.read(Path.of(args[0]));
+      System.out.println(select(index, changedLines(gitDiff(args[1]))));
+   }
+
+   /**
+    * Computes the selection for a set of changed lines.
+    *
+    * @param index   the impact index
+    * @param changes changed line numbers (of the new revision) per repository-relative file
+    * @return a Surefire {@code -Dtest} value, {@link #ALL}, or an empty string
+    */
+   static String select(final ImpactIndex index, final Map<String, Set<Integer>> changes) {
+      Map<String, Map<String, ConstantLocation>> constantsByFile = new LinkedHashMap<>();
+      index.constants().forEach((name, location) ->
+            constantsByFile.computeIfAbsent(location.file(), file -> new LinkedHashMap<>()).put(name, location));
+      Set<String> testFiles = new TreeSet<>();
+      index.tests().values().forEach(test -> testFiles.add(test.file()));
+
+      Set<String> changedConstants = new LinkedHashSet<>();
+      Set<String> selected = new TreeSet<>();
+      for (Map.Entry<String, Set<Integer>> change : changes.entrySet()) {
+         String file = change.getKey();
+         Map<String, ConstantLocation> declared = constantsByFile.get(file);
+         if (declared != null) {
+            changedConstants.addAll(constantsAt(declared, change.getValue()));
+         } else if (testFiles.contains(file)) {
+            index.tests().forEach((name, test) -> {
+               if (test.file().equals(file)) {
+                  selected.add(name);
+               }
+            });
+         } else if (file.contains("src/") || file.endsWith("pom.xml")) {
+            return ALL;
+         }
+      }
+      selected.addAll(index.testsReferencing(changedConstants));
+      return surefireFilter(selected);
+   }
+
+   private static Set<String> constantsAt(final Map<String, ConstantLocation> declared, final Set<Integer> lines) {
+      Set<String> hit = new LinkedHashSet<>();
+      for (int line : lines) {
+         boolean inside = false;
+         for (Map.Entry<String, ConstantLocation> constant : declared.entrySet()) {
+            if (line >= constant.getValue().firstLine() && line <= constant.getValue().lastLine()) {
+               hit.add(constant.getKey());
+               inside = true;
+            }
+         }
+         if (!inside) {
+            return declared.keySet();
+         }
+      }
+      return hit;
+   }
+
+   private static String surefireFilter(final Set<String> tests) {
+      Map<String, List<String>> methodsByClass = new TreeMap<>();
+      for (String test : tests) {
+         int separator = test.indexOf('#');
+         methodsByClass.computeIfAbsent(test.substring(0, separator), type -> new ArrayList<>())
+               .add(test.substring(separator + 1));
+      }
+      List<String> filters = new ArrayList<>();
+      methodsByClass.forEach((type, methods) -> filters.add(type + "#" + String.join("+", methods)));
+      return String.join(",", filters);
+   }
+
+   /**
+    * Parses unified diff output with zero context lines. Pure deletions are attributed to the
+    * line they were removed at; both paths of a renamed file count as changed, even when its
+    * content is unchanged and the diff has no hunks.
+    */
+   static Map<String, Set<Integer>> changedLines(final String diff) {
+      Map<String, Set<Integer>> changes = new LinkedHashMap<>();
+      String oldFile = null;
+      String file = null;
+      boolean inHeader = false;
+      for (String line : diff.split("\n")) {
+         if (line.startsWith("diff --git ")) {
+            inHeader = true;
+            continue;
+         }
+         Matcher rename = RENAME.matcher(line);
+         Matcher oldHeader = OLD_FILE_HEADER.matcher(line);
+         Matcher header = FILE_HEADER.matcher(line);
+         Matcher hunk = HUNK.matcher(line);
+         if (inHeader && rename.find()) {
+            changes.computeIfAbsent(rename.group(1), key -> new TreeSet<>());
+         } else if (inHeader && oldHeader.find()) {
+            oldFile = oldHeader.group(1);
+         } else if (inHeader && header.find()) {
+            file = DEV_NULL.equals(header.group(1)) ? oldFile : header.group(1);
+            changes.computeIfAbsent(file, key -> new TreeSet<>());
+         } else if (hunk.find() && file != null) {
+            inHeader = false;
+            int start = Integer.parseInt(hunk.group(1));
+            int count = hunk.group(2) == null ? 1 : Integer.parseInt(hunk.group(2));
+            Set<Integer> lines = changes.get(file);
+            if (count == 0) {
+               lines.add(Math.max(start, 1));
+            }
+            for (int i = 0; i < count; i++) {
+               lines.add(start + i);
+            }
+         }
+      }
+      return changes;
+   }
+
+   private static String gitDiff(final String base) {
+      try {
+         Process git = new ProcessBuilder("git", "diff", "-U0", "--no-color", base + "...HEAD")
+               .redirectError(ProcessBuilder.Redirect.INHERIT)
+               .start();
+         String output = new String(git.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+         if (git.waitFor() != 0) {
+            throw new IllegalStateException("git diff against the merge base with " + base + " failed");
+         }
+         return output;
+      } catch (IOException e) {
+         throw new UncheckedIOException("Could not run git diff", e);
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+         throw new IllegalStateException("Interrupted while running git diff", e);
+      }
+   }
+
+}
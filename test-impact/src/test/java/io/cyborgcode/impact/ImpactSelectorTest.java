@@ -0,0 +1,135 @@
+package io.cyborgcode.impact;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the selector against the sample module in {@code fixture/} and diffs taken against it in
+ * {@code diffs/}.
+ */
+class ImpactSelectorTest {
+
+   private static final String ENDPOINTS = "sample.api.AppEndpoints.";
+   private static final String CALLS = "sample.calls.";
+
+   private Path fixture;
+   private ImpactIndex index;
+
+   @BeforeEach
+   void indexFixture() throws URISyntaxException {
+      fixture = resource("fixture");
+      index = ImpactIndexer.index(fixture, List.of(fixture.resolve("app")));
+   }
+
+   @Test
+   void indexesTrackedConstantsWithTheirLines() {
+      assertEquals(Set.of(ENDPOINTS + "GET_USER", ENDPOINTS + "CREATE_USER", ENDPOINTS + "DELETE_USER"),
+            index.constants().keySet());
+      ImpactIndex.ConstantLocation getUser = index.constants().get(ENDPOINTS + "GET_USER");
+      assertEquals("app/src/main/java/sample/api/AppEndpoints.java", getUser.file());
+      assertEquals(5, getUser.firstLine());
+      assertEquals(6, getUser.lastLine());
+   }
+
+   @Test
+   void indexesConstantsReachedThroughHelpers() {
+      assertEquals(Set.of(ENDPOINTS + "GET_USER"), index.tests().get("sample.UsersTest#getsUser").constants());
+      assertEquals(Set.of(ENDPOINTS + "CREATE_USER"),
+            index.tests().get("sample.UsersTest#createsUser").constants());
+      assertEquals(Set.of(ENDPOINTS + "DELETE_USER"),
+            index.tests().get("sample.CleanupTest#deletesUser").constants());
+   }
+
+   @Test
+   void callsOnJdkTypesAddNoEdges() {
+      ImpactIndex calls = ImpactIndexer.index(fixture, List.of(fixture.resolve("calls")));
+
+      assertEquals(Set.of(), calls.tests().get(CALLS + "CallsTest#closesJdkResources").constants());
+      assertEquals(Set.of(), calls.tests().get(CALLS + "CallsTest#getsFromJdkTypes").constants());
+   }
+
+   @Test
+   void callsOnModuleTypesFollowTheReceiverType() {
+      ImpactIndex calls = ImpactIndexer.index(fixture, List.of(fixture.resolve("calls")));
+
+      assertEquals(Set.of(CALLS + "Endpoints.GET_ITEM"), calls.tests().get(CALLS + "CallsTest#getsItem").constants());
+      assertEquals(Set.of(CALLS + "Endpoints.CLOSE_SESSION"),
+            calls.tests().get(CALLS + "CallsTest#closesSession").constants());
+      assertEquals(Set.of(CALLS + "Endpoints.GET_ITEM"),
+            calls.tests().get(CALLS + "CallsTest#getsItemFromList").constants());
+   }
+
+   @Test
+   void constantEditSelectsOnlyTheTestsReferencingIt() throws Exception {
+      assertEquals("sample.UsersTest#getsUser", select("constant-edit"));
+   }
+
+   @Test
+   void constantDeletionSelectsTheNeighbourAndTheTestsThatStoppedUsingIt() throws Exception {
+      assertEquals("sample.CleanupTest#deletesUser,sample.UsersTest#createsUser", select("constant-deletion"));
+   }
+
+   @Test
+   void testFileEditSelectsEveryTestOfTheFile() throws Exception {
+      assertEquals("sample.UsersTest#createsUser+getsUser", select("test-edit"));
+   }
+
+   @Test
+   void renameSelectsTheFullSuite() throws Exception {
+      assertEquals(ImpactSelector.ALL, select("rename"));
+   }
+
+   @Test
+   void renameWithoutContentChangeSelectsTheFullSuite() throws Exception {
+      assertEquals(Map.of("app/src/test/java/sample/CleanupTest.java", Set.of(),
+                  "app/src/test/java/sample/CleanupTestMoved.java", Set.of()),
+            ImpactSelector.changedLines(diff("pure-rename")));
+      assertEquals(ImpactSelector.ALL, select("pure-rename"));
+   }
+
+   @Test
+   void changeOutsideSourcesSelectsNothing() throws Exception {
+      assertEquals("", select("non-src"));
+   }
+
+   @Test
+   void attributesPureDeletionsToTheLineTheyWereRemovedAt() throws Exception {
+      assertEquals(Map.of("app/src/main/java/sample/api/AppEndpoints.java", Set.of(7),
+                  "app/src/test/java/sample/CleanupTest.java", Set.of(10)),
+            ImpactSelector.changedLines(diff("constant-deletion")));
+   }
+
+   @Test
+   void indexSurvivesWriteAndRead() throws IOException {
+      Path file = Files.createTempFile("test-impact", ".tsv");
+      try {
+         index.write(file);
+         assertEquals(index, ImpactIndex.read(file));
+      } finally {
+         Files.delete(file);
+      }
+   }
+
+   private String select(final String diff) throws Exception {
+      return ImpactSelector.select(index, ImpactSelector.changedLines(diff(diff)));
+   }
+
+   private static String diff(final String name) throws Exception {
+      return Files.readString(resource("diffs/" + name + ".diff"), StandardCharsets.UTF_8);
+   }
+
+   private static Path resource(final String name) throws URISyntaxException {
+      return Path.of(ImpactSelectorTest.class.getClassLoader().getResource(name).toURI());
+   }
+
+}
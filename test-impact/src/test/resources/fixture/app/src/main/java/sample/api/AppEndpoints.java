@@ -0,0 +1,21 @@
+package sample.api;
+
+public enum AppEndpoints implements Endpoint {
+
+   GET_USER(
+         "/users/{id}"),
+   CREATE_USER("/users"),
+   DELETE_USER("/users/{id}");
+
+   private final String url;
+
+   AppEndpoints(final String url) {
+      this.url = url;
+   }
+
+   @Override
+   public String url() {
+      return url;
+   }
+
+}
@@ -0,0 +1,7 @@
+package sample.api;
+
+public interface Endpoint {
+
+   String url();
+
+}
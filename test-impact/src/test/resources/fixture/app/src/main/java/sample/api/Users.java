@@ -0,0 +1,14 @@
+package sample.api;
+
+import static sample.api.AppEndpoints.CREATE_USER;
+
+public final class Users {
+
+   private Users() {
+   }
+
+   public static String create() {
+      return CREATE_USER.url();
+   }
+
+}
@@ -0,0 +1,13 @@
+package sample;
+
+import org.junit.jupiter.api.Test;
+import sample.api.AppEndpoints;
+
+class CleanupTest {
+
+   @Test
+   void deletesUser() {
+      AppEndpoints.DELETE_USER.url();
+   }
+
+}
@@ -0,0 +1,20 @@
+package sample;
+
+import org.junit.jupiter.api.Test;
+import sample.api.Users;
+
+import static sample.api.AppEndpoints.GET_USER;
+
+class UsersTest {
+
+   @Test
+   void getsUser() {
+      GET_USER.url();
+   }
+
+   @Test
+   void createsUser() {
+      Users.create();
+   }
+
+}
@@ -0,0 +1,7 @@
+package sample.calls;
+
+public interface Endpoint {
+
+   String url();
+
+}
@@ -0,0 +1,19 @@
+package sample.calls;
+
+public enum Endpoints implements Endpoint {
+
+   GET_ITEM("/items/{id}"),
+   CLOSE_SESSION("/sessions/{id}");
+
+   private final String url;
+
+   Endpoints(final String url) {
+      this.url = url;
+   }
+
+   @Override
+   public String url() {
+      return url;
+   }
+
+}
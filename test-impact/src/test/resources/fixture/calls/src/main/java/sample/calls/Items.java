@@ -0,0 +1,9 @@
+package sample.calls;
+
+public final class Items {
+
+   public String get() {
+      return Endpoints.GET_ITEM.url();
+   }
+
+}
@@ -0,0 +1,13 @@
+package sample.calls;
+
+public final class Session {
+
+   public static Session open() {
+      return new Session();
+   }
+
+   public void close() {
+      Endpoints.CLOSE_SESSION.url();
+   }
+
+}
@@ -0,0 +1,51 @@
+package sample.calls;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class CallsTest {
+
+   private final Map<String, String> cache = Map.of();
+
+   @Test
+   void closesJdkResources() throws IOException {
+      InputStream in = InputStream.nullInputStream();
+      in.close();
+      try (var stream = InputStream.nullInputStream()) {
+         stream.close();
+      }
+   }
+
+   @Test
+   void getsFromJdkTypes() {
+      Supplier<String> supplier = () -> "item";
+      supplier.get();
+      cache.get("key");
+      Optional.of("item").get();
+      List.of("item").get(0);
+   }
+
+   @Test
+   void getsItem() {
+      Items items = new Items();
+      items.get();
+   }
+
+   @Test
+   void closesSession() {
+      var session = Session.open();
+      session.close();
+   }
+
+   @Test
+   void getsItemFromList() {
+      List<Items> items = List.of(new Items());
+      items.get(0).get();
+   }
+
+}
@@ -0,0 +1,151 @@
+package io.cyborgcode.sharding;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import org.w3c.dom.Element;
+import org.xml.sax.SAXException;
+
+/**
+ * Per-class test durations, kept across runs in a tab-separated file
+ * ({@code <class>\t<millis>\t<runs>}).
+ * <p>
+ * Durations are read from Surefire's {@code TEST-*.xml} reports and folded in with an
+ * exponential moving average, so one slow run does not dominate the estimate while a class
+ * that became slower for good catches up within a few runs.
+ * </p>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+final class DurationHistory {
+
+   private static final double SMOOTHING = 0.5;
+   private static final long UNKNOWN_FALLBACK_MILLIS = 1_000;
+
+   private final Map<String, Entry> entries;
+   private Long median;
+
+   private DurationHistory(final Map<String, Entry> entries) {
+      this.entries = entries;
+   }
+
+   static DurationHistory read(final Path file) {
+      Map<String, Entry> entries = new TreeMap<>();
+      if (!Files.exists(file)) {
+         return new DurationHistory(entries);
+      }
+      try {
+         for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            String[] columns = line.split("\t");
+            if (columns.length == 3) {
+               entries.put(columns[0], new Entry(Long.parseLong(columns[1]), Integer.parseInt(columns[2])));
+            }
+         }
+      } catch (IOException e) {
+         throw new UncheckedIOException("Could not read duration history " + file, e);
+      }
+      return new DurationHistory(entries);
+   }
+
+   void write(final Path file) {
+      List<String> lines = new ArrayList<>();
+      entries.forEach((type, entry) -> lines.add(type + "\t" + entry.millis() + "\t" + entry.runs()));
+      try {
+         Files.write(file, lines, StandardCharsets.UTF_8);
+      } catch (IOException e) {
+         throw new UncheckedIOException("Could not write duration history " + file, e);
+      }
+   }
+
+   /**
+    * Folds the durations of every Surefire report of the module into the history.
+    *
+    * @param module the module directory
+    * @return the number of test classes recorded
+    */
+   int record(final Path module) {
+      Path reports = module.resolve("target/surefire-reports");
+      if (!Files.isDirectory(reports)) {
+         return 0;
+      }
+      int recorded = 0;
+      try (Stream<Path> files = Files.list(reports)) {
+         for (Path report : files.filter(DurationHistory::isReport).toList()) {
+            Element suite = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                  .parse(report.toFile()).getDocumentElement();
+            String type = suite.getAttribute("name");
+            String time = suite.getAttribute("time");
+            if (!type.isEmpty() && !time.isEmpty()) {
+               update(type, Math.round(Double.parseDouble(time.replace(",", "")) * 1000));
+               recorded++;
+            }
+         }
+      } catch (IOException e) {
+         throw new UncheckedIOException("Could not read Surefire reports in " + reports, e);
+      } catch (ParserConfigurationException | SAXException e) {
+         throw new IllegalStateException("Malformed Surefire report in " + reports, e);
+      }
+      return recorded;
+   }
+
+   /**
+    * Returns the expected duration of a class. Classes never seen before are assumed to take
+    * as long as the median known class, so new classes are spread evenly rather than piled
+    * into one shard. The median is computed once and kept until the history changes.
+    *
+    * @param type the fully qualified class name
+    * @return the estimate in milliseconds
+    */
+   long estimate(final String type) {
+      Entry entry = entries.get(type);
+      return entry != null ? entry.millis() : median();
+   }
+
+   boolean knows(final String type) {
+      return entries.containsKey(type);
+   }
+
+   private long median() {
+      if (median == null) {
+         if (entries.isEmpty()) {
+            median = UNKNOWN_FALLBACK_MILLIS;
+         } else {
+            List<Long> durations = new ArrayList<>();
+            entries.values().forEach(entry -> durations.add(entry.millis()));
+            Collections.sort(durations);
+            median = durations.get(durations.size() / 2);
+         }
+      }
+      return median;
+   }
+
+   private void update(final String type, final long millis) {
+      median = null;
+      Entry previous = entries.get(type);
+      if (previous == null) {
+         entries.put(type, new Entry(millis, 1));
+      } else {
+         long smoothed = Math.round(SMOOTHING * millis + (1 - SMOOTHING) * previous.millis());
+         entries.put(type, new Entry(smoothed, previous.runs() + 1));
+      }
+   }
+
+   private static boolean isReport(final Path file) {
+      String name = file.getFileName().toString();
+      return name.startsWith("TEST-") && name.endsWith(".xml");
+   }
+
+   private record Entry(long millis, int runs) {
+   }
+
+}
@@ -0,0 +1,84 @@
+package io.cyborgcode.sharding;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Splits test classes into balanced shards with the longest-processing-time-first rule.
+ * <p>
+ * Classes are sorted by expected duration, longest first, and each one goes to the shard
+ * with the smallest total so far. The longest shard is then at most 4/3 of the optimum, and in
+ * practice within one short class of it. Ties are broken by class name and shard index, so
+ * every runner computes the same plan from the same history. A class listed twice is planned
+ * once.
+ * </p>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+final class ShardPlanner {
+
+   private ShardPlanner() {
+   }
+
+   static List<Shard> plan(final List<String> classes, final DurationHistory history, final int shards) {
+      if (shards < 1) {
+         throw new IllegalArgumentException("At least one shard is required");
+      }
+      List<Shard> plan = new ArrayList<>();
+      PriorityQueue<Shard> lightest = new PriorityQueue<>(
+            Comparator.comparingLong(Shard::millis).thenComparingInt(Shard::index));
+      for (int i = 0; i < shards; i++) {
+         Shard shard = new Shard(i);
+         plan.add(shard);
+         lightest.add(shard);
+      }
+      Map<String, Long> estimates = new HashMap<>();
+      classes.forEach(type -> estimates.put(type, history.estimate(type)));
+      List<String> ordered = new ArrayList<>(estimates.keySet());
+      ordered.sort(Comparator.comparingLong((String type) -> estimates.get(type)).reversed()
+            .thenComparing(Comparator.naturalOrder()));
+      for (String type : ordered) {
+         Shard shard = lightest.poll();
+         shard.add(type, estimates.get(type));
+         lightest.add(shard);
+      }
+      return plan;
+   }
+
+   /**
+    * One bucket of test classes and its expected total duration.
+    */
+   static final class Shard {
+
+      private final int index;
+      private final List<String> classes = new ArrayList<>();
+      private long millis;
+
+      private Shard(final int index) {
+         this.index = index;
+      }
+
+      int index() {
+         return index;
+      }
+
+      long millis() {
+         return millis;
+      }
+
+      List<String> classes() {
+         return classes;
+      }
+
+      private void add(final String type, final long estimate) {
+         classes.add(type);
+         millis += estimate;
+      }
+
+   }
+
+}
@@ -0,0 +1,103 @@
+package io.cyborgcode.sharding;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Command line entry point for duration-balanced test sharding.
+ * <ul>
+ *   <li>{@code record <history> <module>...} folds the latest Surefire report durations of
+ *       the modules into the history file,</li>
+ *   <li>{@code plan <history> <shards> <index> <module>...} prints the test classes of one
+ *       shard as a Surefire {@code -Dtest} value, and the whole plan to stderr. A shard without
+ *       classes prints {@value #EMPTY_SHARD}, a pattern no class matches, because an empty
+ *       {@code -Dtest} would run the whole suite.</li>
+ * </ul>
+ * Test classes are discovered from {@code src/test/java} using Surefire's default include
+ * patterns, so classes that have never run are sharded as well.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class Shards {
+
+   static final String EMPTY_SHARD = "NoTestClassInThisShard";
+
+   private static final Pattern TEST_CLASS = Pattern.compile("(Test.*|.*Test|.*Tests|.*TestCase)\\.java");
+
+   private Shards() {
+   }
+
+   public static void main(final String[] args) {
+      if (args.length >= 2 && "record".equals(args[0])) {
+         record(Path.of(args[1]), modules(args, 2));
+      } else if (args.length >= 5 && "plan".equals(args[0])) {
+         plan(Path.of(args[1]), Integer.parseInt(args[2]), Integer.parseInt(args[3]), modules(args, 4));
+      } else {
+         System.err.println("Usage: Shards record <history> <module>...");
+         System.err.println("       Shards plan <history> <shards> <index> <module>...");
+         System.exit(2);
+      }
+   }
+
+   private static void record(final Path historyFile, final List<Path> modules) {
+      DurationHistory history = DurationHistory.read(historyFile);
+      int recorded = 0;
+      for (Path module : modules) {
+         recorded += history.record(module);
+      }
+      history.write(historyFile);
+      System.err.println("Recorded " + recorded + " test class duration(s) into " + historyFile);
+   }
+
+   private static void plan(final Path historyFile, final int shards, final int index, final List<Path> modules) {
+      if (index < 0 || index >= shards) {
+         throw new IllegalArgumentException("Shard index must be between 0 and " + (shards - 1));
+      }
+      DurationHistory history = DurationHistory.read(historyFile);
+      List<String> classes = new ArrayList<>();
+      modules.forEach(module -> classes.addAll(testClasses(module.resolve("src/test/java"))));
+      List<ShardPlanner.Shard> plan = ShardPlanner.plan(classes, history, shards);
+      for (ShardPlanner.Shard shard : plan) {
+         long unseen = shard.classes().stream().filter(type -> !history.knows(type)).count();
+         System.err.printf("shard %d: %d classes, ~%.1f s (%d without history)%n",
+               shard.index(), shard.classes().size(), shard.millis() / 1000.0, unseen);
+      }
+      System.out.println(testFilter(plan.get(index)));
+   }
+
+   static String testFilter(final ShardPlanner.Shard shard) {
+      return shard.classes().isEmpty() ? EMPTY_SHARD : String.join(",", shard.classes());
+   }
+
+   private static List<String> testClasses(final Path sources) {
+      if (!Files.isDirectory(sources)) {
+         return List.of();
+      }
+      try (Stream<Path> files = Files.walk(sources)) {
+         return files.filter(file -> TEST_CLASS.matcher(file.getFileName().toString()).matches())
+               .map(file -> {
+                  String relative = sources.relativize(file).toString().replace('\\', '/');
+                  return relative.substring(0, relative.length() - ".java".length()).replace('/', '.');
+               })
+               .sorted()
+               .toList();
+      } catch (IOException e) {
+         throw new UncheckedIOException("Could not list test classes in " + sources, e);
+      }
+   }
+
+   private static List<Path> modules(final String[] args, final int from) {
+      List<Path> modules = new ArrayList<>();
+      for (int i = from; i < args.length; i++) {
+         modules.add(Path.of(args[i]));
+      }
+      return modules;
+   }
+
+}
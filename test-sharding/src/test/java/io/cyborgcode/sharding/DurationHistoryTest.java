@@ -0,0 +1,125 @@
+package io.cyborgcode.sharding;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DurationHistoryTest {
+
+   private Path dir;
+   private Path reports;
+
+   @BeforeEach
+   void createModule() throws IOException {
+      dir = Files.createTempDirectory("duration-history");
+      reports = Files.createDirectories(dir.resolve("module/target/surefire-reports"));
+   }
+
+   @AfterEach
+   void deleteModule() throws IOException {
+      try (Stream<Path> files = Files.walk(dir)) {
+         for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+            Files.delete(file);
+         }
+      }
+   }
+
+   @Test
+   void recordsTheSuiteTimeOfEverySurefireReport() throws IOException {
+      report("a.FastTest", "0.25");
+      report("a.SlowTest", "1,234.5");
+      Files.writeString(reports.resolve("a.FastTest.txt"), "not a report");
+      Files.writeString(reports.resolve("TEST-ignored.json"), "{}");
+      DurationHistory history = DurationHistory.read(dir.resolve("missing.tsv"));
+
+      assertEquals(2, history.record(dir.resolve("module")));
+      assertEquals(250, history.estimate("a.FastTest"));
+      assertEquals(1_234_500, history.estimate("a.SlowTest"));
+   }
+
+   @Test
+   void skipsReportsWithoutNameOrTime() throws IOException {
+      Files.writeString(reports.resolve("TEST-a.NoTimeTest.xml"), "<testsuite name=\"a.NoTimeTest\"/>");
+      DurationHistory history = DurationHistory.read(dir.resolve("missing.tsv"));
+
+      assertEquals(0, history.record(dir.resolve("module")));
+      assertFalse(history.knows("a.NoTimeTest"));
+   }
+
+   @Test
+   void rejectsMalformedReports() throws IOException {
+      Files.writeString(reports.resolve("TEST-a.BrokenTest.xml"), "<testsuite name=");
+      DurationHistory history = DurationHistory.read(dir.resolve("missing.tsv"));
+
+      assertThrows(IllegalStateException.class, () -> history.record(dir.resolve("module")));
+   }
+
+   @Test
+   void moduleWithoutReportsRecordsNothing() {
+      assertEquals(0, DurationHistory.read(dir.resolve("missing.tsv")).record(dir.resolve("other")));
+   }
+
+   @Test
+   void smoothsRepeatedRunsWithAMovingAverage() throws IOException {
+      Path file = dir.resolve("history.tsv");
+      Files.write(file, List.of("a.SlowTest\t1000\t3"));
+      report("a.SlowTest", "3.0");
+      DurationHistory history = DurationHistory.read(file);
+
+      history.record(dir.resolve("module"));
+      history.write(file);
+
+      assertEquals(List.of("a.SlowTest\t2000\t4"), Files.readAllLines(file));
+   }
+
+   @Test
+   void estimatesUnknownClassesWithTheMedian() throws IOException {
+      Path file = dir.resolve("history.tsv");
+      Files.write(file, List.of("a.ATest\t100\t1", "a.BTest\t900\t1", "a.CTest\t300\t1", "malformed line"));
+      DurationHistory history = DurationHistory.read(file);
+
+      assertTrue(history.knows("a.ATest"));
+      assertFalse(history.knows("a.NewTest"));
+      assertEquals(300, history.estimate("a.NewTest"));
+   }
+
+   @Test
+   void medianFollowsNewRecords() throws IOException {
+      Path file = dir.resolve("history.tsv");
+      Files.write(file, List.of("a.ATest\t100\t1"));
+      DurationHistory history = DurationHistory.read(file);
+      assertEquals(100, history.estimate("a.NewTest"));
+
+      report("a.BTest", "0.5");
+      report("a.CTest", "0.9");
+      history.record(dir.resolve("module"));
+
+      assertEquals(500, history.estimate("a.NewTest"));
+   }
+
+   @Test
+   void emptyHistoryEstimatesOneSecond() {
+      assertEquals(1_000, DurationHistory.read(dir.resolve("missing.tsv")).estimate("a.NewTest"));
+   }
+
+   private void report(final String type, final String seconds) throws IOException {
+      Files.writeString(reports.resolve("TEST-" + type + ".xml"), """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <testsuite name="%s" time="%s" tests="1" errors="0" skipped="0" failures="0">
+              <testcase name="runs" classname="%s" time="%s"/>
+            </testsuite>
+            """.formatted(type, seconds, type, seconds));
+   }
+
+}
@@ -0,0 +1,114 @@
+package io.cyborgcode.sharding;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShardPlannerTest {
+
+   @Test
+   void assignsLongestClassesFirstToTheLightestShard() throws IOException {
+      DurationHistory history = history("a.T7\t7", "a.T6\t6", "a.T5\t5", "a.T4\t4", "a.T3\t3", "a.T2\t2");
+
+      List<ShardPlanner.Shard> plan = ShardPlanner.plan(
+            List.of("a.T2", "a.T3", "a.T4", "a.T5", "a.T6", "a.T7"), history, 3);
+
+      assertEquals(List.of("a.T7", "a.T2"), plan.get(0).classes());
+      assertEquals(List.of("a.T6", "a.T3"), plan.get(1).classes());
+      assertEquals(List.of("a.T5", "a.T4"), plan.get(2).classes());
+      assertEquals(List.of(9L, 9L, 9L), plan.stream().map(ShardPlanner.Shard::millis).toList());
+   }
+
+   @Test
+   void staysWithinFourThirdsOfTheOptimum() throws IOException {
+      // the classic LPT worst case for two shards: optimum 6, LPT 7
+      DurationHistory history = history("a.A\t3", "a.B\t3", "a.C\t2", "a.D\t2", "a.E\t2");
+
+      List<ShardPlanner.Shard> plan = ShardPlanner.plan(List.of("a.A", "a.B", "a.C", "a.D", "a.E"), history, 2);
+
+      long longest = plan.stream().mapToLong(ShardPlanner.Shard::millis).max().orElseThrow();
+      assertEquals(7, longest);
+      assertTrue(longest * 3 <= 6 * 4);
+   }
+
+   @Test
+   void assignsEveryClassExactlyOnce() throws IOException {
+      DurationHistory history = history("a.A\t50", "a.B\t20");
+      List<String> classes = List.of("a.A", "a.B", "a.New1", "a.New2", "a.New3", "a.B");
+
+      List<ShardPlanner.Shard> plan = ShardPlanner.plan(classes, history, 4);
+
+      List<String> planned = new ArrayList<>();
+      plan.forEach(shard -> planned.addAll(shard.classes()));
+      assertEquals(List.of("a.A", "a.B", "a.New1", "a.New2", "a.New3"), planned.stream().sorted().toList());
+   }
+
+   @Test
+   void plansUnknownClassesAtTheMedian() throws IOException {
+      DurationHistory history = history("a.A\t100", "a.B\t300", "a.C\t900");
+
+      List<ShardPlanner.Shard> plan = ShardPlanner.plan(List.of("a.New"), history, 1);
+
+      assertEquals(300, plan.get(0).millis());
+   }
+
+   @Test
+   void breaksTiesByNameAndShardIndexSoEveryRunnerAgrees() throws IOException {
+      DurationHistory history = history();
+      List<String> classes = List.of("a.D", "a.B", "a.C", "a.A");
+
+      List<ShardPlanner.Shard> plan = ShardPlanner.plan(classes, history, 2);
+      List<ShardPlanner.Shard> reordered = ShardPlanner.plan(List.of("a.A", "a.C", "a.B", "a.D"), history, 2);
+
+      assertEquals(List.of("a.A", "a.C"), plan.get(0).classes());
+      assertEquals(List.of("a.B", "a.D"), plan.get(1).classes());
+      assertEquals(plan.get(0).classes(), reordered.get(0).classes());
+      assertEquals(plan.get(1).classes(), reordered.get(1).classes());
+   }
+
+   @Test
+   void leavesSurplusShardsEmptyAndPrintsAPatternMatchingNothingForThem() throws IOException {
+      List<ShardPlanner.Shard> plan = ShardPlanner.plan(List.of("a.A", "a.B"), history(), 3);
+
+      assertEquals("a.A", Shards.testFilter(plan.get(0)));
+      assertEquals("a.B", Shards.testFilter(plan.get(1)));
+      assertTrue(plan.get(2).classes().isEmpty());
+      assertEquals(Shards.EMPTY_SHARD, Shards.testFilter(plan.get(2)));
+   }
+
+   @Test
+   void joinsTheClassesOfAShardForSurefire() throws IOException {
+      List<ShardPlanner.Shard> plan = ShardPlanner.plan(List.of("a.A", "a.B"), history(), 1);
+
+      assertEquals("a.A,a.B", Shards.testFilter(plan.get(0)));
+   }
+
+   @Test
+   void requiresAtLeastOneShard() throws IOException {
+      DurationHistory history = history();
+
+      assertThrows(IllegalArgumentException.class, () -> ShardPlanner.plan(List.of("a.A"), history, 0));
+   }
+
+   private static DurationHistory history(final String... classesAndMillis) throws IOException {
+      Path file = Files.createTempFile("durations", ".tsv");
+      try {
+         List<String> lines = new ArrayList<>();
+         for (String entry : classesAndMillis) {
+            lines.add(entry + "\t1");
+         }
+         Files.write(file, lines);
+         return DurationHistory.read(file);
+      } finally {
+         Files.delete(file);
+      }
+   }
+
+}
@@ -0,0 +1,134 @@
+package io.cyborgcode.ui.complex.test.framework.data.creator;
+
+import io.cyborgcode.bulk.IdBlocks;
+import io.cyborgcode.bulk.IdRange;
+import io.cyborgcode.bulk.SeededRecords;
+import io.cyborgcode.ui.complex.test.framework.data.test_data.Data;
+import io.cyborgcode.ui.complex.test.framework.ui.model.Order;
+import io.cyborgcode.ui.complex.test.framework.ui.model.Seller;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Seeded, reproducible generator of unique {@link Order} and {@link Seller} instances for
+ * parallel and load runs.
+ *
+ * <p>Every record is a pure function of a seed and a numeric ID (see {@link SeededRecords}), so
+ * the same ID always yields the same object regardless of thread, order or parallelism, and
+ * different IDs never collide:
+ * <ul>
+ *   <li>{@link #orders(long, IdRange)} and {@link #sellers(long, IdRange)} stream a range lazily,
+ *   <li>{@link IdRange#partition(int, int)} splits an ID space into disjoint per-worker ranges,
+ *   <li>{@link #nextOrder()} and {@link #nextSeller()} hand every thread its own blocks of
+ *       {@value #BLOCK_SIZE} IDs from {@link #UNIQUE_IDS} and walk them, so concurrent tests never
+ *       share a record; {@link #nextOrder()} backs {@link DataCreator#UNIQUE_ORDER}.
+ * </ul>
+ *
+ * <p>Orders keep the location and product of the test data, so they remain valid for the order
+ * form's dropdowns; customer name, details and phone number vary. Seller usernames are email
+ * addresses that embed the ID, so they are unique as well.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class BulkData {
+
+   public static final int BLOCK_SIZE = 100;
+
+   /**
+    * IDs handed out by {@link #nextOrder()} and {@link #nextSeller()}; the first million are left out so that generated
+    * IDs never meet the fixed order IDs of {@link DataCreatorFunctions}.
+    */
+   public static final IdRange UNIQUE_IDS = new IdRange(1_000_000, Integer.MAX_VALUE);
+
+   private static final List<String> FIRST_NAMES = List.of("John", "Petar", "Anna", "Maria", "Ivan", "Elena",
+         "Marko", "Sofia", "David", "Nina", "Lucas", "Mia", "Noah", "Ava", "Liam", "Zoe");
+   private static final List<String> LAST_NAMES = List.of("Terry", "Petrov", "Novak", "Silva", "Horvat", "Kim",
+         "Jovanov", "Meyer", "Rossi", "Dimitrov", "Costa", "Berg", "Walsh", "Moreau", "Lind", "Ortiz");
+   private static final List<String> STREETS = List.of("Main", "Oak", "Pine", "Maple", "Cedar", "Lake", "Hill",
+         "Park");
+   private static final String PASSWORD_CHARACTERS =
+         "ABCDEFGHJKLMNPQRSTUVWXYZabcdefghijkmnopqrstuvwxyz23456789";
+   private static final int PASSWORD_LENGTH = 12;
+
+   private static final IdBlocks IDS = new IdBlocks(UNIQUE_IDS, BLOCK_SIZE);
+
+   private BulkData() {
+   }
+
+   /**
+    * Returns the order for an ID; the same seed and ID always produce an equal order.
+    *
+    * @param seed the generation seed
+    * @param id   the order ID
+    * @return the order
+    */
+   public static Order order(final long seed, final int id) {
+      SplittableRandom random = SeededRecords.random(seed, id);
+      return Order.builder()
+            .id(id)
+            .customerName(SeededRecords.pick(random, FIRST_NAMES) + " " + SeededRecords.pick(random, LAST_NAMES))
+            .customerDetails(random.nextInt(1, 200) + " " + SeededRecords.pick(random, STREETS)
+                  + " Street, ref " + id)
+            .phoneNumber(String.format(Locale.ROOT, "+1-%03d-%04d",
+                  random.nextInt(200, 1000), random.nextInt(10_000)))
+            .location(Data.testData().location())
+            .product(Data.testData().product())
+            .productCount(String.valueOf(random.nextInt(1, 6)))
+            .build();
+   }
+
+   /**
+    * Returns the seller for an ID; the same seed and ID always produce an equal seller.
+    *
+    * @param seed the generation seed
+    * @param id   the seller ID, part of the username so that usernames are unique
+    * @return the seller
+    */
+   public static Seller seller(final long seed, final int id) {
+      SplittableRandom random = SeededRecords.random(seed, id);
+      String name = SeededRecords.pick(random, FIRST_NAMES);
+      String surname = SeededRecords.pick(random, LAST_NAMES);
+      StringBuilder password = new StringBuilder(PASSWORD_LENGTH);
+      for (int i = 0; i < PASSWORD_LENGTH; i++) {
+         password.append(PASSWORD_CHARACTERS.charAt(random.nextInt(PASSWORD_CHARACTERS.length())));
+      }
+      return Seller.builder()
+            .name(name)
+            .surname(surname)
+            .username((name + "." + surname + "." + id + "@bulk.test").toLowerCase(Locale.ROOT))
+            .password(password.toString())
+            .build();
+   }
+
+   public static Stream<Order> orders(final long seed, final IdRange range) {
+      return IntStream.range(range.from(), range.to()).mapToObj(id -> order(seed, id));
+   }
+
+   public static Stream<Seller> sellers(final long seed, final IdRange range) {
+      return IntStream.range(range.from(), range.to()).mapToObj(id -> seller(seed, id));
+   }
+
+   /**
+    * Returns the next unused order of the current thread's ID block.
+    *
+    * @return an order no other thread of this JVM receives
+    * @throws IllegalStateException if every ID of {@link #UNIQUE_IDS} has been handed out
+    */
+   public static Order nextOrder() {
+      return order(SeededRecords.seed(), IDS.next());
+   }
+
+   /**
+    * Returns the next unused seller of the current thread's ID block.
+    *
+    * @return a seller no other thread of this JVM receives
+    * @throws IllegalStateException if every ID of {@link #UNIQUE_IDS} has been handed out
+    */
+   public static Seller nextSeller() {
+      return seller(SeededRecords.seed(), IDS.next());
+   }
+
+}
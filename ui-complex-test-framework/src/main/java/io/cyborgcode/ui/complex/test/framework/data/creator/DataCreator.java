@@ -25,13 +25,15 @@ public enum DataCreator implements DataForge<DataCreator> {
 
    SELLER(DataCreatorFunctions::createSeller),
    ORDER(DataCreatorFunctions::createOrder),
-   LATE_ORDER(DataCreatorFunctions::createLateOrder);
+   LATE_ORDER(DataCreatorFunctions::createLateOrder),
+   UNIQUE_ORDER(DataCreatorFunctions::createUniqueOrder);
 
    public static final class Data {
 
       public static final String SELLER = "SELLER";
       public static final String ORDER = "ORDER";
       public static final String LATE_ORDER = "LATE_ORDER";
+      public static final String UNIQUE_ORDER = "UNIQUE_ORDER";
 
       private Data() {
       }
@@ -50,6 +50,13 @@ public final class DataCreatorFunctions {
             .build();
    }
 
+   /**
+    * An order no other test of the run receives, generated reproducibly by {@link BulkData}.
+    */
+   public static Order createUniqueOrder() {
+      return BulkData.nextOrder();
+   }
+
    public static Order createLateOrder() {
       SuperQuest superQuest = QuestHolder.get();
       List<String> productList = superQuest.getStorage().get(DataExtractorFunctions
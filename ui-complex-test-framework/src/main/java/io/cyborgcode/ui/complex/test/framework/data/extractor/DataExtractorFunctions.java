@@ -1,7 +1,8 @@
 package io.cyborgcode.ui.complex.test.framework.data.extractor;
 
+import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.JsonPath;
-import com.jayway.jsonpath.PathNotFoundException;
+import com.jayway.jsonpath.Option;
 import io.cyborgcode.roa.framework.storage.DataExtractor;
 import io.cyborgcode.roa.framework.storage.DataExtractorImpl;
 import io.cyborgcode.roa.ui.components.interceptor.ApiResponse;
@@ -31,10 +32,15 @@ import java.util.regex.Pattern;
  */
 public class DataExtractorFunctions {
 
+   private static final Configuration LENIENT_JSON = Configuration.defaultConfiguration()
+         .addOptions(Option.SUPPRESS_EXCEPTIONS);
+   private static final Configuration MATCHED_PATHS = LENIENT_JSON.addOptions(Option.AS_PATH_LIST);
+
    private DataExtractorFunctions() {
    }
 
    public static <T> DataExtractor<T> responseBodyExtraction(String responsePrefix, String jsonPath, String jsonPrefix) {
+      JsonPath compiledPath = JsonPath.compile(jsonPath);
       return new DataExtractorImpl<>(
             StorageKeysUi.UI,
             StorageKeysUi.RESPONSES,
@@ -46,16 +52,18 @@ public class DataExtractorFunctions {
                      .toList();
 
                for (ApiResponse filteredResponse : filteredResponses) {
-                  String jsonBody = removeJsonPrefix(filteredResponse.getBody(), jsonPrefix);
-                  try {
-                     Object result = JsonPath.read(jsonBody, jsonPath);
-                     if (result instanceof List<?> list && list.isEmpty()) {
-                        continue;
-                     }
-                     return (T) result;
-                  } catch (PathNotFoundException ignored) {
-                     //cant extract body
+                  Object document = LENIENT_JSON.jsonProvider()
+                        .parse(removeJsonPrefix(filteredResponse.getBody(), jsonPrefix));
+                  // a missing path matches nothing instead of throwing; a present null value is returned as before
+                  List<String> matches = JsonPath.using(MATCHED_PATHS).parse(document).read(compiledPath);
+                  if (matches == null || matches.isEmpty()) {
+                     continue;
+                  }
+                  Object result = JsonPath.using(LENIENT_JSON).parse(document).read(compiledPath);
+                  if (result instanceof List<?> list && list.isEmpty()) {
+                     continue;
                   }
+                  return (T) result;
                }
                return null;
             }